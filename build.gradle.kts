@@ -38,10 +38,15 @@ dependencies {
 
     // DB
 	runtimeOnly("com.mysql:mysql-connector-j")
+	implementation("org.flywaydb:flyway-core")
+	implementation("org.flywaydb:flyway-mysql")
 	
 	// Redis
 	implementation("org.apache.commons:commons-pool2")
 
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
     // Test
     testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testImplementation("org.springframework.boot:spring-boot-testcontainers")
@@ -55,3 +60,21 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 	systemProperty("user.timezone", "UTC")
 }
+
+tasks.test {
+	useJUnitPlatform {
+		excludeTags("benchmark")
+	}
+}
+
+// 성능 측정용 테스트는 ./gradlew benchmark 로 별도 실행
+tasks.register<Test>("benchmark") {
+	description = "Runs Testcontainers-based benchmarks tagged with 'benchmark'."
+	group = "verification"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("benchmark")
+	}
+	shouldRunAfter(tasks.test)
+}
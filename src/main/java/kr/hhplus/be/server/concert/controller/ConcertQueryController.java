@@ -8,6 +8,7 @@ import kr.hhplus.be.server.concert.dto.ConcertRankingResponse;
 import kr.hhplus.be.server.concert.service.ConcertQueryService;
 import kr.hhplus.be.server.concert.service.ConcertRankingService;
 import kr.hhplus.be.server.queue.application.ReservationTokenService;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -44,7 +45,7 @@ public class ConcertQueryController {
         @RequestHeader("Queue-Token") String queueToken,
         @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
-        reservationTokenService.validateActive(queueToken);
+        reservationTokenService.validateActive(queueToken, ReservationToken.queueIdOf(date));
         return concertQueryService.getAvailableSeats(date).stream()
             .map(seat -> new AvailableSeatResponse(seat.getSeatNumber()))
             .toList();
@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.concert.controller;
+
+import kr.hhplus.be.server.concert.dto.SeatProvisioningRequest;
+import kr.hhplus.be.server.concert.dto.SeatProvisioningResponse;
+import kr.hhplus.be.server.concert.service.SeatProvisioningService;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 좌석 재고 준비 관리자 API
+ * 판매 전에 공연 날짜와 좌석을 일괄로 만듭니다. (같은 요청을 다시 보내도 빠진 좌석만 추가)
+ */
+@RestController
+@RequestMapping("/admin/concerts")
+public class SeatProvisioningController {
+    private final SeatProvisioningService seatProvisioningService;
+
+    public SeatProvisioningController(SeatProvisioningService seatProvisioningService) {
+        this.seatProvisioningService = seatProvisioningService;
+    }
+
+    @PostMapping("/dates/seats")
+    public SeatProvisioningResponse provision(@RequestBody SeatProvisioningRequest request) {
+        int created = request.getSeatCount() == null
+            ? seatProvisioningService.provision(request.getDates())
+            : seatProvisioningService.provision(request.getDates(), request.getSeatCount());
+        return new SeatProvisioningResponse(request.getDates(), created);
+    }
+}
@@ -18,6 +18,10 @@ public class ConcertDate {
     @Column(name = "concert_date", nullable = false, unique = true)
     private LocalDate concertDate;
 
+    // 준비된 좌석 수 (좌석 번호 1..seatCount, SeatProvisioningService 가 기록)
+    @Column(name = "seat_count", nullable = false)
+    private int seatCount;
+
     protected ConcertDate() {
     }
 
@@ -25,6 +29,11 @@ public class ConcertDate {
         this.concertDate = concertDate;
     }
 
+    public ConcertDate(LocalDate concertDate, int seatCount) {
+        this.concertDate = concertDate;
+        this.seatCount = seatCount;
+    }
+
     public Long getId() {
         return id;
     }
@@ -32,4 +41,8 @@ public class ConcertDate {
     public LocalDate getConcertDate() {
         return concertDate;
     }
+
+    public int getSeatCount() {
+        return seatCount;
+    }
 }
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.concert.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SeatProvisioningRequest {
+    private List<LocalDate> dates;
+    private Integer seatCount; // 없으면 concert.seat-provisioning.default-seat-count
+
+    public SeatProvisioningRequest() {
+    }
+
+    public SeatProvisioningRequest(List<LocalDate> dates, Integer seatCount) {
+        this.dates = dates;
+        this.seatCount = seatCount;
+    }
+
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public Integer getSeatCount() {
+        return seatCount;
+    }
+}
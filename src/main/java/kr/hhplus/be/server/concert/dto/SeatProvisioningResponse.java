@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.concert.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class SeatProvisioningResponse {
+    private final List<LocalDate> dates;
+    private final int seatsCreated;
+
+    public SeatProvisioningResponse(List<LocalDate> dates, int seatsCreated) {
+        this.dates = dates;
+        this.seatsCreated = seatsCreated;
+    }
+
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public int getSeatsCreated() {
+        return seatsCreated;
+    }
+}
@@ -0,0 +1,90 @@
+package kr.hhplus.be.server.concert.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import kr.hhplus.be.server.concert.domain.SeatStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 좌석 재고 일괄 생성
+ *
+ * Seat 의 ID 는 IDENTITY 라 Hibernate 가 INSERT 를 묶지 못하므로 JDBC 로 직접 씁니다.
+ * 좌석은 여러 행 INSERT 한 문장으로 chunkSize 개씩 넣고, (concert_date_id, seat_number) 유니크 키로
+ * 이미 있는 좌석은 건너뛰므로 같은 요청을 다시 실행해도 안전합니다.
+ */
+@Repository
+public class SeatProvisioningRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeatProvisioningRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 공연 날짜를 만들거나 좌석 수를 늘림 (이미 더 많은 좌석이 있으면 그대로 둠)
+     */
+    public void upsertDates(List<LocalDate> dates, int seatCount) {
+        jdbcTemplate.batchUpdate(
+            "insert into concert_date (concert_date, seat_count) values (?, ?) "
+                + "on duplicate key update seat_count = greatest(seat_count, values(seat_count))",
+            dates,
+            dates.size(),
+            (ps, date) -> {
+                ps.setDate(1, Date.valueOf(date));
+                ps.setInt(2, seatCount);
+            }
+        );
+    }
+
+    public Map<LocalDate, Long> findDateIds(List<LocalDate> dates) {
+        String placeholders = String.join(", ", Collections.nCopies(dates.size(), "?"));
+        Map<LocalDate, Long> ids = new HashMap<>();
+        jdbcTemplate.query(
+            "select id, concert_date from concert_date where concert_date in (" + placeholders + ")",
+            rs -> {
+                ids.put(rs.getDate("concert_date").toLocalDate(), rs.getLong("id"));
+            },
+            dates.stream().map(Date::valueOf).toArray()
+        );
+        return ids;
+    }
+
+    public Set<Integer> findSeatNumbers(long concertDateId) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "select seat_number from seat where concert_date_id = ?",
+            Integer.class,
+            concertDateId
+        ));
+    }
+
+    /**
+     * 좌석을 AVAILABLE 로 추가 (동시에 다른 요청이 먼저 만든 좌석은 건너뜀)
+     * @return 새로 만든 좌석 수
+     */
+    public int insertSeats(long concertDateId, List<Integer> seatNumbers, int chunkSize) {
+        int inserted = 0;
+        for (int from = 0; from < seatNumbers.size(); from += chunkSize) {
+            List<Integer> chunk = seatNumbers.subList(from, Math.min(from + chunkSize, seatNumbers.size()));
+            String values = String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?)"));
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (int number : chunk) {
+                args.add(concertDateId);
+                args.add(number);
+                args.add(SeatStatus.AVAILABLE.name());
+            }
+            inserted += jdbcTemplate.update(
+                "insert ignore into seat (concert_date_id, seat_number, status) values " + values,
+                args.toArray()
+            );
+        }
+        return inserted;
+    }
+}
@@ -2,12 +2,14 @@ package kr.hhplus.be.server.concert.repository;
 
 import jakarta.persistence.LockModeType;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.domain.SeatStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -26,4 +28,44 @@ public interface SeatRepository extends JpaRepository<Seat, Long> {
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select s from Seat s where s.id = :seatId")
     Optional<Seat> findForUpdateById(@Param("seatId") Long seatId);
+
+    @Query("select s from Seat s join fetch s.concertDate d where d.concertDate = :date order by s.seatNumber")
+    List<Seat> findAllByDate(@Param("date") LocalDate date);
+
+    @Query("select s.id from Seat s join s.concertDate d where d.concertDate = :date and s.seatNumber = :seatNumber")
+    Optional<Long> findIdByDateAndSeatNumber(
+        @Param("date") LocalDate date,
+        @Param("seatNumber") int seatNumber
+    );
+
+    /**
+     * 좌석이 비어 있거나 임시 배정이 만료된 경우에만 HOLD 로 바꾸는 조건부 UPDATE
+     * @param seatId 좌석 ID
+     * @param userId 임시 배정 사용자 ID
+     * @param expiresAt 임시 배정 만료 시각
+     * @param now 현재 시각 (이 시각 이전에 만료된 HOLD 는 빈 좌석으로 간주)
+     * @return 업데이트된 행 수 (1이면 선점 성공, 0이면 이미 배정된 좌석)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Seat s set s.status = kr.hhplus.be.server.concert.domain.SeatStatus.HELD, "
+        + "s.holdUserId = :userId, s.holdExpiresAt = :expiresAt "
+        + "where s.id = :seatId and (s.status = kr.hhplus.be.server.concert.domain.SeatStatus.AVAILABLE "
+        + "or (s.status = kr.hhplus.be.server.concert.domain.SeatStatus.HELD and s.holdExpiresAt <= :now))")
+    int holdIfAvailable(
+        @Param("seatId") Long seatId,
+        @Param("userId") String userId,
+        @Param("expiresAt") LocalDateTime expiresAt,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 임시 배정이 now 이전에 만료된 좌석만 한 번에 해제 (그 사이 다시 배정되거나 예약된 좌석은 제외)
+     * @return 해제된 좌석 수
+     */
+    @Modifying
+    @Query("update Seat s set s.status = kr.hhplus.be.server.concert.domain.SeatStatus.AVAILABLE, "
+        + "s.holdUserId = null, s.holdExpiresAt = null, s.reservedUserId = null "
+        + "where s.id in :seatIds and s.status = kr.hhplus.be.server.concert.domain.SeatStatus.HELD "
+        + "and s.holdExpiresAt < :now")
+    int releaseExpiredHolds(@Param("seatIds") List<Long> seatIds, @Param("now") LocalDateTime now);
 }
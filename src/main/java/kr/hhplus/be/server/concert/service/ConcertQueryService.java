@@ -2,7 +2,6 @@ package kr.hhplus.be.server.concert.service;
 
 import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.IntStream;
 import kr.hhplus.be.server.concert.domain.ConcertDate;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.domain.SeatStatus;
@@ -16,7 +15,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class ConcertQueryService {
-    private static final int MAX_SEAT_NUMBER = 50;
     private static final String CACHE_AVAILABLE_DATES = "availableDates";
     private static final String CACHE_AVAILABLE_SEATS = "availableSeats";
 
@@ -40,17 +38,10 @@ public class ConcertQueryService {
     @Cacheable(value = CACHE_AVAILABLE_SEATS, key = "#date.toString()")
     @Transactional(readOnly = true)
     public List<Seat> getAvailableSeats(LocalDate date) {
-        ConcertDate concertDate = concertDateRepository.findByConcertDate(date)
-            .orElseGet(() -> concertDateRepository.save(new ConcertDate(date)));
-
-        if (seatRepository.countByConcertDateId(concertDate.getId()) == 0) {
-            List<Seat> seats = IntStream.rangeClosed(1, MAX_SEAT_NUMBER)
-                .mapToObj(seatNumber -> Seat.available(concertDate, seatNumber))
-                .toList();
-            seatRepository.saveAll(seats);
-        }
-
-        return seatRepository.findByConcertDateIdAndStatus(concertDate.getId(), SeatStatus.AVAILABLE);
+        // 좌석 재고는 SeatProvisioningService 로 미리 준비하며, 조회 요청에서 만들지 않음
+        return concertDateRepository.findByConcertDate(date)
+            .map(concertDate -> seatRepository.findByConcertDateIdAndStatus(concertDate.getId(), SeatStatus.AVAILABLE))
+            .orElseGet(List::of);
     }
 
     /**
@@ -61,6 +52,14 @@ public class ConcertQueryService {
         // Cache eviction is handled by annotation
     }
 
+    /**
+     * Evict dates cache when concert dates are provisioned
+     */
+    @CacheEvict(value = CACHE_AVAILABLE_DATES, allEntries = true)
+    public void evictAvailableDatesCache() {
+        // Cache eviction is handled by annotation
+    }
+
     /**
      * Evict all caches periodically to ensure data freshness
      * Runs every 5 minutes
@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.concert.service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import kr.hhplus.be.server.concert.repository.SeatProvisioningRepository;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 공연 날짜별 좌석 재고를 미리 만드는 관리자용 서비스
+ *
+ * 조회/예약 요청은 좌석을 만들지 않으므로, 판매 전에 이 서비스로 날짜와 좌석을 준비해야 합니다.
+ * 날짜마다 별도 트랜잭션이라 중간에 실패해도 끝난 날짜는 유지되고, 다시 실행하면 빠진 좌석만 채웁니다.
+ * 새로 만든 좌석은 이미 적재된 좌석 재고(redis/actor 전략)에도 추가합니다.
+ */
+@Service
+public class SeatProvisioningService {
+    private static final Logger log = LoggerFactory.getLogger(SeatProvisioningService.class);
+
+    private final SeatProvisioningRepository seatProvisioningRepository;
+    private final ConcertQueryService concertQueryService;
+    private final SeatPort seatPort;
+    private final SeatInventoryPort seatInventory;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultSeatCount;
+    private final int chunkSize;
+
+    public SeatProvisioningService(
+        SeatProvisioningRepository seatProvisioningRepository,
+        ConcertQueryService concertQueryService,
+        SeatPort seatPort,
+        SeatInventoryPort seatInventory,
+        PlatformTransactionManager transactionManager,
+        @Value("${concert.seat-provisioning.default-seat-count:50}") int defaultSeatCount,
+        @Value("${concert.seat-provisioning.chunk-size:500}") int chunkSize
+    ) {
+        this.seatProvisioningRepository = seatProvisioningRepository;
+        this.concertQueryService = concertQueryService;
+        this.seatPort = seatPort;
+        this.seatInventory = seatInventory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultSeatCount = defaultSeatCount;
+        this.chunkSize = chunkSize;
+    }
+
+    public int provision(List<LocalDate> dates) {
+        return provision(dates, defaultSeatCount);
+    }
+
+    /**
+     * 날짜마다 좌석 번호 1..seatCount 를 준비합니다. (이미 있는 날짜/좌석은 건너뜀)
+     * @return 새로 만든 좌석 수
+     */
+    public int provision(List<LocalDate> dates, int seatCount) {
+        if (dates == null || dates.isEmpty()) {
+            throw new IllegalArgumentException("Concert dates must not be empty.");
+        }
+        if (seatCount < 1) {
+            throw new IllegalArgumentException("Seat count must be positive.");
+        }
+
+        List<LocalDate> distinctDates = dates.stream().distinct().sorted().toList();
+        transactionTemplate.executeWithoutResult(status -> seatProvisioningRepository.upsertDates(distinctDates, seatCount));
+        Map<LocalDate, Long> dateIds = seatProvisioningRepository.findDateIds(distinctDates);
+
+        int created = 0;
+        for (LocalDate date : distinctDates) {
+            long dateId = dateIds.get(date);
+            Set<Integer> existing = seatProvisioningRepository.findSeatNumbers(dateId);
+            List<Integer> missing = IntStream.rangeClosed(1, seatCount)
+                .filter(seatNumber -> !existing.contains(seatNumber))
+                .boxed()
+                .toList();
+            if (missing.isEmpty()) {
+                continue;
+            }
+            Integer inserted = transactionTemplate.execute(
+                status -> seatProvisioningRepository.insertSeats(dateId, missing, chunkSize)
+            );
+            created += inserted != null ? inserted : 0;
+            syncInventory(date, missing);
+            concertQueryService.evictAvailableSeatsCache(date);
+        }
+        concertQueryService.evictAvailableDatesCache();
+
+        log.info("Provisioned {} seats for {} concert dates (seat count {})", created, distinctDates.size(), seatCount);
+        return created;
+    }
+
+    // 이미 적재된 재고는 다시 적재하지 않으므로(replace=false) 추가된 좌석을 직접 반영
+    private void syncInventory(LocalDate date, List<Integer> addedSeatNumbers) {
+        Set<Integer> added = new HashSet<>(addedSeatNumbers);
+        try {
+            seatPort.loadAll(date).stream()
+                .filter(seat -> added.contains(seat.getSeatNumber()))
+                .forEach(seatInventory::sync);
+        } catch (RuntimeException e) {
+            log.warn("Failed to add {} provisioned seats of {} to seat inventory: {}",
+                added.size(), date, e.getMessage());
+        }
+    }
+}
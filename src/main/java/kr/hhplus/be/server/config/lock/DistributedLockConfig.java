@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.config.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.lock.adapter.metrics.InstrumentedDistributedLock;
+import kr.hhplus.be.server.lock.adapter.metrics.InstrumentedFencedLock;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.adapter.redis.FairDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.HybridDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.PubSubDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.SimpleDistributedLock;
+import kr.hhplus.be.server.lock.domain.DistributedLock;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class DistributedLockConfig {
+
+    @Bean
+    @Primary
+    public FencedLock fencedLock(
+        PubSubDistributedLock pubSubDistributedLock,
+        FairDistributedLock fairDistributedLock,
+        MeterRegistry meterRegistry,
+        LockMetrics lockMetrics,
+        @Value("${lock.strategy:pubsub}") String strategy,
+        @Value("${lock.local-queue.enabled:true}") boolean localQueueEnabled
+    ) {
+        // pubsub: 해제 알림을 받은 대기자가 경쟁, fair: Redis 대기 순번대로 획득
+        FencedLock redisLock = switch (strategy) {
+            case "pubsub" -> pubSubDistributedLock;
+            case "fair" -> fairDistributedLock;
+            default -> throw new IllegalStateException("Unknown lock.strategy: " + strategy);
+        };
+        // 같은 노드의 경쟁자는 JVM 안에서 먼저 줄을 세우고, 선두만 Redis 에 락을 요청
+        FencedLock lock = localQueueEnabled ? new HybridDistributedLock(redisLock, meterRegistry) : redisLock;
+        // 대기 시간, 실패, 점유 시간을 키 종류별로 기록 (lock.acquire, lock.hold ...)
+        return new InstrumentedFencedLock(lock, lockMetrics);
+    }
+
+    /**
+     * 대기열 승격 리더 선출용 락 (주기마다 한 노드만 승격)
+     */
+    @Bean
+    public DistributedLock leaderLock(SimpleDistributedLock simpleDistributedLock, LockMetrics lockMetrics) {
+        return new InstrumentedDistributedLock(simpleDistributedLock, lockMetrics);
+    }
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.config.reservation;
+
+import kr.hhplus.be.server.reservation.adapter.actor.SeatMapActorInventory;
+import kr.hhplus.be.server.reservation.adapter.redis.SeatInventoryRedisAdapter;
+import kr.hhplus.be.server.reservation.domain.SeatHoldStrategy;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class SeatInventoryConfig {
+
+    @Bean
+    @Primary
+    public SeatInventoryPort seatInventory(
+        SeatInventoryRedisAdapter seatInventoryRedisAdapter,
+        @Value("${reservation.seat-hold.strategy:lock}") String strategy,
+        @Value("${reservation.actor.threads:4}") int actorThreads
+    ) {
+        // actor: 날짜별 좌석 맵을 이 노드 메모리에서 단일 스레드로 변경, 그 외: Redis 재고 (redis 전략에서만 사용)
+        if (SeatHoldStrategy.from(strategy) == SeatHoldStrategy.ACTOR) {
+            return new SeatMapActorInventory(actorThreads);
+        }
+        return seatInventoryRedisAdapter;
+    }
+}
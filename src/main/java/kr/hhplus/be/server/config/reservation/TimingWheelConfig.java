@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.config.reservation;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.reservation.adapter.NoOpDeadlineTimers;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.adapter.redis.HoldExpiryRedisQueue;
+import kr.hhplus.be.server.reservation.adapter.wheel.TimingWheelDeadlineTimers;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.DeadlineTimers;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.reservation.scheduler.ExpiredHoldReleaser;
+import kr.hhplus.be.server.reservation.scheduler.HoldExpiryTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+public class TimingWheelConfig {
+
+    @Bean
+    public DeadlineTimers deadlineTimers(
+        ClockProvider clockProvider,
+        MeterRegistry meterRegistry,
+        @Value("${reservation.timing-wheel.enabled:false}") boolean enabled,
+        @Value("${reservation.timing-wheel.tick-ms:100}") long tickMs,
+        @Value("${reservation.timing-wheel.wheel-size:8192}") int wheelSize,
+        @Value("${reservation.timing-wheel.callback-threads:2}") int callbackThreads
+    ) {
+        if (!enabled) {
+            return new NoOpDeadlineTimers();
+        }
+        DeadlineTimers timers = new TimingWheelDeadlineTimers(clockProvider, tickMs, wheelSize, callbackThreads);
+        Gauge.builder("reservation.timing-wheel.pending", timers, DeadlineTimers::pending)
+            .description("Hold and token deadline timers waiting in the timing wheel")
+            .register(meterRegistry);
+        return timers;
+    }
+
+    @Bean
+    @Primary
+    public HoldExpiryQueue holdExpiryQueue(
+        HoldExpiryRedisQueue holdExpiryRedisQueue,
+        DeadlineTimers deadlineTimers,
+        ExpiredHoldReleaser expiredHoldReleaser,
+        ReservationJpaRepository reservationJpaRepository,
+        ClockProvider clockProvider,
+        @Value("${reservation.timing-wheel.enabled:false}") boolean enabled,
+        @Value("${reservation.hold-expiry.batch-size:500}") int batchSize
+    ) {
+        // 타이밍 휠: 이 노드 메모리의 타이머로 만료 시각에 바로 해제, 그 외: Redis 지연 작업 대기열
+        if (enabled) {
+            return new HoldExpiryTimingWheel(
+                deadlineTimers,
+                expiredHoldReleaser,
+                reservationJpaRepository,
+                clockProvider,
+                batchSize
+            );
+        }
+        return holdExpiryRedisQueue;
+    }
+}
@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.lock.adapter.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import kr.hhplus.be.server.lock.domain.DistributedLock;
+
+/**
+ * Records acquire latency, failures and hold time of a plain (key-only) lock.
+ */
+public class InstrumentedDistributedLock implements DistributedLock {
+    private final DistributedLock delegate;
+    private final LockMetrics lockMetrics;
+    private final ThreadLocal<Map<String, InstrumentedFencedLock.Hold>> heldLocks =
+        ThreadLocal.withInitial(HashMap::new);
+
+    public InstrumentedDistributedLock(DistributedLock delegate, LockMetrics lockMetrics) {
+        this.delegate = delegate;
+        this.lockMetrics = lockMetrics;
+    }
+
+    @Override
+    public boolean tryLock(String key, long waitTimeMs, long leaseTimeMs) {
+        long start = System.nanoTime();
+        boolean acquired = delegate.tryLock(key, waitTimeMs, leaseTimeMs);
+        lockMetrics.recordAcquire(key, System.nanoTime() - start, acquired);
+        if (acquired) {
+            heldLocks.get().put(key, new InstrumentedFencedLock.Hold(leaseTimeMs));
+        }
+        return acquired;
+    }
+
+    @Override
+    public void unlock(String key) {
+        InstrumentedFencedLock.Hold hold = heldLocks.get().remove(key);
+        if (hold != null) {
+            lockMetrics.recordHold(key, hold.elapsedNanos(), hold.leaseTimeMs());
+        }
+        delegate.unlock(key);
+    }
+}
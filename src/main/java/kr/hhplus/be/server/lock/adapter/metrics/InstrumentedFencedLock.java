@@ -0,0 +1,193 @@
+package kr.hhplus.be.server.lock.adapter.metrics;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockAcquisitionFailedException;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+
+/**
+ * Records acquire latency, failures and hold time of the wrapped lock (see LockMetrics).
+ *
+ * Watchdog executions are not checked for lease overruns since their lease is renewed.
+ */
+public class InstrumentedFencedLock implements FencedLock {
+    private final FencedLock delegate;
+    private final LockMetrics lockMetrics;
+    // ownerId/key -> acquisition of a handle that has not been released yet
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    // Acquisitions through tryLock(key, ...) so that unlock(key) can record the hold
+    private final ThreadLocal<Map<String, Hold>> heldLocks = ThreadLocal.withInitial(HashMap::new);
+
+    public InstrumentedFencedLock(FencedLock delegate, LockMetrics lockMetrics) {
+        this.delegate = delegate;
+        this.lockMetrics = lockMetrics;
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, long waitTimeMs, long leaseTimeMs) {
+        long start = System.nanoTime();
+        Optional<LockHandle> handle = delegate.tryAcquire(key, waitTimeMs, leaseTimeMs);
+        lockMetrics.recordAcquire(key, System.nanoTime() - start, handle.isPresent());
+        handle.ifPresent(acquired -> holds.put(holdKey(acquired), new Hold(leaseTimeMs)));
+        return handle;
+    }
+
+    @Override
+    public boolean release(LockHandle handle) {
+        Hold hold = holds.remove(holdKey(handle));
+        if (hold != null) {
+            lockMetrics.recordHold(handle.getKey(), hold.elapsedNanos(), hold.leaseTimeMs());
+        }
+        return delegate.release(handle);
+    }
+
+    @Override
+    public boolean extend(LockHandle handle, long leaseTimeMs) {
+        boolean extended = delegate.extend(handle, leaseTimeMs);
+        Hold hold = holds.get(holdKey(handle));
+        if (extended && hold != null) {
+            // Lease now runs from this extension
+            holds.put(holdKey(handle), hold.extendedTo(leaseTimeMs));
+        }
+        return extended;
+    }
+
+    @Override
+    public <T> T executeWithWatchdog(
+        String key,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<LockHandle, T> function
+    ) {
+        long start = System.nanoTime();
+        long[] acquiredAt = {0};
+        try {
+            return delegate.executeWithWatchdog(key, waitTimeMs, leaseTimeMs, handle -> {
+                acquiredAt[0] = System.nanoTime();
+                lockMetrics.recordAcquire(key, acquiredAt[0] - start, true);
+                return function.apply(handle);
+            });
+        } catch (LockAcquisitionFailedException e) {
+            if (acquiredAt[0] == 0) {
+                lockMetrics.recordAcquire(key, System.nanoTime() - start, false);
+            }
+            throw e;
+        } finally {
+            if (acquiredAt[0] != 0) {
+                lockMetrics.recordHold(key, System.nanoTime() - acquiredAt[0], 0);
+            }
+        }
+    }
+
+    @Override
+    public Optional<List<LockHandle>> tryAcquireAll(List<String> keys, long waitTimeMs, long leaseTimeMs) {
+        long start = System.nanoTime();
+        Optional<List<LockHandle>> handles = delegate.tryAcquireAll(keys, waitTimeMs, leaseTimeMs);
+        lockMetrics.recordAcquire(keys, System.nanoTime() - start, handles.isPresent());
+        handles.ifPresent(acquired -> {
+            Hold hold = new Hold(leaseTimeMs);
+            acquired.forEach(handle -> holds.put(holdKey(handle), hold));
+        });
+        return handles;
+    }
+
+    @Override
+    public boolean releaseAll(List<LockHandle> handles) {
+        Hold hold = null;
+        for (LockHandle handle : handles) {
+            Hold removed = holds.remove(holdKey(handle));
+            hold = hold != null ? hold : removed;
+        }
+        if (hold != null) {
+            List<String> keys = handles.stream().map(LockHandle::getKey).toList();
+            lockMetrics.recordHold(keys, hold.elapsedNanos(), hold.leaseTimeMs());
+        }
+        return delegate.releaseAll(handles);
+    }
+
+    @Override
+    public <T> T executeWithWatchdog(
+        List<String> keys,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<List<LockHandle>, T> function
+    ) {
+        long start = System.nanoTime();
+        long[] acquiredAt = {0};
+        try {
+            return delegate.executeWithWatchdog(keys, waitTimeMs, leaseTimeMs, handles -> {
+                acquiredAt[0] = System.nanoTime();
+                lockMetrics.recordAcquire(keys, acquiredAt[0] - start, true);
+                return function.apply(handles);
+            });
+        } catch (LockAcquisitionFailedException e) {
+            if (acquiredAt[0] == 0) {
+                lockMetrics.recordAcquire(keys, System.nanoTime() - start, false);
+            }
+            throw e;
+        } finally {
+            if (acquiredAt[0] != 0) {
+                lockMetrics.recordHold(keys, System.nanoTime() - acquiredAt[0], 0);
+            }
+        }
+    }
+
+    @Override
+    public boolean tryLock(String key, long waitTimeMs, long leaseTimeMs) {
+        long start = System.nanoTime();
+        boolean acquired = delegate.tryLock(key, waitTimeMs, leaseTimeMs);
+        lockMetrics.recordAcquire(key, System.nanoTime() - start, acquired);
+        if (acquired) {
+            heldLocks.get().put(key, new Hold(leaseTimeMs));
+        }
+        return acquired;
+    }
+
+    @Override
+    public void unlock(String key) {
+        Hold hold = heldLocks.get().remove(key);
+        if (hold != null) {
+            lockMetrics.recordHold(key, hold.elapsedNanos(), hold.leaseTimeMs());
+        }
+        delegate.unlock(key);
+    }
+
+    private static String holdKey(LockHandle handle) {
+        return handle.getOwnerId() + "/" + handle.getKey();
+    }
+
+    /**
+     * Acquisition time and the lease measured from it (grown by each extension).
+     */
+    static class Hold {
+        private final long acquiredAtNanos;
+        private final long leaseTimeMs;
+
+        Hold(long leaseTimeMs) {
+            this(System.nanoTime(), leaseTimeMs);
+        }
+
+        private Hold(long acquiredAtNanos, long leaseTimeMs) {
+            this.acquiredAtNanos = acquiredAtNanos;
+            this.leaseTimeMs = leaseTimeMs;
+        }
+
+        long leaseTimeMs() {
+            return leaseTimeMs;
+        }
+
+        long elapsedNanos() {
+            return System.nanoTime() - acquiredAtNanos;
+        }
+
+        Hold extendedTo(long newLeaseTimeMs) {
+            long elapsedMs = elapsedNanos() / 1_000_000;
+            return new Hold(acquiredAtNanos, elapsedMs + newLeaseTimeMs);
+        }
+    }
+}
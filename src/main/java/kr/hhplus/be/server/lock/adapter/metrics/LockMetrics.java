@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.lock.adapter.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lock meters, tagged by key family (seat:reserve:2025-01-01:3 -> seat:reserve) to keep
+ * tag cardinality bounded.
+ *
+ * lock.acquire{key,result}  time from request to acquisition (or giving up)
+ * lock.attempts{key}        Redis acquisition attempts; attempts - acquisitions = retries
+ * lock.hold{key}            time between acquisition and release
+ * lock.lease.overrun{key}   releases after the lease had already run out
+ * lock.watchdog.renewals{key,result}
+ */
+@Component
+public class LockMetrics {
+    private static final Logger log = LoggerFactory.getLogger(LockMetrics.class);
+    private static final Duration[] SLOS = {
+        Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(100),
+        Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(5)
+    };
+
+    private final MeterRegistry meterRegistry;
+
+    public LockMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordAcquire(String key, long elapsedNanos, boolean acquired) {
+        recordAcquire(family(key), elapsedNanos, acquired);
+    }
+
+    public void recordAcquire(List<String> keys, long elapsedNanos, boolean acquired) {
+        recordAcquire(family(keys), elapsedNanos, acquired);
+    }
+
+    private void recordAcquire(String family, long elapsedNanos, boolean acquired) {
+        Timer.builder("lock.acquire")
+            .tag("key", family)
+            .tag("result", acquired ? "acquired" : "failed")
+            .publishPercentiles(0.5, 0.99)
+            .serviceLevelObjectives(SLOS)
+            .register(meterRegistry)
+            .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAttempt(String key) {
+        Counter.builder("lock.attempts").tag("key", family(key)).register(meterRegistry).increment();
+    }
+
+    /**
+     * @param leaseTimeMs lease the lock was taken with, or 0 if it was renewed by the watchdog
+     */
+    public void recordHold(String key, long holdNanos, long leaseTimeMs) {
+        recordHold(family(key), holdNanos, leaseTimeMs, key);
+    }
+
+    public void recordHold(List<String> keys, long holdNanos, long leaseTimeMs) {
+        recordHold(family(keys), holdNanos, leaseTimeMs, String.join(",", keys));
+    }
+
+    private void recordHold(String family, long holdNanos, long leaseTimeMs, String description) {
+        Timer.builder("lock.hold")
+            .tag("key", family)
+            .publishPercentiles(0.5, 0.99)
+            .serviceLevelObjectives(SLOS)
+            .register(meterRegistry)
+            .record(holdNanos, TimeUnit.NANOSECONDS);
+
+        long holdMs = TimeUnit.NANOSECONDS.toMillis(holdNanos);
+        if (leaseTimeMs > 0 && holdMs > leaseTimeMs) {
+            Counter.builder("lock.lease.overrun").tag("key", family).register(meterRegistry).increment();
+            log.warn("Lock {} held for {}ms, longer than its {}ms lease", description, holdMs, leaseTimeMs);
+        }
+    }
+
+    public void recordRenewal(String key, boolean extended) {
+        Counter.builder("lock.watchdog.renewals")
+            .tag("key", family(key))
+            .tag("result", extended ? "extended" : "lost")
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * First two segments of the key (seat:reserve:2025-01-01:3 -> seat:reserve).
+     */
+    public static String family(String key) {
+        int first = key.indexOf(':');
+        if (first < 0) {
+            return key;
+        }
+        int second = key.indexOf(':', first + 1);
+        return second < 0 ? key : key.substring(0, second);
+    }
+
+    /**
+     * Families of a multi-key acquisition, e.g. reservation:pay+user:point.
+     */
+    public static String family(List<String> keys) {
+        return keys.stream().map(LockMetrics::family).distinct().sorted().collect(Collectors.joining("+"));
+    }
+}
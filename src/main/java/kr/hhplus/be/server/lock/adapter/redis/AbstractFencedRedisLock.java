@@ -0,0 +1,261 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockAcquisitionFailedException;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Common part of the owner-verified Redis locks.
+ *
+ * Subclasses only decide how to wait between acquisition attempts.
+ */
+public abstract class AbstractFencedRedisLock implements FencedLock {
+    private static final Logger log = LoggerFactory.getLogger(AbstractFencedRedisLock.class);
+    private static final String LOCK_PREFIX = "lock:";
+    private static final String FENCE_PREFIX = "lock:fence:";
+    private static final long MULTI_KEY_RETRY_MS = 10;
+
+    private final RedisLockScripts lockScripts;
+    private final LeaseWatchdog leaseWatchdog;
+    private final LockMetrics lockMetrics;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong ownerSequence = new AtomicLong();
+    // Handles acquired through tryLock(key, ...) so that unlock(key) can release by owner
+    private final ThreadLocal<Map<String, LockHandle>> heldLocks = ThreadLocal.withInitial(HashMap::new);
+
+    protected AbstractFencedRedisLock(
+        RedisLockScripts lockScripts,
+        LeaseWatchdog leaseWatchdog,
+        LockMetrics lockMetrics
+    ) {
+        this.lockScripts = lockScripts;
+        this.leaseWatchdog = leaseWatchdog;
+        this.lockMetrics = lockMetrics;
+    }
+
+    /**
+     * Channel published to when the key is released, or empty string for none.
+     */
+    protected String releaseChannel(String key) {
+        return "";
+    }
+
+    /**
+     * Single acquisition attempt.
+     */
+    protected Optional<LockHandle> attempt(String key, String ownerId, long leaseTimeMs) {
+        countAttempt(key);
+        long fencingToken = lockScripts.acquire(lockKey(key), fenceKey(key), ownerId, leaseTimeMs);
+        return fencingToken > 0 ? Optional.of(new LockHandle(key, ownerId, fencingToken)) : Optional.empty();
+    }
+
+    protected void countAttempt(String key) {
+        lockMetrics.recordAttempt(key);
+    }
+
+    protected String newOwnerId() {
+        return instanceId + ":" + ownerSequence.incrementAndGet();
+    }
+
+    /**
+     * Delete the lock if the handle still owns it.
+     */
+    protected boolean releaseOwned(LockHandle handle) {
+        return lockScripts.release(
+            lockKey(handle.getKey()),
+            handle.getOwnerId(),
+            releaseChannel(handle.getKey())
+        );
+    }
+
+    @Override
+    public boolean release(LockHandle handle) {
+        boolean released = releaseOwned(handle);
+        if (!released) {
+            log.warn("Lock {} was no longer held by its owner at release (lease expired, fence={})",
+                handle.getKey(), handle.getFencingToken());
+        }
+        return released;
+    }
+
+    @Override
+    public boolean extend(LockHandle handle, long leaseTimeMs) {
+        return lockScripts.extend(lockKey(handle.getKey()), handle.getOwnerId(), leaseTimeMs);
+    }
+
+    @Override
+    public <T> T executeWithWatchdog(
+        String key,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<LockHandle, T> function
+    ) {
+        LockHandle handle = tryAcquire(key, waitTimeMs, leaseTimeMs)
+            .orElseThrow(() -> new LockAcquisitionFailedException("Failed to acquire lock for key: " + key));
+        try (LeaseWatchdog.Renewal renewal = leaseWatchdog.watch(this, handle, leaseTimeMs)) {
+            return function.apply(handle);
+        } finally {
+            release(handle);
+        }
+    }
+
+    /**
+     * On standalone Redis all keys are taken by one script call. On a cluster the keys
+     * hash to different slots, so they are taken one by one in sorted order instead
+     * (see tryAcquireEach); the all-or-nothing result is the same.
+     */
+    @Override
+    public Optional<List<LockHandle>> tryAcquireAll(List<String> keys, long waitTimeMs, long leaseTimeMs) {
+        if (lockScripts.isCluster()) {
+            return tryAcquireEach(keys, waitTimeMs, leaseTimeMs);
+        }
+        List<String> requested = keys.stream().distinct().toList();
+        List<String> ordered = requested.stream().sorted().toList();
+        List<String> lockKeys = ordered.stream().map(this::lockKey).toList();
+        List<String> fenceKeys = ordered.stream().map(this::fenceKey).toList();
+        String ownerId = newOwnerId();
+        long deadline = System.currentTimeMillis() + waitTimeMs;
+
+        while (true) {
+            ordered.forEach(this::countAttempt);
+            List<Long> tokens = lockScripts.acquireAll(lockKeys, fenceKeys, ownerId, leaseTimeMs);
+            if (tokens.get(0) > 0) {
+                Map<String, LockHandle> handles = new HashMap<>();
+                for (int i = 0; i < ordered.size(); i++) {
+                    handles.put(ordered.get(i), new LockHandle(ordered.get(i), ownerId, tokens.get(i)));
+                }
+                return Optional.of(requested.stream().map(handles::get).toList());
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return Optional.empty();
+            }
+            String blockingKey = ordered.get((int) -tokens.get(0) - 1);
+            if (!awaitRelease(blockingKey, remaining)) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    /**
+     * Acquire the keys one at a time in sorted order, releasing what was taken if any key
+     * cannot be acquired before the deadline.
+     */
+    protected Optional<List<LockHandle>> tryAcquireEach(List<String> keys, long waitTimeMs, long leaseTimeMs) {
+        List<String> requested = keys.stream().distinct().toList();
+        long deadline = System.currentTimeMillis() + waitTimeMs;
+        Map<String, LockHandle> acquired = new HashMap<>();
+        for (String key : requested.stream().sorted().toList()) {
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            Optional<LockHandle> handle = tryAcquire(key, remaining, leaseTimeMs);
+            if (handle.isEmpty()) {
+                releaseEach(new ArrayList<>(acquired.values()));
+                return Optional.empty();
+            }
+            acquired.put(key, handle.get());
+        }
+        return Optional.of(requested.stream().map(acquired::get).toList());
+    }
+
+    protected boolean releaseEach(List<LockHandle> handles) {
+        boolean released = true;
+        for (LockHandle handle : handles) {
+            released &= release(handle);
+        }
+        return released;
+    }
+
+    /**
+     * Wait before retrying tryAcquireAll after blockingKey was found held.
+     *
+     * @return false if interrupted
+     */
+    protected boolean awaitRelease(String blockingKey, long remainingMs) {
+        try {
+            Thread.sleep(Math.min(MULTI_KEY_RETRY_MS, remainingMs));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public boolean releaseAll(List<LockHandle> handles) {
+        if (handles.isEmpty()) {
+            return true;
+        }
+        if (lockScripts.isCluster()) {
+            return releaseEach(handles);
+        }
+        String ownerId = handles.get(0).getOwnerId();
+        long released = lockScripts.releaseAll(
+            handles.stream().map(handle -> lockKey(handle.getKey())).toList(),
+            ownerId,
+            handles.stream().map(handle -> releaseChannel(handle.getKey())).toList()
+        );
+        if (released < handles.size()) {
+            log.warn("{} of {} locks were no longer held by their owner at release (lease expired)",
+                handles.size() - released, handles.size());
+        }
+        return released == handles.size();
+    }
+
+    @Override
+    public <T> T executeWithWatchdog(
+        List<String> keys,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<List<LockHandle>, T> function
+    ) {
+        List<LockHandle> handles = tryAcquireAll(keys, waitTimeMs, leaseTimeMs)
+            .orElseThrow(() -> new LockAcquisitionFailedException("Failed to acquire locks for keys: " + keys));
+        List<LeaseWatchdog.Renewal> renewals = new ArrayList<>(handles.size());
+        try {
+            for (LockHandle handle : handles) {
+                renewals.add(leaseWatchdog.watch(this, handle, leaseTimeMs));
+            }
+            return function.apply(handles);
+        } finally {
+            renewals.forEach(LeaseWatchdog.Renewal::close);
+            releaseAll(handles);
+        }
+    }
+
+    @Override
+    public boolean tryLock(String key, long waitTimeMs, long leaseTimeMs) {
+        Optional<LockHandle> handle = tryAcquire(key, waitTimeMs, leaseTimeMs);
+        handle.ifPresent(acquired -> heldLocks.get().put(key, acquired));
+        return handle.isPresent();
+    }
+
+    @Override
+    public void unlock(String key) {
+        LockHandle handle = heldLocks.get().remove(key);
+        if (handle != null) {
+            release(handle);
+        }
+    }
+
+    // Hash tag keeps the lock and its fence counter in the same cluster slot (different keys
+    // land in different slots, hence the per-key path of tryAcquireAll on a cluster)
+    protected String lockKey(String key) {
+        return LOCK_PREFIX + "{" + key + "}";
+    }
+
+    protected String fenceKey(String key) {
+        return FENCE_PREFIX + "{" + key + "}";
+    }
+}
@@ -0,0 +1,150 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fenced lock that grants the key in arrival order.
+ *
+ * Each waiter takes a ticket in a per-key Redis ZSET (lock:queue:{key}) and may only
+ * acquire when its ticket is first. Release publishes the next waiter's owner id, so
+ * only that waiter wakes and retries. Waiters refresh a heartbeat on every attempt;
+ * one that stops retrying (crashed node) is dropped after WAITER_TTL_MS so it cannot
+ * block the queue. A waiter that times out leaves the queue and passes the turn on.
+ *
+ * Multi-key acquisition queues for each key in sorted order instead of the all-or-nothing
+ * script, since taking several keys at once would jump the other keys' queues.
+ */
+@Component
+public class FairDistributedLock extends AbstractFencedRedisLock implements MessageListener {
+    static final String HANDOFF_CHANNEL = "lock:fair:handoff";
+    private static final long FALLBACK_POLL_MS = 100;
+    private static final long WAITER_TTL_MS = FALLBACK_POLL_MS * 5;
+
+    private final RedisLockScripts lockScripts;
+    // ownerId -> local waiter
+    private final Map<String, Waiter> waiters = new ConcurrentHashMap<>();
+
+    public FairDistributedLock(
+        RedisLockScripts lockScripts,
+        LeaseWatchdog leaseWatchdog,
+        LockMetrics lockMetrics,
+        RedisMessageListenerContainer listenerContainer
+    ) {
+        super(lockScripts, leaseWatchdog, lockMetrics);
+        this.lockScripts = lockScripts;
+        listenerContainer.addMessageListener(this, new ChannelTopic(HANDOFF_CHANNEL));
+    }
+
+    @Override
+    protected Optional<LockHandle> attempt(String key, String ownerId, long leaseTimeMs) {
+        countAttempt(key);
+        long fencingToken = lockScripts.fairAcquire(keys(key), ownerId, leaseTimeMs, WAITER_TTL_MS);
+        return fencingToken > 0 ? Optional.of(new LockHandle(key, ownerId, fencingToken)) : Optional.empty();
+    }
+
+    @Override
+    protected boolean releaseOwned(LockHandle handle) {
+        return lockScripts.fairRelease(keys(handle.getKey()), handle.getOwnerId(), HANDOFF_CHANNEL);
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, long waitTimeMs, long leaseTimeMs) {
+        String ownerId = newOwnerId();
+        Waiter waiter = new Waiter();
+        waiters.put(ownerId, waiter);
+        Optional<LockHandle> handle = Optional.empty();
+        try {
+            long deadline = System.currentTimeMillis() + waitTimeMs;
+            while (true) {
+                // Read the version before attempting so a handoff in between is not missed
+                long seen = waiter.version();
+                handle = attempt(key, ownerId, leaseTimeMs);
+                if (handle.isPresent()) {
+                    return handle;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return Optional.empty();
+                }
+                if (!waiter.await(seen, Math.min(FALLBACK_POLL_MS, remaining))) {
+                    return Optional.empty();
+                }
+            }
+        } finally {
+            waiters.remove(ownerId);
+            if (handle.isEmpty()) {
+                lockScripts.fairCancel(keys(key), ownerId, HANDOFF_CHANNEL);
+            }
+        }
+    }
+
+    // Each key keeps its own waiter queue, so keys are always taken one by one in sorted order
+    @Override
+    public Optional<List<LockHandle>> tryAcquireAll(List<String> keys, long waitTimeMs, long leaseTimeMs) {
+        return tryAcquireEach(keys, waitTimeMs, leaseTimeMs);
+    }
+
+    @Override
+    public boolean releaseAll(List<LockHandle> handles) {
+        return releaseEach(handles);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Waiter waiter = waiters.get(new String(message.getBody(), StandardCharsets.UTF_8));
+        if (waiter != null) {
+            waiter.signal();
+        }
+    }
+
+    private RedisLockScripts.FairKeys keys(String key) {
+        return new RedisLockScripts.FairKeys(
+            lockKey(key),
+            fenceKey(key),
+            "lock:queue:{" + key + "}",
+            "lock:ticket:{" + key + "}",
+            "lock:heartbeat:{" + key + "}"
+        );
+    }
+
+    private static class Waiter {
+        private long version;
+
+        private synchronized long version() {
+            return version;
+        }
+
+        private synchronized void signal() {
+            version++;
+            notify();
+        }
+
+        /**
+         * @return false if interrupted
+         */
+        private synchronized boolean await(long seen, long timeoutMs) {
+            if (version != seen) {
+                return true;
+            }
+            try {
+                wait(timeoutMs);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
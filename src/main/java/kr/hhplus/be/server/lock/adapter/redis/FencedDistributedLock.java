@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import java.util.Optional;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis lock with a unique owner id per acquisition and a per-key fencing token.
+ *
+ * Unlike SimpleDistributedLock/SpinDistributedLock, unlock never deletes a lock that
+ * has already expired and been taken over by another holder. Resources that receive
+ * the fencing token can additionally reject writes from a holder whose lease ran out.
+ *
+ * Waiters poll every 10ms; see PubSubDistributedLock for release notification.
+ */
+@Component
+public class FencedDistributedLock extends AbstractFencedRedisLock {
+    private static final long DEFAULT_SPIN_INTERVAL_MS = 10; // 10ms between retries
+
+    public FencedDistributedLock(
+        RedisLockScripts lockScripts,
+        LeaseWatchdog leaseWatchdog,
+        LockMetrics lockMetrics
+    ) {
+        super(lockScripts, leaseWatchdog, lockMetrics);
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, long waitTimeMs, long leaseTimeMs) {
+        String ownerId = newOwnerId();
+        long deadline = System.currentTimeMillis() + waitTimeMs;
+
+        while (true) {
+            Optional<LockHandle> handle = attempt(key, ownerId, leaseTimeMs);
+            if (handle.isPresent()) {
+                return handle;
+            }
+
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return Optional.empty();
+            }
+            try {
+                Thread.sleep(Math.min(DEFAULT_SPIN_INTERVAL_MS, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockAcquisitionFailedException;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+
+/**
+ * Fenced lock that queues same-node contenders in the JVM before going to Redis.
+ *
+ * Each key gets a local fair gate; only the thread holding the gate talks to Redis,
+ * the others wait in FIFO order and take over when it releases. Redis therefore sees
+ * one contender per node for a hot key instead of one per thread. Gates are created
+ * per key (and dropped when the last user leaves) rather than hashed into stripes, so
+ * unrelated keys never wait on each other and nested locks cannot deadlock locally.
+ *
+ * Metrics (tagged by key family, e.g. seat:reserve, user:point):
+ * lock.local.acquire{result=direct|queued|timeout}, lock.local.wait, lock.redis.acquire{result}.
+ */
+public class HybridDistributedLock implements FencedLock {
+    private final FencedLock delegate;
+    private final MeterRegistry meterRegistry;
+    // key -> local gate (removed when no thread holds or waits for it)
+    private final Map<String, LocalGate> gates = new ConcurrentHashMap<>();
+    // Gates acquired through tryLock(key, ...) so that unlock(key) can open them
+    private final ThreadLocal<Map<String, LocalGate>> heldGates = ThreadLocal.withInitial(HashMap::new);
+    // ownerId/key -> gate held together with that handle
+    private final Map<String, LocalGate> handleGates = new ConcurrentHashMap<>();
+
+    public HybridDistributedLock(FencedLock delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("lock.local.keys", gates, Map::size);
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, long waitTimeMs, long leaseTimeMs) {
+        long start = System.currentTimeMillis();
+        LocalGate gate = enter(key, waitTimeMs);
+        if (gate == null) {
+            return Optional.empty();
+        }
+        Optional<LockHandle> handle = Optional.empty();
+        try {
+            handle = delegate.tryAcquire(key, remaining(start, waitTimeMs), leaseTimeMs);
+            recordRedis(key, handle.isPresent());
+            handle.ifPresent(acquired -> handleGates.put(gateKey(acquired), gate));
+            return handle;
+        } finally {
+            if (handle.isEmpty()) {
+                leave(key, gate);
+            }
+        }
+    }
+
+    @Override
+    public boolean release(LockHandle handle) {
+        try {
+            return delegate.release(handle);
+        } finally {
+            LocalGate gate = handleGates.remove(gateKey(handle));
+            if (gate != null) {
+                leave(handle.getKey(), gate);
+            }
+        }
+    }
+
+    @Override
+    public boolean extend(LockHandle handle, long leaseTimeMs) {
+        return delegate.extend(handle, leaseTimeMs);
+    }
+
+    @Override
+    public <T> T executeWithWatchdog(
+        String key,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<LockHandle, T> function
+    ) {
+        long start = System.currentTimeMillis();
+        LocalGate gate = enter(key, waitTimeMs);
+        if (gate == null) {
+            throw new LockAcquisitionFailedException("Failed to acquire lock for key: " + key);
+        }
+        boolean[] acquired = {false};
+        try {
+            return delegate.executeWithWatchdog(key, remaining(start, waitTimeMs), leaseTimeMs, handle -> {
+                acquired[0] = true;
+                recordRedis(key, true);
+                return function.apply(handle);
+            });
+        } catch (LockAcquisitionFailedException e) {
+            if (!acquired[0]) {
+                recordRedis(key, false);
+            }
+            throw e;
+        } finally {
+            leave(key, gate);
+        }
+    }
+
+    @Override
+    public Optional<List<LockHandle>> tryAcquireAll(List<String> keys, long waitTimeMs, long leaseTimeMs) {
+        long start = System.currentTimeMillis();
+        List<String> ordered = keys.stream().distinct().sorted().toList();
+        Map<String, LocalGate> entered = enterAll(ordered, waitTimeMs);
+        if (entered == null) {
+            return Optional.empty();
+        }
+        Optional<List<LockHandle>> handles = Optional.empty();
+        try {
+            handles = delegate.tryAcquireAll(keys, remaining(start, waitTimeMs), leaseTimeMs);
+            boolean redisAcquired = handles.isPresent();
+            ordered.forEach(key -> recordRedis(key, redisAcquired));
+            handles.ifPresent(acquired -> acquired.forEach(handle ->
+                handleGates.put(gateKey(handle), entered.get(handle.getKey()))));
+            return handles;
+        } finally {
+            if (handles.isEmpty()) {
+                entered.forEach(this::leave);
+            }
+        }
+    }
+
+    @Override
+    public boolean releaseAll(List<LockHandle> handles) {
+        try {
+            return delegate.releaseAll(handles);
+        } finally {
+            for (LockHandle handle : handles) {
+                LocalGate gate = handleGates.remove(gateKey(handle));
+                if (gate != null) {
+                    leave(handle.getKey(), gate);
+                }
+            }
+        }
+    }
+
+    @Override
+    public <T> T executeWithWatchdog(
+        List<String> keys,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<List<LockHandle>, T> function
+    ) {
+        long start = System.currentTimeMillis();
+        List<String> ordered = keys.stream().distinct().sorted().toList();
+        Map<String, LocalGate> entered = enterAll(ordered, waitTimeMs);
+        if (entered == null) {
+            throw new LockAcquisitionFailedException("Failed to acquire locks for keys: " + keys);
+        }
+        boolean[] acquired = {false};
+        try {
+            return delegate.executeWithWatchdog(keys, remaining(start, waitTimeMs), leaseTimeMs, handles -> {
+                acquired[0] = true;
+                ordered.forEach(key -> recordRedis(key, true));
+                return function.apply(handles);
+            });
+        } catch (LockAcquisitionFailedException e) {
+            if (!acquired[0]) {
+                ordered.forEach(key -> recordRedis(key, false));
+            }
+            throw e;
+        } finally {
+            entered.forEach(this::leave);
+        }
+    }
+
+    @Override
+    public boolean tryLock(String key, long waitTimeMs, long leaseTimeMs) {
+        long start = System.currentTimeMillis();
+        LocalGate gate = enter(key, waitTimeMs);
+        if (gate == null) {
+            return false;
+        }
+        boolean acquired = false;
+        try {
+            acquired = delegate.tryLock(key, remaining(start, waitTimeMs), leaseTimeMs);
+            recordRedis(key, acquired);
+            if (acquired) {
+                heldGates.get().put(key, gate);
+            }
+            return acquired;
+        } finally {
+            if (!acquired) {
+                leave(key, gate);
+            }
+        }
+    }
+
+    @Override
+    public void unlock(String key) {
+        try {
+            delegate.unlock(key);
+        } finally {
+            LocalGate gate = heldGates.get().remove(key);
+            if (gate != null) {
+                leave(key, gate);
+            }
+        }
+    }
+
+    int countLocalKeys() {
+        return gates.size();
+    }
+
+    /**
+     * Pass the local gate for the key, waiting behind other threads of this node.
+     *
+     * @return the gate, or null if it could not be passed within waitTimeMs
+     */
+    private LocalGate enter(String key, long waitTimeMs) {
+        String family = LockMetrics.family(key);
+        LocalGate gate = register(key);
+        // Untimed tryAcquire() barges past queued waiters; the timed form honours the fair ordering
+        boolean direct = false;
+        try {
+            direct = gate.permit.tryAcquire(0, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (direct) {
+            Counter.builder("lock.local.acquire").tag("key", family).tag("result", "direct")
+                .register(meterRegistry).increment();
+            return gate;
+        }
+
+        long waitStart = System.nanoTime();
+        boolean passed = false;
+        try {
+            passed = waitTimeMs > 0 && gate.permit.tryAcquire(waitTimeMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        Timer.builder("lock.local.wait").tag("key", family)
+            .register(meterRegistry).record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        Counter.builder("lock.local.acquire").tag("key", family).tag("result", passed ? "queued" : "timeout")
+            .register(meterRegistry).increment();
+        if (!passed) {
+            unregister(key);
+            return null;
+        }
+        return gate;
+    }
+
+    /**
+     * Pass the gates of all keys in sorted order, so local threads cannot deadlock on each other.
+     *
+     * @return key -> gate, or null (with nothing held) if a gate could not be passed in time
+     */
+    private Map<String, LocalGate> enterAll(List<String> orderedKeys, long waitTimeMs) {
+        long start = System.currentTimeMillis();
+        Map<String, LocalGate> entered = new HashMap<>();
+        for (String key : orderedKeys) {
+            LocalGate gate = enter(key, remaining(start, waitTimeMs));
+            if (gate == null) {
+                entered.forEach(this::leave);
+                return null;
+            }
+            entered.put(key, gate);
+        }
+        return entered;
+    }
+
+    private void leave(String key, LocalGate gate) {
+        gate.permit.release();
+        unregister(key);
+    }
+
+    private LocalGate register(String key) {
+        return gates.compute(key, (k, gate) -> {
+            LocalGate registered = gate != null ? gate : new LocalGate();
+            registered.users++;
+            return registered;
+        });
+    }
+
+    private void unregister(String key) {
+        gates.computeIfPresent(key, (k, gate) -> --gate.users == 0 ? null : gate);
+    }
+
+    private void recordRedis(String key, boolean acquired) {
+        Counter.builder("lock.redis.acquire").tag("key", LockMetrics.family(key))
+            .tag("result", acquired ? "acquired" : "failed")
+            .register(meterRegistry).increment();
+    }
+
+    private static String gateKey(LockHandle handle) {
+        return handle.getOwnerId() + "/" + handle.getKey();
+    }
+
+    private static long remaining(long start, long waitTimeMs) {
+        return Math.max(0, waitTimeMs - (System.currentTimeMillis() - start));
+    }
+
+    private static class LocalGate {
+        // Not thread-bound, so a handle may be released from another thread
+        private final Semaphore permit = new Semaphore(1, true);
+        private int users; // holders + waiters, guarded by the gates map compute
+    }
+}
@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Extends the lease of held locks while their work is still running.
+ *
+ * All locks share a small scheduler; each watched lock is one periodic task that
+ * re-sets the lease every leaseTime/3. Leases can therefore stay short (a crashed
+ * holder frees the key within one lease) without expiring under a slow commit or GC pause.
+ */
+@Component
+public class LeaseWatchdog {
+    private static final Logger log = LoggerFactory.getLogger(LeaseWatchdog.class);
+    private static final int RENEWALS_PER_LEASE = 3;
+
+    private final ScheduledExecutorService scheduler;
+    private final LockMetrics lockMetrics;
+
+    public LeaseWatchdog(LockMetrics lockMetrics, @Value("${lock.watchdog.threads:2}") int threads) {
+        this.lockMetrics = lockMetrics;
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start renewing the lease. Close the returned renewal when the work is done.
+     */
+    public Renewal watch(FencedLock lock, LockHandle handle, long leaseTimeMs) {
+        long intervalMs = Math.max(1, leaseTimeMs / RENEWALS_PER_LEASE);
+        Renewal renewal = new Renewal(handle);
+        renewal.future = scheduler.scheduleAtFixedRate(
+            () -> renew(lock, handle, leaseTimeMs, renewal),
+            intervalMs,
+            intervalMs,
+            TimeUnit.MILLISECONDS
+        );
+        return renewal;
+    }
+
+    private void renew(FencedLock lock, LockHandle handle, long leaseTimeMs, Renewal renewal) {
+        if (renewal.closed) {
+            return;
+        }
+        try {
+            boolean extended = lock.extend(handle, leaseTimeMs);
+            lockMetrics.recordRenewal(handle.getKey(), extended);
+            if (!extended) {
+                // Lease already lost; fencing token keeps the stale holder's writes out
+                log.warn("Lost lock {} before work finished (fence={})", handle.getKey(), handle.getFencingToken());
+                renewal.close();
+            }
+        } catch (Exception e) {
+            // Transient Redis error: try again on the next tick while the lease may still be valid
+            log.warn("Failed to extend lock {}: {}", handle.getKey(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    public static class Renewal implements AutoCloseable {
+        private final LockHandle handle;
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean closed;
+
+        private Renewal(LockHandle handle) {
+            this.handle = handle;
+        }
+
+        public LockHandle getHandle() {
+            return handle;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            ScheduledFuture<?> scheduled = future;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fenced lock whose waiters sleep until the holder's release is announced.
+ *
+ * Release publishes to lock:released:<key>. Each node holds one pattern subscription
+ * and wakes a single local waiter for that key, which then retries SET NX once.
+ * Waiters also retry every FALLBACK_POLL_MS in case a message was lost or the lock
+ * expired without a release, so Redis sees a few attempts per handoff instead of
+ * one attempt per waiter every 10ms.
+ */
+@Component
+public class PubSubDistributedLock extends AbstractFencedRedisLock implements MessageListener {
+    private static final String RELEASE_CHANNEL_PREFIX = "lock:released:";
+    private static final long FALLBACK_POLL_MS = 100;
+
+    // key -> local waiters of that key (removed when the last waiter leaves)
+    private final Map<String, ReleaseSignal> signals = new ConcurrentHashMap<>();
+
+    public PubSubDistributedLock(
+        RedisLockScripts lockScripts,
+        LeaseWatchdog leaseWatchdog,
+        LockMetrics lockMetrics,
+        RedisMessageListenerContainer listenerContainer
+    ) {
+        super(lockScripts, leaseWatchdog, lockMetrics);
+        listenerContainer.addMessageListener(this, new PatternTopic(RELEASE_CHANNEL_PREFIX + "*"));
+    }
+
+    @Override
+    protected String releaseChannel(String key) {
+        return RELEASE_CHANNEL_PREFIX + key;
+    }
+
+    @Override
+    public Optional<LockHandle> tryAcquire(String key, long waitTimeMs, long leaseTimeMs) {
+        String ownerId = newOwnerId();
+        Optional<LockHandle> handle = attempt(key, ownerId, leaseTimeMs);
+        if (handle.isPresent() || waitTimeMs <= 0) {
+            return handle;
+        }
+
+        long deadline = System.currentTimeMillis() + waitTimeMs;
+        ReleaseSignal signal = register(key);
+        try {
+            while (true) {
+                // Read the version before attempting so a release in between is not missed
+                long seen = signal.version();
+                handle = attempt(key, ownerId, leaseTimeMs);
+                if (handle.isPresent()) {
+                    return handle;
+                }
+
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return Optional.empty();
+                }
+                if (!signal.await(seen, Math.min(FALLBACK_POLL_MS, remaining))) {
+                    return Optional.empty();
+                }
+            }
+        } finally {
+            unregister(key);
+        }
+    }
+
+    /**
+     * Multi-key acquisition waits for the release of the key that blocked it.
+     * A release between the attempt and this registration is picked up by the fallback poll.
+     */
+    @Override
+    protected boolean awaitRelease(String blockingKey, long remainingMs) {
+        ReleaseSignal signal = register(blockingKey);
+        try {
+            return signal.await(signal.version(), Math.min(FALLBACK_POLL_MS, remainingMs));
+        } finally {
+            unregister(blockingKey);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        ReleaseSignal signal = signals.get(channel.substring(RELEASE_CHANNEL_PREFIX.length()));
+        if (signal != null) {
+            signal.signal();
+        }
+    }
+
+    int countWaitingKeys() {
+        return signals.size();
+    }
+
+    private ReleaseSignal register(String key) {
+        return signals.compute(key, (k, signal) -> {
+            ReleaseSignal registered = signal != null ? signal : new ReleaseSignal();
+            registered.waiters++;
+            return registered;
+        });
+    }
+
+    private void unregister(String key) {
+        signals.computeIfPresent(key, (k, signal) -> --signal.waiters == 0 ? null : signal);
+    }
+
+    private static class ReleaseSignal {
+        private int waiters; // guarded by the signals map compute
+        private long version;
+
+        private synchronized long version() {
+            return version;
+        }
+
+        // Only one local waiter can win the lock, so wake one; the rest keep their fallback poll
+        private synchronized void signal() {
+            version++;
+            notify();
+        }
+
+        /**
+         * @return false if interrupted
+         */
+        private synchronized boolean await(long seen, long timeoutMs) {
+            if (version != seen) {
+                return true;
+            }
+            try {
+                wait(timeoutMs);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
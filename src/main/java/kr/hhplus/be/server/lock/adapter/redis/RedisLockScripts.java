@@ -0,0 +1,204 @@
+package kr.hhplus.be.server.lock.adapter.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Owner-aware lock scripts (scripts/lock/*.lua).
+ *
+ * Each operation is a single EVALSHA, so "check owner then delete/expire" cannot
+ * interleave with another node taking over the key.
+ */
+@Component
+public class RedisLockScripts {
+    // Fence counters expire once a key stops being locked, far beyond any lease. A recreated
+    // counter is seeded from the clock, so tokens still exceed the ones handed out before.
+    private static final long FENCE_TTL_MS = TimeUnit.DAYS.toMillis(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<Long> acquireScript;
+    private final DefaultRedisScript<Long> releaseScript;
+    private final DefaultRedisScript<Long> extendScript;
+    private final DefaultRedisScript<List> acquireAllScript;
+    private final DefaultRedisScript<Long> releaseAllScript;
+    private final DefaultRedisScript<Long> fairAcquireScript;
+    private final DefaultRedisScript<Long> fairReleaseScript;
+    private final DefaultRedisScript<Long> fairCancelScript;
+    private volatile Boolean cluster; // detected on first use
+
+    public RedisLockScripts(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.acquireScript = script("scripts/lock/acquire.lua");
+        this.releaseScript = script("scripts/lock/release.lua");
+        this.extendScript = script("scripts/lock/extend.lua");
+        this.acquireAllScript = new DefaultRedisScript<>();
+        this.acquireAllScript.setLocation(new ClassPathResource("scripts/lock/acquire_all.lua"));
+        this.acquireAllScript.setResultType(List.class);
+        this.releaseAllScript = script("scripts/lock/release_all.lua");
+        this.fairAcquireScript = script("scripts/lock/fair_acquire.lua");
+        this.fairReleaseScript = script("scripts/lock/fair_release.lua");
+        this.fairCancelScript = script("scripts/lock/fair_cancel.lua");
+    }
+
+    /**
+     * @return fencing token, or 0 if the lock is held by someone else
+     */
+    public long acquire(String lockKey, String fenceKey, String ownerId, long leaseTimeMs) {
+        // Seed a missing counter from the clock so tokens keep increasing even if Redis lost the counter
+        String fenceSeed = String.valueOf(System.currentTimeMillis() * 1000);
+        Long fence = redisTemplate.execute(
+            acquireScript,
+            List.of(lockKey, fenceKey),
+            ownerId,
+            String.valueOf(leaseTimeMs),
+            fenceSeed,
+            String.valueOf(FENCE_TTL_MS)
+        );
+        return fence != null ? fence : 0L;
+    }
+
+    /**
+     * @param releaseChannel channel notified on release, or empty string for none
+     */
+    public boolean release(String lockKey, String ownerId, String releaseChannel) {
+        Long released = redisTemplate.execute(releaseScript, List.of(lockKey), ownerId, releaseChannel);
+        return released != null && released == 1L;
+    }
+
+    public boolean extend(String lockKey, String ownerId, long leaseTimeMs) {
+        Long extended = redisTemplate.execute(
+            extendScript,
+            List.of(lockKey),
+            ownerId,
+            String.valueOf(leaseTimeMs)
+        );
+        return extended != null && extended == 1L;
+    }
+
+    /**
+     * Whether the template talks to a Redis Cluster. Multi-key scripts only work there
+     * when all keys share a slot, which unrelated lock keys do not.
+     */
+    public boolean isCluster() {
+        Boolean detected = cluster;
+        if (detected == null) {
+            try (RedisConnection connection = redisTemplate.getRequiredConnectionFactory().getConnection()) {
+                detected = connection instanceof RedisClusterConnection;
+            }
+            cluster = detected;
+        }
+        return detected;
+    }
+
+    /**
+     * Acquire all lock keys in one round trip, or none of them.
+     * Standalone Redis only: the keys have their own hash tags and may live in different cluster slots.
+     *
+     * @param lockKeys lock keys in acquisition (sorted) order
+     * @param fenceKeys fence counter keys in the same order
+     * @return fencing tokens in key order, or { -(1-based position of the first held key) }
+     */
+    @SuppressWarnings("unchecked")
+    public List<Long> acquireAll(List<String> lockKeys, List<String> fenceKeys, String ownerId, long leaseTimeMs) {
+        List<String> keys = new ArrayList<>(lockKeys);
+        keys.addAll(fenceKeys);
+        String fenceSeed = String.valueOf(System.currentTimeMillis() * 1000);
+        List<Long> tokens = redisTemplate.execute(
+            acquireAllScript,
+            keys,
+            ownerId,
+            String.valueOf(leaseTimeMs),
+            fenceSeed,
+            String.valueOf(FENCE_TTL_MS)
+        );
+        if (tokens == null || tokens.isEmpty()) {
+            throw new IllegalStateException("Unexpected acquire_all result: " + tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * Standalone Redis only, like acquireAll.
+     *
+     * @param releaseChannels channel per lock key, or empty string for none
+     * @return number of keys that were still owned and got released
+     */
+    public long releaseAll(List<String> lockKeys, String ownerId, List<String> releaseChannels) {
+        List<String> args = new ArrayList<>(releaseChannels.size() + 1);
+        args.add(ownerId);
+        args.addAll(releaseChannels);
+        Long released = redisTemplate.execute(releaseAllScript, lockKeys, args.toArray());
+        return released != null ? released : 0L;
+    }
+
+    /**
+     * Take a ticket in the key's waiter queue (or refresh it) and acquire only when first in line.
+     *
+     * @return fencing token, or 0 if the lock is held or another waiter is ahead
+     */
+    public long fairAcquire(FairKeys keys, String ownerId, long leaseTimeMs, long waiterTtlMs) {
+        String fenceSeed = String.valueOf(System.currentTimeMillis() * 1000);
+        Long fence = redisTemplate.execute(
+            fairAcquireScript,
+            keys.all(),
+            ownerId,
+            String.valueOf(leaseTimeMs),
+            fenceSeed,
+            String.valueOf(waiterTtlMs),
+            String.valueOf(FENCE_TTL_MS)
+        );
+        return fence != null ? fence : 0L;
+    }
+
+    /**
+     * Release and tell the next waiter in line (published owner id on handoffChannel).
+     */
+    public boolean fairRelease(FairKeys keys, String ownerId, String handoffChannel) {
+        Long released = redisTemplate.execute(fairReleaseScript, keys.all(), ownerId, handoffChannel);
+        return released != null && released == 1L;
+    }
+
+    /**
+     * Leave the waiter queue after giving up, handing the turn to the next waiter.
+     */
+    public void fairCancel(FairKeys keys, String ownerId, String handoffChannel) {
+        redisTemplate.execute(fairCancelScript, keys.all(), ownerId, handoffChannel);
+    }
+
+    private DefaultRedisScript<Long> script(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    /**
+     * Keys of one fair lock; all share the {key} hash tag.
+     */
+    public static class FairKeys {
+        private final String lockKey;
+        private final String fenceKey;
+        private final String queueKey;
+        private final String ticketKey;
+        private final String heartbeatKey;
+
+        public FairKeys(String lockKey, String fenceKey, String queueKey, String ticketKey, String heartbeatKey) {
+            this.lockKey = lockKey;
+            this.fenceKey = fenceKey;
+            this.queueKey = queueKey;
+            this.ticketKey = ticketKey;
+            this.heartbeatKey = heartbeatKey;
+        }
+
+        private List<String> all() {
+            return List.of(lockKey, fenceKey, queueKey, ticketKey, heartbeatKey);
+        }
+    }
+}
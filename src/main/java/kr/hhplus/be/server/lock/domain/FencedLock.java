@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.lock.domain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Distributed lock that verifies ownership and hands out fencing tokens.
+ */
+public interface FencedLock extends DistributedLock {
+    /**
+     * Try to acquire lock.
+     *
+     * @param key lock key
+     * @param waitTimeMs maximum time to wait for lock acquisition in milliseconds
+     * @param leaseTimeMs lock lease time in milliseconds
+     * @return handle of the acquired lock, or empty if it could not be acquired in time
+     */
+    Optional<LockHandle> tryAcquire(String key, long waitTimeMs, long leaseTimeMs);
+
+    /**
+     * Release the lock only if it is still held by the handle's owner.
+     *
+     * @return false if the lease had already expired (and possibly been taken by someone else)
+     */
+    boolean release(LockHandle handle);
+
+    /**
+     * Reset the lease of a lock that is still held by the handle's owner.
+     *
+     * @return false if the lock is no longer held by the handle's owner
+     */
+    boolean extend(LockHandle handle, long leaseTimeMs);
+
+    /**
+     * Execute a function with lock protection, passing the lock handle so the
+     * fencing token can be forwarded to the protected resource.
+     *
+     * @throws LockAcquisitionFailedException if lock cannot be acquired
+     */
+    default <T> T executeWithLock(String key, long waitTimeMs, long leaseTimeMs, Function<LockHandle, T> function) {
+        LockHandle handle = tryAcquire(key, waitTimeMs, leaseTimeMs)
+            .orElseThrow(() -> new LockAcquisitionFailedException("Failed to acquire lock for key: " + key));
+        try {
+            return function.apply(handle);
+        } finally {
+            release(handle);
+        }
+    }
+
+    /**
+     * Same as executeWithLock, but the lease is renewed in the background while the
+     * function is running. leaseTimeMs only bounds how long a crashed holder keeps the key.
+     *
+     * @throws LockAcquisitionFailedException if lock cannot be acquired
+     */
+    <T> T executeWithWatchdog(String key, long waitTimeMs, long leaseTimeMs, Function<LockHandle, T> function);
+
+    /**
+     * Acquire several keys together: either all of them or none. Keys are taken in
+     * sorted order, so two callers asking for overlapping sets cannot deadlock.
+     *
+     * @return one handle per distinct key, in the order the keys were given
+     */
+    Optional<List<LockHandle>> tryAcquireAll(List<String> keys, long waitTimeMs, long leaseTimeMs);
+
+    /**
+     * Release handles returned by tryAcquireAll.
+     *
+     * @return false if any of the leases had already expired
+     */
+    boolean releaseAll(List<LockHandle> handles);
+
+    /**
+     * executeWithWatchdog over several keys acquired with tryAcquireAll.
+     *
+     * @throws LockAcquisitionFailedException if the keys cannot be acquired
+     */
+    <T> T executeWithWatchdog(
+        List<String> keys,
+        long waitTimeMs,
+        long leaseTimeMs,
+        Function<List<LockHandle>, T> function
+    );
+}
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.lock.domain;
+
+/**
+ * An acquired lock.
+ *
+ * ownerId identifies this acquisition; release and lease extension only succeed
+ * while Redis still holds the same owner id. fencingToken increases on every
+ * acquisition of the same key, so a write carrying an older token can be rejected
+ * by the resource even if its holder has silently lost the lock.
+ */
+public class LockHandle {
+    private final String key;
+    private final String ownerId;
+    private final long fencingToken;
+
+    public LockHandle(String key, String ownerId, long fencingToken) {
+        this.key = key;
+        this.ownerId = ownerId;
+        this.fencingToken = fencingToken;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
+}
@@ -24,6 +24,10 @@ public class UserPoint {
     @Column(name = "balance", nullable = false)
     private long balance;
 
+    // 마지막으로 차감한 락 보유자의 펜싱 토큰 (더 작은 토큰의 차감은 거부)
+    @Column(name = "fencing_token", nullable = false, columnDefinition = "bigint not null default 0")
+    private long fencingToken;
+
     protected UserPoint() {
     }
 
@@ -51,4 +55,8 @@ public class UserPoint {
     public long getBalance() {
         return balance;
     }
+
+    public long getFencingToken() {
+        return fencingToken;
+    }
 }
@@ -18,13 +18,19 @@ public interface UserPointRepository extends JpaRepository<UserPoint, Long> {
     Optional<UserPoint> findByUserIdForUpdate(@Param("userId") String userId);
 
     /**
-     * 잔액이 충분한 경우에만 차감하는 조건부 UPDATE
+     * 잔액이 충분하고 펜싱 토큰이 마지막 차감보다 클 때만 차감하는 조건부 UPDATE
      * @param userId 사용자 ID
      * @param amount 차감할 금액
-     * @return 업데이트된 행 수 (1이면 성공, 0이면 잔액 부족)
+     * @param fencingToken 분산 락 펜싱 토큰
+     * @return 업데이트된 행 수 (1이면 성공, 0이면 잔액 부족 또는 만료된 락)
      */
     @Modifying
     @Transactional
-    @Query("update UserPoint u set u.balance = u.balance - :amount where u.userId = :userId and u.balance >= :amount")
-    int deductIfSufficient(@Param("userId") String userId, @Param("amount") long amount);
+    @Query("update UserPoint u set u.balance = u.balance - :amount, u.fencingToken = :fencingToken "
+        + "where u.userId = :userId and u.balance >= :amount and u.fencingToken < :fencingToken")
+    int deductIfSufficient(
+        @Param("userId") String userId,
+        @Param("amount") long amount,
+        @Param("fencingToken") long fencingToken
+    );
 }
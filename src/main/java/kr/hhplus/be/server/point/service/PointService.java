@@ -1,6 +1,6 @@
 package kr.hhplus.be.server.point.service;
 
-import kr.hhplus.be.server.lock.adapter.redis.SpinDistributedLock;
+import kr.hhplus.be.server.lock.domain.FencedLock;
 import kr.hhplus.be.server.point.domain.UserPoint;
 import kr.hhplus.be.server.point.repository.UserPointRepository;
 import org.springframework.stereotype.Service;
@@ -9,23 +9,23 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PointService {
     private static final long LOCK_WAIT_TIME_MS = 1000; // 1 second
-    private static final long LOCK_LEASE_TIME_MS = 5000; // 5 seconds
+    private static final long LOCK_LEASE_TIME_MS = 500; // renewed by the watchdog while running
 
     private final UserPointRepository userPointRepository;
-    private final SpinDistributedLock distributedLock;
+    private final FencedLock distributedLock;
 
-    public PointService(UserPointRepository userPointRepository, SpinDistributedLock distributedLock) {
+    public PointService(UserPointRepository userPointRepository, FencedLock distributedLock) {
         this.userPointRepository = userPointRepository;
         this.distributedLock = distributedLock;
     }
 
     public UserPoint charge(String userId, long amount) {
         String lockKey = "user:point:charge:" + userId;
-        return distributedLock.executeWithLock(
+        return distributedLock.executeWithWatchdog(
             lockKey,
             LOCK_WAIT_TIME_MS,
             LOCK_LEASE_TIME_MS,
-            () -> chargeInternal(userId, amount)
+            handle -> chargeInternal(userId, amount)
         );
     }
 
@@ -49,27 +49,43 @@ public class PointService {
     }
 
     public UserPoint use(String userId, long amount) {
-        String lockKey = "user:point:use:" + userId;
-        return distributedLock.executeWithLock(
-            lockKey,
+        return distributedLock.executeWithWatchdog(
+            useLockKey(userId),
             LOCK_WAIT_TIME_MS,
             LOCK_LEASE_TIME_MS,
-            () -> useInternal(userId, amount)
+            handle -> useInternal(userId, amount, handle.getFencingToken())
         );
     }
 
+    /**
+     * 호출하는 쪽이 이미 useLockKey(userId) 락을 잡고 있을 때 사용 (결제처럼 여러 락을 한 번에 잡는 경우)
+     *
+     * @param fencingToken 호출하는 쪽이 잡은 useLockKey(userId) 락의 펜싱 토큰
+     */
+    public UserPoint useWithHeldLock(String userId, long amount, long fencingToken) {
+        return useInternal(userId, amount, fencingToken);
+    }
+
+    public static String useLockKey(String userId) {
+        return "user:point:use:" + userId;
+    }
+
     @Transactional
-    private UserPoint useInternal(String userId, long amount) {
+    private UserPoint useInternal(String userId, long amount, long fencingToken) {
         if (amount <= 0) {
             throw new IllegalArgumentException("Use amount must be positive.");
         }
 
         // 조건부 UPDATE를 사용하여 원자적으로 잔액 확인 및 차감
-        int updatedRows = userPointRepository.deductIfSufficient(userId, amount);
+        // 임대가 끝난 뒤 늦게 도착한 차감은 펜싱 토큰 비교로 거부됨
+        int updatedRows = userPointRepository.deductIfSufficient(userId, amount, fencingToken);
         if (updatedRows == 0) {
-            // 업데이트된 행이 없으면 잔액 부족 또는 사용자 없음
+            // 업데이트된 행이 없으면 잔액 부족, 사용자 없음 또는 만료된 락
             UserPoint userPoint = userPointRepository.findByUserId(userId)
                 .orElseThrow(() -> new IllegalStateException("User point not found."));
+            if (userPoint.getFencingToken() >= fencingToken) {
+                throw new IllegalStateException("Lock lease expired before point deduction.");
+            }
             throw new IllegalStateException("Insufficient points.");
         }
 
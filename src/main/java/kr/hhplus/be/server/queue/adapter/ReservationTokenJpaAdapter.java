@@ -20,9 +20,18 @@ public class ReservationTokenJpaAdapter implements ReservationTokenRepository {
 
     @Override
     @Transactional(readOnly = true)
-    public Optional<ReservationToken> findLatestByUserId(String userId) {
-        return reservationTokenJpaRepository.findFirstByUserIdOrderByCreatedAtDesc(userId)
-            .map(this::toDomain);
+    public Optional<ReservationToken> findLatestByUserId(String queueId, String userId) {
+        // 대기열 ID 는 토큰 값 앞부분에 들어 있으므로 접두사 조건으로 같은 대기열의 최신 토큰 하나만 조회
+        Optional<ReservationTokenEntity> latest = ReservationToken.GLOBAL_QUEUE.equals(queueId)
+            ? reservationTokenJpaRepository.findFirstByUserIdAndTokenNotContainingOrderByCreatedAtDesc(
+                userId,
+                String.valueOf(ReservationToken.QUEUE_SEPARATOR)
+            )
+            : reservationTokenJpaRepository.findFirstByUserIdAndTokenStartingWithOrderByCreatedAtDesc(
+                userId,
+                ReservationToken.scopeToken(queueId, "")
+            );
+        return latest.map(this::toDomain);
     }
 
     @Override
@@ -7,7 +7,17 @@ import org.springframework.data.jpa.repository.Lock;
 import jakarta.persistence.LockModeType;
 
 public interface ReservationTokenJpaRepository extends JpaRepository<ReservationTokenEntity, Long> {
-    Optional<ReservationTokenEntity> findFirstByUserIdOrderByCreatedAtDesc(String userId);
+    // 공연 날짜 대기열: 토큰 값이 "{queueId}:" 로 시작
+    Optional<ReservationTokenEntity> findFirstByUserIdAndTokenStartingWithOrderByCreatedAtDesc(
+        String userId,
+        String tokenPrefix
+    );
+
+    // 전역 대기열: 토큰 값에 대기열 구분자가 없음
+    Optional<ReservationTokenEntity> findFirstByUserIdAndTokenNotContainingOrderByCreatedAtDesc(
+        String userId,
+        String queueSeparator
+    );
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<ReservationTokenEntity> findByToken(String token);
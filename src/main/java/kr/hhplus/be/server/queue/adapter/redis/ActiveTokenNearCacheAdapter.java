@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.queue.adapter.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.port.ActiveTokenCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * ACTIVE 토큰 near-cache (Caffeine)
+ *
+ * 같은 사용자의 연속 요청은 Redis 왕복 없이 검증됩니다.
+ * 완료/만료된 토큰은 queue:token-invalidation 채널로 모든 노드에서 제거하고,
+ * 메시지를 놓치더라도 짧은 TTL 이 지나면 다시 Redis 에서 확인합니다.
+ *
+ * 적중/미스/제거 지표는 cache.* (cache=queue.active-token) 로 Actuator 에 노출됩니다.
+ */
+@Component
+public class ActiveTokenNearCacheAdapter implements ActiveTokenCache, MessageListener {
+    static final String INVALIDATION_CHANNEL = "queue:token-invalidation";
+    private static final String CACHE_NAME = "queue.active-token";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<String, ReservationToken> cache;
+
+    public ActiveTokenNearCacheAdapter(
+        RedisTemplate<String, String> redisTemplate,
+        RedisMessageListenerContainer listenerContainer,
+        MeterRegistry meterRegistry,
+        @Value("${queue.near-cache.ttl-ms:5000}") long ttlMs,
+        @Value("${queue.near-cache.max-size:10000}") long maxSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.cache = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    @Override
+    public Optional<ReservationToken> get(String token) {
+        // 호출하는 쪽에서 상태를 바꿀 수 있으므로 복사본을 반환
+        return Optional.ofNullable(cache.getIfPresent(token)).map(this::copy);
+    }
+
+    @Override
+    public void put(ReservationToken token) {
+        cache.put(token.getToken(), copy(token));
+    }
+
+    @Override
+    public void invalidate(String token) {
+        cache.invalidate(token);
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, token);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private ReservationToken copy(ReservationToken token) {
+        return ReservationToken.rebuild(
+            token.getId(),
+            token.getUserId(),
+            token.getToken(),
+            token.getStatus(),
+            token.getPosition(),
+            token.getExpiresAt(),
+            token.getCreatedAt()
+        );
+    }
+}
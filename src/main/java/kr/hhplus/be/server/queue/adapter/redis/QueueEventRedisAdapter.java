@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.queue.adapter.redis;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import kr.hhplus.be.server.queue.application.QueuePositionStreamService;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.port.QueueEventPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 승격 이벤트 Redis Pub/Sub 어댑터
+ *
+ * 리더 노드가 승격 결과를 queue:events 채널로 한 번 발행하면,
+ * 각 노드는 구독한 메시지를 로컬 SSE 연결로 fan-out 합니다.
+ * 클라이언트 수와 관계없이 승격 주기당 Redis 메시지는 한 건입니다.
+ */
+@Component
+public class QueueEventRedisAdapter implements QueueEventPublisher, MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(QueueEventRedisAdapter.class);
+    static final String QUEUE_EVENTS_CHANNEL = "queue:events";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final QueuePositionStreamService queuePositionStreamService;
+
+    public QueueEventRedisAdapter(
+        RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper,
+        QueuePositionStreamService queuePositionStreamService,
+        RedisMessageListenerContainer listenerContainer
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.queuePositionStreamService = queuePositionStreamService;
+        listenerContainer.addMessageListener(this, new ChannelTopic(QUEUE_EVENTS_CHANNEL));
+    }
+
+    @Override
+    public void publishActivated(QueueActivation activation) {
+        try {
+            String payload = objectMapper.writeValueAsString(
+                new ActivationMessage(
+                    activation.getQueueId(),
+                    activation.getActivatedUserIds(),
+                    activation.getDequeuedCount()
+                )
+            );
+            redisTemplate.convertAndSend(QUEUE_EVENTS_CHANNEL, payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize queue activation event.", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ActivationMessage payload = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8),
+                ActivationMessage.class
+            );
+            queuePositionStreamService.onActivated(
+                new QueueActivation(payload.getQueueId(), payload.getActivatedUserIds(), payload.getDequeuedCount())
+            );
+        } catch (Exception e) {
+            log.warn("Failed to handle queue event: {}", e.getMessage());
+        }
+    }
+
+    static class ActivationMessage {
+        private String queueId;
+        private List<String> activatedUserIds;
+        private int dequeuedCount;
+
+        public ActivationMessage() {
+        }
+
+        public ActivationMessage(String queueId, List<String> activatedUserIds, int dequeuedCount) {
+            this.queueId = queueId;
+            this.activatedUserIds = activatedUserIds;
+            this.dequeuedCount = dequeuedCount;
+        }
+
+        // 대기열 ID 가 없는 이전 형식 메시지는 전역 대기열로 처리
+        public String getQueueId() {
+            return queueId != null ? queueId : ReservationToken.GLOBAL_QUEUE;
+        }
+
+        public List<String> getActivatedUserIds() {
+            return activatedUserIds;
+        }
+
+        public int getDequeuedCount() {
+            return dequeuedCount;
+        }
+    }
+}
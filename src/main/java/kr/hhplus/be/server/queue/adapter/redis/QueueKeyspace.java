@@ -0,0 +1,139 @@
+package kr.hhplus.be.server.queue.adapter.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 Redis 키 구성
+ *
+ * 대기열은 공연 날짜별로 나뉘고(queueId), 대기열마다 waiting/active/expiry 키를 따로 가집니다.
+ * 전역 대기열(queueId=global)은 기존 키 이름(queue:waiting, queue:active ...)을 그대로 쓰고,
+ * 날짜 대기열은 queue:{2025-01-01}:waiting 처럼 해시 태그를 붙여 한 대기열의 키가 같은
+ * 클러스터 슬롯에 놓이게 합니다.
+ *
+ * queue.shards=K (K > 1) 이면 대기열 하나를 다시 userId 해시로 K 개 샤드에 나누고,
+ * 샤드마다 해시 태그({q0}, {2025-01-01#0} ...)를 붙입니다. 스크립트는 항상 한 샤드의
+ * 키만 KEYS 로 전달받아 다루므로 클러스터에서도 원자적으로 실행되고, 샤드가 늘어나면 부하가 여러 노드로 나뉩니다.
+ * 단, 샤드가 하나일 때의 전역 대기열은 해시 태그가 없는 기존 키 이름이므로 클러스터에서는 쓸 수 없습니다.
+ */
+@Component
+public class QueueKeyspace {
+    private static final String REGISTRY_KEY = "queue:registry"; // 대기자가 있는 queueId 집합
+
+    private final int shardCount;
+    private final List<Shard> globalShards;
+
+    public QueueKeyspace(@Value("${queue.shards:1}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("queue.shards must be at least 1.");
+        }
+        this.shardCount = shardCount;
+        this.globalShards = createShards(ReservationToken.GLOBAL_QUEUE);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public List<Shard> shards(String queueId) {
+        return ReservationToken.GLOBAL_QUEUE.equals(queueId) ? globalShards : createShards(queueId);
+    }
+
+    public Shard shard(String queueId, int index) {
+        return shards(queueId).get(index);
+    }
+
+    /**
+     * 사용자가 속한 샤드 (String.hashCode 는 JVM 간에 동일)
+     */
+    public Shard shardOf(String queueId, String userId) {
+        return shard(queueId, Math.floorMod(userId.hashCode(), shardCount));
+    }
+
+    /**
+     * 전체 한도를 샤드에 나눠 줍니다. 나머지는 앞쪽 샤드부터 하나씩 더 받습니다.
+     */
+    public int share(int total, int shardIndex) {
+        return total / shardCount + (shardIndex < total % shardCount ? 1 : 0);
+    }
+
+    public String registryKey() {
+        return REGISTRY_KEY;
+    }
+
+    private List<Shard> createShards(String queueId) {
+        boolean global = ReservationToken.GLOBAL_QUEUE.equals(queueId);
+        List<Shard> created = new ArrayList<>(shardCount);
+        if (shardCount == 1) {
+            String tag = global ? "" : "{" + queueId + "}:";
+            created.add(new Shard(queueId, 0, "queue:" + tag, "token:" + tag));
+        } else {
+            for (int i = 0; i < shardCount; i++) {
+                String tag = global ? "{q" + i + "}:" : "{" + queueId + "#" + i + "}:";
+                created.add(new Shard(queueId, i, "queue:" + tag, "token:" + tag));
+            }
+        }
+        return List.copyOf(created);
+    }
+
+    public static class Shard {
+        private final String queueId;
+        private final int index;
+        private final String queuePrefix;
+        private final String tokenPrefix;
+
+        private Shard(String queueId, int index, String queuePrefix, String tokenPrefix) {
+            this.queueId = queueId;
+            this.index = index;
+            this.queuePrefix = queuePrefix;
+            this.tokenPrefix = tokenPrefix;
+        }
+
+        public String getQueueId() {
+            return queueId;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String waitingKey() {
+            return queuePrefix + "waiting";
+        }
+
+        public String activeKey() {
+            return queuePrefix + "active";
+        }
+
+        public String activeExpiryKey() {
+            return queuePrefix + "active:expiry"; // userId -> 토큰별 만료 시각(ms)
+        }
+
+        public String exitsPrefix() {
+            return queuePrefix + "exits:"; // 초 단위 활성 토큰 이탈 수
+        }
+
+        public String exitsKey(long epochSecond) {
+            return exitsPrefix() + epochSecond;
+        }
+
+        public String metadataPrefix() {
+            return tokenPrefix + "metadata:";
+        }
+
+        public String indexPrefix() {
+            return tokenPrefix + "index:"; // token -> userId 역색인
+        }
+
+        public String metadataKey(String userId) {
+            return metadataPrefix() + userId;
+        }
+
+        public String indexKey(String token) {
+            return indexPrefix() + token;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.queue.adapter.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 Lua 스크립트 엔진
+ *
+ * 입장/활성화/해제/승격을 scripts/queue/queue.lua 하나로 처리합니다.
+ * 애플리케이션 기동 시 SCRIPT LOAD 로 SHA 를 미리 등록해 두고,
+ * 이후에는 EVALSHA 한 번으로 실행합니다. (NOSCRIPT 시 RedisTemplate 이 EVAL 로 재시도)
+ */
+@Component
+public class QueueRedisScripts {
+    private static final Logger log = LoggerFactory.getLogger(QueueRedisScripts.class);
+
+    public static final String ENQUEUE = "enqueue";
+    public static final String ACTIVATE = "activate";
+    public static final String RELEASE = "release";
+    public static final String PROMOTE = "promote";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List<Object>> queueScript;
+
+    @SuppressWarnings("unchecked")
+    public QueueRedisScripts(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.queueScript = new DefaultRedisScript<>();
+        this.queueScript.setLocation(new ClassPathResource("scripts/queue/queue.lua"));
+        // 다중 응답(MULTI)으로 받도록 List 를 지정 (원소는 문자열/숫자/목록이 섞여 있음)
+        this.queueScript.setResultType((Class<List<Object>>) (Class<?>) List.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        byte[] source = queueScript.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        String sha = redisTemplate.execute((RedisCallback<String>) connection ->
+            connection.scriptingCommands().scriptLoad(source));
+        log.info("Preloaded queue script (sha={})", sha);
+    }
+
+    /**
+     * 대기열 스크립트를 실행합니다.
+     * 스크립트가 접근하는 키는 모두 keys 에 있어야 합니다. (queue.lua 의 KEYS 설명 참고)
+     *
+     * @return { 상태, 토큰, 숫자 [, 승격된 userId 목록, 대기열에서 빠진 인원] } 형태의 결과
+     */
+    public QueueScriptResult execute(List<String> keys, String... args) {
+        List<Object> result = redisTemplate.execute(queueScript, keys, (Object[]) args);
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("Unexpected queue script result: " + result);
+        }
+        List<String> userIds = result.size() > 3 ? toStrings(result.get(3)) : List.of();
+        long dequeued = result.size() > 4 ? ((Number) result.get(4)).longValue() : 0L;
+        return new QueueScriptResult(
+            String.valueOf(result.get(0)),
+            String.valueOf(result.get(1)),
+            ((Number) result.get(2)).longValue(),
+            userIds,
+            dequeued
+        );
+    }
+
+    private List<String> toStrings(Object values) {
+        if (!(values instanceof List<?> list)) {
+            throw new IllegalStateException("Unexpected queue script result: " + values);
+        }
+        return list.stream().map(String::valueOf).toList();
+    }
+
+    public static class QueueScriptResult {
+        private final String status;
+        private final String token;
+        private final long value;
+        private final List<String> userIds; // promote 전용
+        private final long dequeued; // promote 전용
+
+        public QueueScriptResult(String status, String token, long value, List<String> userIds, long dequeued) {
+            this.status = status;
+            this.token = token;
+            this.value = value;
+            this.userIds = userIds;
+            this.dequeued = dequeued;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        public long getValue() {
+            return value;
+        }
+
+        public List<String> getUserIds() {
+            return userIds;
+        }
+
+        public long getDequeued() {
+            return dequeued;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.queue.adapter.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import kr.hhplus.be.server.queue.port.QueueThroughputPort;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초 단위 이탈 버킷(queue:exits:{epochSecond})을 합산해 이탈 속도를 계산합니다.
+ *
+ * 버킷은 대기열 스크립트가 완료/만료 시점에 INCRBY 로 기록합니다.
+ * 샤드 모드에서는 샤드마다 버킷이 따로 쌓이므로 샤드별로 MGET 해서 합산합니다.
+ * 대기열(공연 날짜)마다 따로 계산하며, 응답마다 MGET 하지 않도록 대기열별 결과를
+ * 노드 로컬에 1초간 보관합니다.
+ */
+@Component
+public class QueueThroughputRedisAdapter implements QueueThroughputPort {
+    private static final int WINDOW_SECONDS = 60;
+    private static final long CACHE_MILLIS = 1000;
+    private static final long MAX_CACHED_QUEUES = 10_000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClockProvider clockProvider;
+    private final QueueKeyspace keyspace;
+
+    private final Cache<String, Double> cachedRates = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofMillis(CACHE_MILLIS))
+        .maximumSize(MAX_CACHED_QUEUES)
+        .build();
+
+    public QueueThroughputRedisAdapter(
+        RedisTemplate<String, String> redisTemplate,
+        ClockProvider clockProvider,
+        QueueKeyspace keyspace
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.clockProvider = clockProvider;
+        this.keyspace = keyspace;
+    }
+
+    @Override
+    public double exitsPerSecond(String queueId) {
+        return cachedRates.get(queueId, this::loadExitsPerSecond);
+    }
+
+    private double loadExitsPerSecond(String queueId) {
+        long nowMs = clockProvider.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        // 진행 중인 현재 초는 제외하고 직전 60초를 합산
+        long currentSecond = nowMs / 1000;
+        long total = 0;
+        for (QueueKeyspace.Shard shard : keyspace.shards(queueId)) {
+            // 한 샤드의 버킷은 같은 해시 태그를 쓰므로 MGET 이 한 슬롯 안에서 처리됨
+            List<String> keys = new ArrayList<>(WINDOW_SECONDS);
+            for (long second = currentSecond - WINDOW_SECONDS; second < currentSecond; second++) {
+                keys.add(shard.exitsKey(second));
+            }
+            List<String> values = redisTemplate.opsForValue().multiGet(keys);
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                if (value != null) {
+                    total += Long.parseLong(value);
+                }
+            }
+        }
+
+        return (double) total / WINDOW_SECONDS;
+    }
+}
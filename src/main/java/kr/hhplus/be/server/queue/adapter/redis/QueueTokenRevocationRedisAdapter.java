@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.queue.adapter.redis;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.hhplus.be.server.queue.port.QueueTokenRevocationPort;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 무효화 목록 (queue:revoked ZSET, token -> 만료 시각 ms)
+ *
+ * 조회는 노드 로컬 사본으로 처리하고, 1초마다 Redis 에서 다시 읽어옵니다.
+ * 다른 노드에서 무효화한 토큰은 최대 1초 늦게 반영됩니다.
+ */
+@Component
+public class QueueTokenRevocationRedisAdapter implements QueueTokenRevocationPort {
+    private static final Logger log = LoggerFactory.getLogger(QueueTokenRevocationRedisAdapter.class);
+    private static final String REVOKED_TOKENS_KEY = "queue:revoked";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ClockProvider clockProvider;
+    private final boolean enabled;
+    private volatile Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
+
+    public QueueTokenRevocationRedisAdapter(
+        RedisTemplate<String, String> redisTemplate,
+        ClockProvider clockProvider,
+        @Value("${queue.signed-token.enabled:false}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.clockProvider = clockProvider;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void revoke(String token, LocalDateTime expiresAt) {
+        long expiresAtMs = expiresAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        redisTemplate.opsForZSet().add(REVOKED_TOKENS_KEY, token, expiresAtMs);
+        revokedTokens.add(token);
+    }
+
+    @Override
+    public boolean isRevoked(String token) {
+        return revokedTokens.contains(token);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long nowMs = clockProvider.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+            // 이미 만료된 토큰은 서명 검증 단계에서 걸러지므로 목록에서 제거
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_TOKENS_KEY, Double.NEGATIVE_INFINITY, nowMs);
+            Set<String> latest = redisTemplate.opsForZSet().rangeByScore(REVOKED_TOKENS_KEY, nowMs, Double.POSITIVE_INFINITY);
+
+            Set<String> refreshed = ConcurrentHashMap.newKeySet();
+            if (latest != null) {
+                refreshed.addAll(latest);
+            }
+            revokedTokens = refreshed;
+        } catch (Exception e) {
+            log.warn("Failed to refresh revoked queue tokens: {}", e.getMessage());
+        }
+    }
+}
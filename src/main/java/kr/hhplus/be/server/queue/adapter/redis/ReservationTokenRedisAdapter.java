@@ -1,96 +1,145 @@
 package kr.hhplus.be.server.queue.adapter.redis;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.hhplus.be.server.queue.adapter.redis.QueueKeyspace.Shard;
+import kr.hhplus.be.server.queue.adapter.redis.QueueRedisScripts.QueueScriptResult;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
 import kr.hhplus.be.server.queue.domain.ReservationToken;
 import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
 import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
 import org.springframework.stereotype.Component;
 
 @Primary
 @Component
-public class ReservationTokenRedisAdapter implements ReservationTokenRepository {
-    private static final String WAITING_QUEUE_KEY = "queue:waiting";
-    private static final String ACTIVE_TOKENS_KEY = "queue:active";
-    private static final String TOKEN_METADATA_PREFIX = "token:metadata:";
-    private static final int ACTIVE_TOKEN_LIMIT = 100; // 동시에 활성화할 수 있는 토큰 수
+public class ReservationTokenRedisAdapter implements ReservationTokenRepository, QueueActivationPort {
     private static final int TOKEN_TTL_SECONDS = 600; // 10 minutes
 
+    private static final String ACTIVE_STATUS = "ACTIVE";
+    private static final String WAITING_STATUS = "WAITING";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final QueueRedisScripts queueScripts;
+    private final ClockProvider clockProvider;
+    private final QueueKeyspace keyspace;
+    private final int activeLimit; // 대기열 하나에서 동시에 활성화할 수 있는 토큰 수 (전체 샤드 합계)
+    // 샤드별 승격 순서를 매 주기 한 칸씩 돌려 나머지 배분이 한 샤드에 몰리지 않게 함
+    private final AtomicInteger promoteRotation = new AtomicInteger();
 
-    public ReservationTokenRedisAdapter(RedisTemplate<String, String> redisTemplate) {
+    public ReservationTokenRedisAdapter(
+        RedisTemplate<String, String> redisTemplate,
+        QueueRedisScripts queueScripts,
+        ClockProvider clockProvider,
+        QueueKeyspace keyspace,
+        @Value("${queue.active-limit:100}") int activeLimit
+    ) {
         this.redisTemplate = redisTemplate;
+        this.queueScripts = queueScripts;
+        this.clockProvider = clockProvider;
+        this.keyspace = keyspace;
+        this.activeLimit = activeLimit;
     }
 
     @Override
-    public Optional<ReservationToken> findLatestByUserId(String userId) {
+    public Optional<ReservationToken> findLatestByUserId(String queueId, String userId) {
+        Shard shard = keyspace.shardOf(queueId, userId);
+
         // Redis Hash에서 사용자의 최신 토큰 찾기
-        String token = redisTemplate.opsForHash().get(ACTIVE_TOKENS_KEY, userId) != null 
-            ? (String) redisTemplate.opsForHash().get(ACTIVE_TOKENS_KEY, userId)
-            : null;
-        
+        String token = (String) redisTemplate.opsForHash().get(shard.activeKey(), userId);
+
         if (token != null) {
-            return findByToken(token);
+            return findByToken(shard, userId, token);
         }
-        
+
         // Active에 없으면 Waiting에서 찾기
-        Long rank = redisTemplate.opsForZSet().rank(WAITING_QUEUE_KEY, userId);
+        Long rank = redisTemplate.opsForZSet().rank(shard.waitingKey(), userId);
         if (rank != null) {
             // Waiting 큐에서 사용자 토큰 찾기 (metadata에서)
-            String metadataKey = TOKEN_METADATA_PREFIX + userId;
-            String tokenValue = redisTemplate.opsForValue().get(metadataKey);
+            String tokenValue = redisTemplate.opsForValue().get(shard.metadataKey(userId));
             if (tokenValue != null) {
-                return findByToken(tokenValue);
+                return findByToken(shard, userId, tokenValue);
             }
         }
-        
+
         return Optional.empty();
     }
 
     @Override
     public Optional<ReservationToken> findByToken(String token) {
-        // Token metadata에서 정보 조회
-        String userId = findUserIdByToken(token);
-        if (userId == null) {
-            return Optional.empty();
-        }
-        
-        LocalDateTime now = LocalDateTime.now();
-        
-        // Active 토큰 확인
-        if (Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(ACTIVE_TOKENS_KEY, userId))) {
-            String activeToken = (String) redisTemplate.opsForHash().get(ACTIVE_TOKENS_KEY, userId);
-            if (token.equals(activeToken)) {
-                LocalDateTime expiresAt = now.plusSeconds(TOKEN_TTL_SECONDS);
-                return Optional.of(ReservationToken.rebuild(
-                    null,
-                    userId,
-                    token,
-                    ReservationTokenStatus.ACTIVE,
-                    calculatePosition(userId),
-                    expiresAt,
-                    now
-                ));
+        // 대기열은 토큰 값에서, 사용자 ID 는 역색인에서 조회 - 대기열 길이와 무관하게 O(1)
+        List<Shard> shards = keyspace.shards(ReservationToken.queueIdOfToken(token));
+        if (shards.size() == 1) {
+            Shard shard = shards.get(0);
+            String userId = redisTemplate.opsForValue().get(shard.indexKey(token));
+            return userId != null ? findByToken(shard, userId, token) : Optional.empty();
+        }
+
+        // 샤드 모드: 토큰만으로는 샤드를 알 수 없으므로 대기열의 모든 샤드 역색인을 한 번에 조회
+        List<Object> userIds = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Shard shard : shards) {
+                connection.stringCommands().get(shard.indexKey(token).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        for (int i = 0; i < userIds.size(); i++) {
+            Object userId = userIds.get(i);
+            if (userId != null) {
+                return findByToken(shards.get(i), (String) userId, token);
             }
         }
-        
+        return Optional.empty();
+    }
+
+    private Optional<ReservationToken> findByToken(Shard shard, String userId, String token) {
+        LocalDateTime now = clockProvider.now();
+
+        // Active 토큰 확인
+        String activeToken = (String) redisTemplate.opsForHash().get(shard.activeKey(), userId);
+        if (token.equals(activeToken)) {
+            // 토큰별 만료 시각 - 아직 회수되지 않은 만료 토큰은 과거 시각으로 반환되어 서비스에서 만료 처리됨
+            Double expiryScore = redisTemplate.opsForZSet().score(shard.activeExpiryKey(), userId);
+            LocalDateTime expiresAt = expiryScore != null
+                ? toLocalDateTime(expiryScore.longValue())
+                : now.plusSeconds(TOKEN_TTL_SECONDS);
+            return Optional.of(ReservationToken.rebuild(
+                null,
+                userId,
+                token,
+                ReservationTokenStatus.ACTIVE,
+                0, // Active는 position 0
+                expiresAt,
+                now
+            ));
+        }
+
         // Waiting 큐 확인
-        Long rank = redisTemplate.opsForZSet().rank(WAITING_QUEUE_KEY, userId);
+        Long rank = redisTemplate.opsForZSet().rank(shard.waitingKey(), userId);
         if (rank != null) {
-            String metadataKey = TOKEN_METADATA_PREFIX + userId;
-            String storedToken = redisTemplate.opsForValue().get(metadataKey);
+            String storedToken = redisTemplate.opsForValue().get(shard.metadataKey(userId));
             if (token.equals(storedToken)) {
-                int position = rank.intValue() + 1;
-                Double score = redisTemplate.opsForZSet().score(WAITING_QUEUE_KEY, userId);
-                LocalDateTime createdAt = score != null 
-                    ? LocalDateTime.ofEpochSecond(score.longValue() / 1000, 0, ZoneOffset.UTC)
+                Double score = redisTemplate.opsForZSet().score(shard.waitingKey(), userId);
+                LocalDateTime createdAt = score != null
+                    ? toLocalDateTime(score.longValue())
                     : now;
                 LocalDateTime expiresAt = createdAt.plusSeconds(TOKEN_TTL_SECONDS);
-                
+                int position = score != null
+                    ? globalPosition(shard, rank, score.longValue())
+                    : rank.intValue() + 1;
+
                 return Optional.of(ReservationToken.rebuild(
                     null,
                     userId,
@@ -102,7 +151,7 @@ public class ReservationTokenRedisAdapter implements ReservationTokenRepository
                 ));
             }
         }
-        
+
         return Optional.empty();
     }
 
@@ -110,141 +159,230 @@ public class ReservationTokenRedisAdapter implements ReservationTokenRepository
     public ReservationToken save(ReservationToken token) {
         String userId = token.getUserId();
         String tokenValue = token.getToken();
-        
+        String queueId = token.getQueueId();
+        Shard shard = keyspace.shardOf(queueId, userId);
+        List<String> keys = List.of(shard.metadataKey(userId), shard.indexKey(tokenValue));
+
         if (token.getStatus() == ReservationTokenStatus.ACTIVE) {
-            // Active 토큰으로 등록
-            redisTemplate.opsForHash().put(ACTIVE_TOKENS_KEY, userId, tokenValue);
-            redisTemplate.expire(ACTIVE_TOKENS_KEY, java.time.Duration.ofSeconds(TOKEN_TTL_SECONDS));
-            
-            // Metadata 저장
-            String metadataKey = TOKEN_METADATA_PREFIX + userId;
-            redisTemplate.opsForValue().set(metadataKey, tokenValue, 
-                java.time.Duration.ofSeconds(TOKEN_TTL_SECONDS));
-            
-            // Waiting 큐에서 제거 (있다면)
-            redisTemplate.opsForZSet().remove(WAITING_QUEUE_KEY, userId);
-            
-            // Active 토큰 수 제한 관리
-            promoteFromWaitingQueue();
+            // Active 등록, Metadata/역색인 저장, Waiting 제거를 한 번에 처리
+            runScript(shard, QueueRedisScripts.ACTIVATE, 0, keys, userId, tokenValue);
         } else if (token.getStatus() == ReservationTokenStatus.WAITING) {
-            // Waiting 큐에 추가
+            // 중복 확인 후 Waiting 큐에 추가 (대기자가 없고 자리가 남을 때만 즉시 Active)
             long timestampMs = token.getCreatedAt().toEpochSecond(ZoneOffset.UTC) * 1000;
-            redisTemplate.opsForZSet().add(WAITING_QUEUE_KEY, userId, timestampMs);
-            redisTemplate.expire(WAITING_QUEUE_KEY, java.time.Duration.ofDays(1));
-            
-            // Metadata 저장
-            String metadataKey = TOKEN_METADATA_PREFIX + userId;
-            redisTemplate.opsForValue().set(metadataKey, tokenValue,
-                java.time.Duration.ofSeconds(TOKEN_TTL_SECONDS));
-            
-            // Waiting에서 Active로 승격 시도
-            promoteFromWaitingQueue();
-            
-            // 승격 후 상태 확인 - Active로 승격되었는지 확인
-            boolean isActive = Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(ACTIVE_TOKENS_KEY, userId));
-            if (isActive) {
-                // Active로 승격됨 - 새로운 객체 반환
-                return ReservationToken.rebuild(
-                    null,
-                    userId,
-                    tokenValue,
-                    ReservationTokenStatus.ACTIVE,
-                    0, // Active는 position 0
-                    token.getExpiresAt(),
-                    token.getCreatedAt()
-                );
+            QueueScriptResult result = runScript(
+                shard,
+                QueueRedisScripts.ENQUEUE,
+                0,
+                keys,
+                userId,
+                tokenValue,
+                String.valueOf(timestampMs),
+                String.valueOf(TOKEN_TTL_SECONDS)
+            );
+
+            // 이미 발급된 토큰이 있으면 그 토큰을, 아니면 새 토큰의 현재 상태를 반환
+            if (!ACTIVE_STATUS.equals(result.getStatus()) && !WAITING_STATUS.equals(result.getStatus())) {
+                return token;
             }
-        } else if (token.getStatus() == ReservationTokenStatus.EXPIRED 
+            boolean isActive = ACTIVE_STATUS.equals(result.getStatus());
+            if (!isActive) {
+                // 승격 주기에서 이 대기열을 찾을 수 있도록 등록 (SADD 는 멱등)
+                redisTemplate.opsForSet().add(keyspace.registryKey(), queueId);
+            }
+            int position = isActive
+                ? 0 // Active는 position 0
+                : globalPosition(shard, result.getValue() - 1, timestampMs);
+            return ReservationToken.rebuild(
+                null,
+                userId,
+                result.getToken(),
+                isActive ? ReservationTokenStatus.ACTIVE : ReservationTokenStatus.WAITING,
+                position,
+                token.getExpiresAt(),
+                token.getCreatedAt()
+            );
+        } else if (token.getStatus() == ReservationTokenStatus.EXPIRED
                 || token.getStatus() == ReservationTokenStatus.DONE) {
-            // 토큰 만료 또는 완료 처리
-            redisTemplate.opsForHash().delete(ACTIVE_TOKENS_KEY, userId);
-            redisTemplate.opsForZSet().remove(WAITING_QUEUE_KEY, userId);
-            String metadataKey = TOKEN_METADATA_PREFIX + userId;
-            redisTemplate.delete(metadataKey);
-            
-            // Active 토큰이 비워졌으므로 Waiting에서 승격
-            promoteFromWaitingQueue();
-        }
-        
+            // 토큰 만료 또는 완료 처리 (비워진 자리는 QueueActivationScheduler 가 채움)
+            runScript(shard, QueueRedisScripts.RELEASE, 0, keys, userId, tokenValue);
+        }
+
         return token;
     }
 
-    /**
-     * Waiting 큐에서 Active로 승격
-     */
-    private void promoteFromWaitingQueue() {
-        long activeCount = redisTemplate.opsForHash().size(ACTIVE_TOKENS_KEY);
-        
-        while (activeCount < ACTIVE_TOKEN_LIMIT) {
-            // 가장 오래된 사용자를 가져옴 (score가 가장 낮은 것)
-            List<String> topUsers = redisTemplate.opsForZSet()
-                .range(WAITING_QUEUE_KEY, 0, 0)
-                .stream()
-                .map(Object::toString)
-                .toList();
-            
-            if (topUsers.isEmpty()) {
-                break;
+    @Override
+    public List<QueueActivation> activateNext(int batchSize) {
+        int rotation = promoteRotation.getAndIncrement();
+        List<QueueActivation> activations = new ArrayList<>();
+        // 대기자가 있는 대기열만 순회 (활성 토큰만 남은 날짜는 건너뜀)
+        for (String queueId : waitingQueueIds()) {
+            QueueActivation activation = activateNext(queueId, batchSize, rotation);
+            if (countWaiting(queueId) == 0) {
+                unregister(queueId);
             }
-            
-            String userId = topUsers.get(0);
-            String metadataKey = TOKEN_METADATA_PREFIX + userId;
-            String tokenValue = redisTemplate.opsForValue().get(metadataKey);
-            
-            if (tokenValue != null) {
-                // Active로 이동
-                redisTemplate.opsForHash().put(ACTIVE_TOKENS_KEY, userId, tokenValue);
-                redisTemplate.opsForZSet().remove(WAITING_QUEUE_KEY, userId);
-                activeCount++;
-            } else {
-                // Metadata가 없으면 Waiting 큐에서 제거
-                redisTemplate.opsForZSet().remove(WAITING_QUEUE_KEY, userId);
+            activations.add(activation);
+        }
+        return activations;
+    }
+
+    private QueueActivation activateNext(String queueId, int batchSize, int rotation) {
+        List<Shard> shards = keyspace.shards(queueId);
+        int start = Math.floorMod(rotation, shards.size());
+
+        List<String> activatedUserIds = new ArrayList<>();
+        int dequeued = 0;
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get((start + i) % shards.size());
+            int shardBatch = keyspace.share(batchSize, i);
+            if (shardBatch == 0) {
+                continue;
             }
+            QueueScriptResult result = promote(shard, shardBatch);
+            activatedUserIds.addAll(result.getUserIds());
+            dequeued += (int) result.getDequeued();
         }
+        return new QueueActivation(queueId, activatedUserIds, dequeued);
     }
 
     /**
-     * 사용자의 현재 대기열 위치 계산
+     * 대기열 앞의 후보와 토큰을 먼저 읽어 두고, 후보별 메타데이터/역색인 키를 KEYS 로 넘겨 승격
+     * 읽은 뒤 바뀐 후보는 스크립트가 건너뛰거나 다음 주기로 넘깁니다.
      */
-    private int calculatePosition(String userId) {
-        Long rank = redisTemplate.opsForZSet().rank(WAITING_QUEUE_KEY, userId);
-        if (rank != null) {
-            return rank.intValue() + 1;
+    private QueueScriptResult promote(Shard shard, int batchSize) {
+        Set<String> head = redisTemplate.opsForZSet().range(shard.waitingKey(), 0, batchSize - 1L);
+        List<String> candidates = head != null ? new ArrayList<>(head) : List.of();
+        List<String> tokens = candidates.isEmpty()
+            ? List.of()
+            : redisTemplate.opsForValue().multiGet(candidates.stream().map(shard::metadataKey).toList());
+
+        List<String> keys = new ArrayList<>(candidates.size() * 2);
+        String[] args = new String[candidates.size() * 2];
+        for (int i = 0; i < candidates.size(); i++) {
+            String userId = candidates.get(i);
+            String token = tokens != null ? tokens.get(i) : null;
+            keys.add(shard.metadataKey(userId));
+            // 메타데이터가 없으면 스크립트가 역색인을 건드리지 않으므로 자리만 채움
+            keys.add(token != null ? shard.indexKey(token) : shard.metadataKey(userId));
+            args[i * 2] = userId;
+            args[i * 2 + 1] = token != null ? token : "";
+        }
+        return runScript(shard, QueueRedisScripts.PROMOTE, batchSize, keys, args);
+    }
+
+    // 제거 직후 입장한 사용자가 있으면 다시 등록 (입장 쪽 SADD 와의 경쟁 방지)
+    private void unregister(String queueId) {
+        redisTemplate.opsForSet().remove(keyspace.registryKey(), queueId);
+        if (countWaiting(queueId) > 0) {
+            redisTemplate.opsForSet().add(keyspace.registryKey(), queueId);
+        }
+    }
+
+    // 전역 대기열은 등록 여부와 관계없이 항상 포함 (등록 집합 도입 전 대기자 포함)
+    private Set<String> waitingQueueIds() {
+        Set<String> queueIds = new LinkedHashSet<>();
+        queueIds.add(ReservationToken.GLOBAL_QUEUE);
+        Set<String> registered = redisTemplate.opsForSet().members(keyspace.registryKey());
+        if (registered != null) {
+            queueIds.addAll(registered);
+        }
+        return queueIds;
+    }
+
+    @Override
+    public long countWaiting() {
+        long total = 0;
+        for (String queueId : waitingQueueIds()) {
+            total += countWaiting(queueId);
         }
-        
-        // Active에 있는 경우
-        if (Boolean.TRUE.equals(redisTemplate.opsForHash().hasKey(ACTIVE_TOKENS_KEY, userId))) {
-            return 0; // Active는 position 0
+        return total;
+    }
+
+    private long countWaiting(String queueId) {
+        long total = 0;
+        for (Shard shard : keyspace.shards(queueId)) {
+            Long size = redisTemplate.opsForZSet().zCard(shard.waitingKey());
+            total += size != null ? size : 0L;
+        }
+        return total;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestWaitingSince() {
+        Long oldestMs = null;
+        List<Shard> shards = new ArrayList<>();
+        for (String queueId : waitingQueueIds()) {
+            shards.addAll(keyspace.shards(queueId));
+        }
+        for (Shard shard : shards) {
+            Set<TypedTuple<String>> head = redisTemplate.opsForZSet().rangeWithScores(shard.waitingKey(), 0, 0);
+            if (head == null || head.isEmpty()) {
+                continue;
+            }
+            Double score = head.iterator().next().getScore();
+            if (score != null && (oldestMs == null || score.longValue() < oldestMs)) {
+                oldestMs = score.longValue();
+            }
         }
-        
-        return -1;
+        return Optional.ofNullable(oldestMs).map(this::toLocalDateTime);
     }
 
     /**
-     * 토큰으로 사용자 ID 찾기
+     * 전체 대기 순번 추정치
+     *
+     * 내 샤드의 순번에 다른 샤드에서 나보다 먼저 들어온 인원(ZCOUNT)을 더합니다.
+     * 샤드별 승격은 라운드로빈이라 실제 입장 순서와는 약간 다를 수 있습니다.
      */
-    private String findUserIdByToken(String token) {
-        // Active 토큰에서 찾기
-        var activeTokens = redisTemplate.opsForHash().entries(ACTIVE_TOKENS_KEY);
-        for (var entry : activeTokens.entrySet()) {
-            if (token.equals(entry.getValue())) {
-                return entry.getKey().toString();
-            }
+    private int globalPosition(Shard own, long rank, long scoreMs) {
+        if (keyspace.shardCount() == 1) {
+            return (int) rank + 1;
         }
-        
-        // Waiting 큐의 모든 사용자를 확인
-        var waitingUsers = redisTemplate.opsForZSet().range(WAITING_QUEUE_KEY, 0, -1);
-        if (waitingUsers != null) {
-            for (Object userIdObj : waitingUsers) {
-                String userId = userIdObj.toString();
-                String metadataKey = TOKEN_METADATA_PREFIX + userId;
-                String storedToken = redisTemplate.opsForValue().get(metadataKey);
-                if (token.equals(storedToken)) {
-                    return userId;
+
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Shard shard : keyspace.shards(own.getQueueId())) {
+                if (shard.getIndex() != own.getIndex()) {
+                    connection.zSetCommands().zCount(
+                        shard.waitingKey().getBytes(StandardCharsets.UTF_8),
+                        Double.NEGATIVE_INFINITY,
+                        scoreMs - 1
+                    );
                 }
             }
+            return null;
+        });
+
+        long ahead = rank;
+        for (Object count : counts) {
+            ahead += count != null ? ((Number) count).longValue() : 0L;
         }
-        
-        return null;
+        return (int) ahead + 1;
+    }
+
+    private QueueScriptResult runScript(
+        Shard shard,
+        String command,
+        int promoteBatch,
+        List<String> userKeys,
+        String... commandArgs
+    ) {
+        long nowMs = clockProvider.now().toInstant(ZoneOffset.UTC).toEpochMilli();
+        List<String> keys = new ArrayList<>(4 + userKeys.size());
+        keys.add(shard.waitingKey());
+        keys.add(shard.activeKey());
+        keys.add(shard.activeExpiryKey());
+        keys.add(shard.exitsKey(nowMs / 1000));
+        keys.addAll(userKeys);
+
+        String[] args = new String[5 + commandArgs.length];
+        args[0] = command;
+        args[1] = String.valueOf(keyspace.share(activeLimit, shard.getIndex()));
+        args[2] = String.valueOf(promoteBatch);
+        args[3] = String.valueOf(nowMs);
+        args[4] = String.valueOf(TOKEN_TTL_SECONDS * 1000L);
+        System.arraycopy(commandArgs, 0, args, 5, commandArgs.length);
+        return queueScripts.execute(keys, args);
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofEpochSecond(epochMs / 1000, 0, ZoneOffset.UTC);
     }
 }
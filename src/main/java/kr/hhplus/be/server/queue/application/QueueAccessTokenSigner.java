@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.queue.application;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명된 대기열 접근 토큰 (queue.signed-token.enabled=true 일 때만 사용)
+ *
+ * 형식: base64url("ACTIVE|만료 epochSecond|대기열 토큰|userId") + "." + base64url(HMAC-SHA256)
+ *
+ * ACTIVE 상태의 토큰에만 발급하며, 검증은 Redis 없이 로컬에서 끝납니다.
+ * 만료 전에 무효화된 토큰은 QueueTokenRevocationPort 로 걸러냅니다.
+ */
+@Component
+public class QueueAccessTokenSigner {
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = "|";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final boolean enabled;
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public QueueAccessTokenSigner(
+        @Value("${queue.signed-token.enabled:false}") boolean enabled,
+        @Value("${queue.signed-token.secret:}") String secret
+    ) {
+        this.enabled = enabled;
+        if (enabled && (secret == null || secret.length() < 32)) {
+            throw new IllegalStateException("queue.signed-token.secret must be at least 32 characters.");
+        }
+        this.key = enabled ? new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM) : null;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 서명 형식인지 확인 (UUID 대기열 토큰에는 '.' 이 없음)
+     */
+    public boolean isSigned(String value) {
+        return enabled && value != null && value.indexOf('.') > 0;
+    }
+
+    /**
+     * ACTIVE 토큰에 대한 서명 토큰을 발급합니다. 비활성화 상태이거나 ACTIVE 가 아니면 null.
+     */
+    public String sign(ReservationToken token) {
+        if (!enabled || token.getStatus() != ReservationTokenStatus.ACTIVE || token.getExpiresAt() == null) {
+            return null;
+        }
+        String payload = String.join(
+            SEPARATOR,
+            ReservationTokenStatus.ACTIVE.name(),
+            String.valueOf(token.getExpiresAt().toEpochSecond(ZoneOffset.UTC)),
+            token.getToken(),
+            token.getUserId()
+        );
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(macs.get().doFinal(payloadBytes));
+    }
+
+    /**
+     * 서명을 검증하고 토큰 내용을 복원합니다. 만료 여부는 호출하는 쪽에서 확인합니다.
+     */
+    public Optional<ReservationToken> verify(String value) {
+        if (!isSigned(value)) {
+            return Optional.empty();
+        }
+
+        int dot = value.indexOf('.');
+        byte[] payloadBytes;
+        byte[] signature;
+        try {
+            payloadBytes = DECODER.decode(value.substring(0, dot));
+            signature = DECODER.decode(value.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid queue token.");
+        }
+
+        if (!MessageDigest.isEqual(macs.get().doFinal(payloadBytes), signature)) {
+            throw new IllegalStateException("Invalid queue token.");
+        }
+
+        String[] parts = new String(payloadBytes, StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length != 4 || !ReservationTokenStatus.ACTIVE.name().equals(parts[0])) {
+            throw new IllegalStateException("Invalid queue token.");
+        }
+
+        LocalDateTime expiresAt = LocalDateTime.ofEpochSecond(Long.parseLong(parts[1]), 0, ZoneOffset.UTC);
+        return Optional.of(ReservationToken.rebuild(
+            null,
+            parts[3],
+            parts[2],
+            ReservationTokenStatus.ACTIVE,
+            0,
+            expiresAt,
+            null
+        ));
+    }
+
+    private Mac newMac() {
+        if (key == null) {
+            return null;
+        }
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize queue token signer.", e);
+        }
+    }
+}
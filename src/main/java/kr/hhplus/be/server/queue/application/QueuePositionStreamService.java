@@ -0,0 +1,340 @@
+package kr.hhplus.be.server.queue.application;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 대기 순번 SSE 스트림
+ *
+ * 연결 시점에 한 번만 Redis 에서 순번을 읽고, 이후에는 승격 이벤트만으로
+ * 로컬에서 순번을 갱신해 전송합니다. 클라이언트별 Redis 조회는 없습니다.
+ *
+ * 승격 외의 이탈(대기 중 만료, 취소)은 반영하지 않으므로 표시 순번은
+ * 실제보다 크거나 같습니다. 정확한 값이 필요하면 재연결하면 됩니다.
+ *
+ * 승격 이벤트는 Redis 리스너 스레드에서 들어오므로 여기서는 순번만 갱신하고, 실제 전송은
+ * 크기가 제한된 전송 스레드 풀에서 구독별로 한 번에 하나씩 처리합니다. 전송이 밀린 구독은
+ * 중간 순번을 건너뛰고 최신 순번만 보내며, 한 번의 전송이 send-timeout-ms 를 넘긴 느린 연결은 끊습니다.
+ */
+@Service
+public class QueuePositionStreamService {
+    private static final Logger log = LoggerFactory.getLogger(QueuePositionStreamService.class);
+    private static final long STREAM_TIMEOUT_MS = 10 * 60 * 1000L; // 토큰 유효 시간과 동일
+    static final String POSITION_EVENT = "position";
+    static final String ACTIVE_EVENT = "active";
+
+    private final ReservationTokenRepository reservationTokenRepository;
+    private final QueueWaitEstimator queueWaitEstimator;
+    private final QueueAccessTokenSigner queueAccessTokenSigner;
+    private final ThreadPoolExecutor fanOut;
+    private final long sendTimeoutNanos;
+    // queueId|userId -> 구독 (대기열별 사용자당 스트림 하나, 새로 연결하면 이전 연결은 종료)
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    public QueuePositionStreamService(
+        ReservationTokenRepository reservationTokenRepository,
+        QueueWaitEstimator queueWaitEstimator,
+        QueueAccessTokenSigner queueAccessTokenSigner,
+        @Value("${queue.stream.fan-out-threads:4}") int fanOutThreads,
+        @Value("${queue.stream.fan-out-queue-size:10000}") int fanOutQueueSize,
+        @Value("${queue.stream.send-timeout-ms:5000}") long sendTimeoutMs
+    ) {
+        this.reservationTokenRepository = reservationTokenRepository;
+        this.queueWaitEstimator = queueWaitEstimator;
+        this.queueAccessTokenSigner = queueAccessTokenSigner;
+        AtomicInteger sequence = new AtomicInteger();
+        this.fanOut = new ThreadPoolExecutor(
+            fanOutThreads,
+            fanOutThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(fanOutQueueSize),
+            runnable -> {
+                Thread thread = new Thread(runnable, "queue-stream-fan-out-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+    }
+
+    public SseEmitter subscribe(String tokenValue) {
+        ReservationToken token = reservationTokenRepository.findByToken(tokenValue)
+            .orElseThrow(() -> new IllegalStateException("Queue token not found."));
+
+        SseEmitter emitter = createEmitter();
+        if (token.getStatus() == ReservationTokenStatus.ACTIVE) {
+            sendQuietly(emitter, ACTIVE_EVENT, new QueuePositionUpdate(
+                tokenValue,
+                ReservationTokenStatus.ACTIVE,
+                0,
+                0L,
+                queueAccessTokenSigner.sign(token)
+            ));
+            emitter.complete();
+            return emitter;
+        }
+        if (token.getStatus() != ReservationTokenStatus.WAITING) {
+            throw new IllegalStateException("Queue token is not waiting.");
+        }
+
+        Subscription subscription = new Subscription(tokenValue, token.getQueueId(), emitter, token.getPosition());
+        String key = subscriptionKey(token.getQueueId(), token.getUserId());
+        emitter.onCompletion(() -> subscriptions.remove(key, subscription));
+        emitter.onTimeout(() -> subscriptions.remove(key, subscription));
+        emitter.onError(e -> subscriptions.remove(key, subscription));
+
+        Subscription previous = subscriptions.put(key, subscription);
+        if (previous != null) {
+            close(previous);
+        }
+
+        deliver(key, subscription, Delivery.POSITION);
+        return emitter;
+    }
+
+    /**
+     * 승격 이벤트를 이 노드에서 같은 대기열을 구독 중인 사용자에게 전달
+     * 순번 계산과 전송 예약만 하고 바로 반환합니다. (전송은 fan-out 스레드에서)
+     */
+    public synchronized void onActivated(QueueActivation activation) {
+        if (activation.isEmpty() || subscriptions.isEmpty()) {
+            return;
+        }
+
+        String queueId = activation.getQueueId();
+        Set<String> activated = new HashSet<>();
+        for (String userId : activation.getActivatedUserIds()) {
+            activated.add(subscriptionKey(queueId, userId));
+        }
+        int dequeued = activation.getDequeuedCount();
+
+        subscriptions.forEach((key, subscription) -> {
+            if (!subscription.queueId.equals(queueId)) {
+                return;
+            }
+            if (activated.contains(key)) {
+                // 활성화 알림이 마지막 이벤트이므로 목록에서 빼고, 전송 후 스트림 종료
+                subscription.position = 0;
+                subscriptions.remove(key, subscription);
+                deliver(key, subscription, Delivery.ACTIVE);
+                return;
+            }
+
+            int next = Math.max(1, subscription.position - dequeued);
+            if (next != subscription.position) {
+                subscription.position = next;
+                deliver(key, subscription, Delivery.POSITION);
+            }
+        });
+    }
+
+    /**
+     * 프록시 유휴 타임아웃 방지 및 끊긴 연결 정리
+     */
+    @Scheduled(fixedRate = 15000)
+    public void sendHeartbeats() {
+        subscriptions.forEach((key, subscription) -> deliver(key, subscription, Delivery.HEARTBEAT));
+    }
+
+    public int countSubscriptions() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanOut.shutdownNow();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(STREAM_TIMEOUT_MS);
+    }
+
+    private void deliver(String key, Subscription subscription, Delivery delivery) {
+        if (subscription.isStalled(sendTimeoutNanos)) {
+            log.debug("Dropping stalled queue stream {}", key);
+            drop(key, subscription);
+            return;
+        }
+        if (subscription.offer(delivery)) {
+            schedule(key, subscription);
+        }
+    }
+
+    private void schedule(String key, Subscription subscription) {
+        try {
+            fanOut.execute(() -> flush(key, subscription));
+        } catch (RejectedExecutionException e) {
+            // 전송 대기열이 가득 참, 재연결하면 최신 순번을 다시 받음
+            subscription.scheduled.set(false);
+            drop(key, subscription);
+        }
+    }
+
+    // 구독 하나의 밀린 이벤트를 최신 것만 순서대로 전송 (구독별로 한 스레드만 실행)
+    private void flush(String key, Subscription subscription) {
+        try {
+            Delivery delivery;
+            while (!subscription.closed && (delivery = subscription.pending.getAndSet(null)) != null) {
+                boolean sent = send(subscription, delivery);
+                if (subscription.closed) {
+                    // 전송이 막힌 동안 끊기로 한 연결
+                    subscription.emitter.complete();
+                    return;
+                }
+                if (!sent) {
+                    drop(key, subscription);
+                    return;
+                }
+                if (delivery == Delivery.ACTIVE) {
+                    close(subscription);
+                    return;
+                }
+            }
+        } finally {
+            subscription.scheduled.set(false);
+            // 보내는 사이에 들어온 이벤트가 있으면 다시 예약
+            if (!subscription.closed
+                && subscription.pending.get() != null
+                && subscription.scheduled.compareAndSet(false, true)) {
+                schedule(key, subscription);
+            }
+        }
+    }
+
+    private boolean send(Subscription subscription, Delivery delivery) {
+        subscription.sendStartedNanos = System.nanoTime();
+        try {
+            SseEmitter.SseEventBuilder event = switch (delivery) {
+                case HEARTBEAT -> SseEmitter.event().comment("heartbeat");
+                case POSITION -> SseEmitter.event().name(POSITION_EVENT).data(new QueuePositionUpdate(
+                    subscription.token,
+                    ReservationTokenStatus.WAITING,
+                    subscription.position,
+                    estimatedWaitSeconds(subscription),
+                    null
+                ));
+                case ACTIVE -> SseEmitter.event().name(ACTIVE_EVENT).data(new QueuePositionUpdate(
+                    subscription.token,
+                    ReservationTokenStatus.ACTIVE,
+                    0,
+                    0L,
+                    signActivated(subscription)
+                ));
+            };
+            subscription.emitter.send(event);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to send queue stream event: {}", e.getMessage());
+            return false;
+        } finally {
+            subscription.sendStartedNanos = 0;
+        }
+    }
+
+    private void drop(String key, Subscription subscription) {
+        subscriptions.remove(key, subscription);
+        close(subscription);
+    }
+
+    private void close(Subscription subscription) {
+        subscription.closed = true;
+        // 전송 중인 연결을 여기서 닫으면 같은 연결의 쓰기를 기다리게 되므로, 전송을 마친 fan-out 스레드가 닫음
+        if (subscription.sendStartedNanos == 0) {
+            subscription.emitter.complete();
+        }
+    }
+
+    // 이탈 속도는 노드 로컬에 캐시되므로 구독자 수만큼 Redis 를 조회하지 않음
+    private Long estimatedWaitSeconds(Subscription subscription) {
+        return queueWaitEstimator.estimate(subscription.queueId, subscription.position).getEstimatedWaitSeconds();
+    }
+
+    private String subscriptionKey(String queueId, String userId) {
+        return queueId + "|" + userId;
+    }
+
+    // 서명 토큰에는 실제 만료 시각이 필요하므로 이번에 활성화된 구독자만 한 번 조회
+    private String signActivated(Subscription subscription) {
+        if (!queueAccessTokenSigner.isEnabled()) {
+            return null;
+        }
+        return reservationTokenRepository.findByToken(subscription.token)
+            .map(queueAccessTokenSigner::sign)
+            .orElse(null);
+    }
+
+    private void sendQuietly(SseEmitter emitter, String eventName, QueuePositionUpdate update) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(update));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Failed to send queue stream event: {}", e.getMessage());
+        }
+    }
+
+    private enum Delivery {
+        HEARTBEAT,
+        POSITION,
+        ACTIVE
+    }
+
+    private static class Subscription {
+        private final String token;
+        private final String queueId;
+        private final SseEmitter emitter;
+        private volatile int position;
+        // 다음에 보낼 이벤트 (밀린 순번 갱신은 하나로 합쳐짐)
+        private final AtomicReference<Delivery> pending = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long sendStartedNanos; // 전송 중이 아니면 0
+        private volatile boolean closed;
+
+        private Subscription(String token, String queueId, SseEmitter emitter, int position) {
+            this.token = token;
+            this.queueId = queueId;
+            this.emitter = emitter;
+            this.position = position;
+        }
+
+        /**
+         * @return 전송 작업을 새로 예약해야 하면 true (이미 예약되어 있으면 그 작업이 보냄)
+         */
+        private boolean offer(Delivery delivery) {
+            if (delivery == Delivery.HEARTBEAT) {
+                // 보낼 이벤트가 이미 있으면 하트비트는 필요 없음
+                if (!pending.compareAndSet(null, delivery)) {
+                    return false;
+                }
+            } else {
+                pending.set(delivery);
+            }
+            return scheduled.compareAndSet(false, true);
+        }
+
+        private boolean isStalled(long timeoutNanos) {
+            long started = sendStartedNanos;
+            return started != 0 && System.nanoTime() - started > timeoutNanos;
+        }
+    }
+}
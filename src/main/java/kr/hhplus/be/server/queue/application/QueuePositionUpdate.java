@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.queue.application;
+
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+
+/**
+ * SSE 로 전송되는 대기 순번 / 활성화 알림
+ */
+public class QueuePositionUpdate {
+    private final String token;
+    private final ReservationTokenStatus status;
+    private final int position;
+    private final Long estimatedWaitSeconds;
+    private final String accessToken; // active 이벤트에만 포함
+
+    public QueuePositionUpdate(
+        String token,
+        ReservationTokenStatus status,
+        int position,
+        Long estimatedWaitSeconds,
+        String accessToken
+    ) {
+        this.token = token;
+        this.status = status;
+        this.position = position;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+        this.accessToken = accessToken;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public ReservationTokenStatus getStatus() {
+        return status;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public Long getEstimatedWaitSeconds() {
+        return estimatedWaitSeconds;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+}
@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.queue.application;
+
+/**
+ * 예상 대기 시간과 다음 폴링 권장 간격
+ *
+ * estimatedWaitSeconds 는 이탈 속도를 알 수 없으면 null 입니다.
+ */
+public class QueueWaitEstimate {
+    private final Long estimatedWaitSeconds;
+    private final int pollAfterSeconds;
+
+    public QueueWaitEstimate(Long estimatedWaitSeconds, int pollAfterSeconds) {
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+        this.pollAfterSeconds = pollAfterSeconds;
+    }
+
+    public Long getEstimatedWaitSeconds() {
+        return estimatedWaitSeconds;
+    }
+
+    public int getPollAfterSeconds() {
+        return pollAfterSeconds;
+    }
+}
@@ -0,0 +1,48 @@
+package kr.hhplus.be.server.queue.application;
+
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueThroughputPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 순번과 최근 이탈 속도로 예상 대기 시간을 계산합니다.
+ *
+ * 폴링 권장 간격은 예상 대기 시간의 1/4 로, 입장이 가까울수록 짧아지고
+ * 멀수록 길어집니다. (1초 ~ 30초)
+ */
+@Component
+public class QueueWaitEstimator {
+    private static final int MIN_POLL_SECONDS = 1;
+    private static final int MAX_POLL_SECONDS = 30;
+    private static final int UNKNOWN_RATE_POLL_SECONDS = 10; // 이탈 이력이 없을 때
+    private static final int POLL_FRACTION = 4;
+
+    private final QueueThroughputPort queueThroughputPort;
+
+    public QueueWaitEstimator(QueueThroughputPort queueThroughputPort) {
+        this.queueThroughputPort = queueThroughputPort;
+    }
+
+    public QueueWaitEstimate estimate(ReservationToken token) {
+        if (token.getStatus() != ReservationTokenStatus.WAITING) {
+            return new QueueWaitEstimate(0L, 0);
+        }
+        return estimate(token.getQueueId(), token.getPosition());
+    }
+
+    /**
+     * 대기 시간은 같은 대기열(공연 날짜)의 이탈 속도로만 계산합니다.
+     */
+    public QueueWaitEstimate estimate(String queueId, int position) {
+        double rate = queueThroughputPort.exitsPerSecond(queueId);
+        if (rate <= 0) {
+            return new QueueWaitEstimate(null, UNKNOWN_RATE_POLL_SECONDS);
+        }
+
+        long waitSeconds = (long) Math.ceil(position / rate);
+        long pollAfter = waitSeconds / POLL_FRACTION;
+        int pollAfterSeconds = (int) Math.max(MIN_POLL_SECONDS, Math.min(MAX_POLL_SECONDS, pollAfter));
+        return new QueueWaitEstimate(waitSeconds, pollAfterSeconds);
+    }
+}
@@ -2,30 +2,54 @@ package kr.hhplus.be.server.queue.application;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
 import kr.hhplus.be.server.queue.domain.ReservationToken;
 import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.ActiveTokenCache;
+import kr.hhplus.be.server.queue.port.QueueTokenRevocationPort;
 import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
 import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.DeadlineTimers;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ReservationTokenService {
     private static final int TOKEN_TTL_MINUTES = 10;
+    private static final String TIMER_KEY_PREFIX = "queue:token:";
 
     private final ReservationTokenRepository reservationTokenRepository;
     private final ClockProvider clockProvider;
+    private final QueueAccessTokenSigner queueAccessTokenSigner;
+    private final QueueTokenRevocationPort queueTokenRevocationPort;
+    private final ActiveTokenCache activeTokenCache;
+    private final DeadlineTimers deadlineTimers;
 
     public ReservationTokenService(
         ReservationTokenRepository reservationTokenRepository,
-        ClockProvider clockProvider
+        ClockProvider clockProvider,
+        QueueAccessTokenSigner queueAccessTokenSigner,
+        QueueTokenRevocationPort queueTokenRevocationPort,
+        ActiveTokenCache activeTokenCache,
+        DeadlineTimers deadlineTimers
     ) {
         this.reservationTokenRepository = reservationTokenRepository;
         this.clockProvider = clockProvider;
+        this.queueAccessTokenSigner = queueAccessTokenSigner;
+        this.queueTokenRevocationPort = queueTokenRevocationPort;
+        this.activeTokenCache = activeTokenCache;
+        this.deadlineTimers = deadlineTimers;
     }
 
     public ReservationToken issue(String userId) {
+        return issue(userId, ReservationToken.GLOBAL_QUEUE);
+    }
+
+    /**
+     * 대기열(공연 날짜)별로 토큰을 발급합니다. 활성 인원 한도도 대기열마다 따로 적용됩니다.
+     */
+    public ReservationToken issue(String userId, String queueId) {
         LocalDateTime now = clockProvider.now();
-        var existing = reservationTokenRepository.findLatestByUserId(userId);
+        var existing = reservationTokenRepository.findLatestByUserId(queueId, userId);
         if (existing.isPresent()) {
             ReservationToken token = existing.get();
             if (!token.isExpired(now) && token.isActiveOrWaiting()) {
@@ -34,11 +58,12 @@ public class ReservationTokenService {
             if (token.isExpired(now) && token.getStatus() != ReservationTokenStatus.EXPIRED) {
                 token.expire(now);
                 reservationTokenRepository.save(token);
+                activeTokenCache.invalidate(token.getToken());
             }
         }
 
         // 새 토큰을 WAITING 상태로 생성 (Redis 어댑터가 처리함)
-        String tokenValue = UUID.randomUUID().toString();
+        String tokenValue = ReservationToken.scopeToken(queueId, UUID.randomUUID().toString());
         LocalDateTime createdAt = now;
         
         // WAITING 상태로 토큰 생성
@@ -52,18 +77,47 @@ public class ReservationTokenService {
             createdAt
         );
         
-        // Redis 어댑터가 WAITING 큐에 추가하고 필요시 ACTIVE로 승격
-        return reservationTokenRepository.save(newToken);
+        // Redis 어댑터는 WAITING 큐에 넣기만 함 (승격은 QueueActivationScheduler 담당)
+        ReservationToken saved = reservationTokenRepository.save(newToken);
+        if (saved.getStatus() == ReservationTokenStatus.ACTIVE) {
+            // 대기자가 없어 바로 입장한 경우
+            scheduleExpiry(queueId, userId, saved.getExpiresAt());
+        }
+        return saved;
+    }
+
+    /**
+     * 승격된 사용자의 활성 토큰 만료 타이머를 등록합니다. (승격을 실행한 노드에만 등록)
+     * 서명 토큰으로만 요청하는 사용자도 여기서 등록되므로 만료 시각에 자리가 비워집니다.
+     */
+    public void scheduleExpiry(QueueActivation activation) {
+        LocalDateTime deadline = clockProvider.now().plusMinutes(TOKEN_TTL_MINUTES);
+        for (String userId : activation.getActivatedUserIds()) {
+            scheduleExpiry(activation.getQueueId(), userId, deadline);
+        }
     }
 
     public ReservationToken validateActive(String tokenValue) {
         LocalDateTime now = clockProvider.now();
+
+        // 서명 토큰은 Redis 조회 없이 로컬에서 검증
+        if (queueAccessTokenSigner.isSigned(tokenValue)) {
+            return validateSigned(tokenValue, now);
+        }
+
+        // 최근 검증된 ACTIVE 토큰은 노드 로컬 캐시에서 확인
+        var cached = activeTokenCache.get(tokenValue);
+        if (cached.isPresent() && !cached.get().isExpired(now)) {
+            return cached.get();
+        }
+
         ReservationToken token = reservationTokenRepository.findByToken(tokenValue)
             .orElseThrow(() -> new IllegalStateException("Queue token not found."));
 
         if (token.isExpired(now)) {
             token.expire(now);
             reservationTokenRepository.save(token);
+            activeTokenCache.invalidate(tokenValue);
             throw new IllegalStateException("Queue token expired.");
         }
 
@@ -71,12 +125,78 @@ public class ReservationTokenService {
             throw new IllegalStateException("Queue token is not active.");
         }
 
+        activeTokenCache.put(token);
+        // 활성화 시점에 등록한 타이머가 재시작 등으로 사라졌어도 다시 등록되도록 캐시에 새로 넣을 때 갱신
+        scheduleExpiry(token.getQueueId(), token.getUserId(), token.getExpiresAt());
+        return token;
+    }
+
+    /**
+     * 날짜 대기열 토큰은 해당 날짜에서만 사용할 수 있습니다. (전역 대기열 토큰은 모든 날짜에서 허용)
+     */
+    public ReservationToken validateActive(String tokenValue, String queueId) {
+        ReservationToken token = validateActive(tokenValue);
+        String tokenQueueId = token.getQueueId();
+        if (!tokenQueueId.equals(ReservationToken.GLOBAL_QUEUE) && !tokenQueueId.equals(queueId)) {
+            throw new IllegalStateException("Queue token is for another concert date.");
+        }
         return token;
     }
 
     public void complete(String tokenValue) {
         ReservationToken token = validateActive(tokenValue);
+        revokeSigned(token);
         token.complete();
         reservationTokenRepository.save(token);
+        activeTokenCache.invalidate(token.getToken());
+        deadlineTimers.cancel(timerKey(token.getQueueId(), token.getUserId()));
+    }
+
+    /**
+     * ACTIVE 토큰에 대한 서명 토큰 (queue.signed-token.enabled=false 이거나 ACTIVE 가 아니면 null)
+     */
+    public String signAccessToken(ReservationToken token) {
+        return queueAccessTokenSigner.sign(token);
+    }
+
+    private ReservationToken validateSigned(String tokenValue, LocalDateTime now) {
+        ReservationToken token = queueAccessTokenSigner.verify(tokenValue)
+            .orElseThrow(() -> new IllegalStateException("Queue token not found."));
+
+        if (token.isExpired(now)) {
+            throw new IllegalStateException("Queue token expired.");
+        }
+        if (queueTokenRevocationPort.isRevoked(token.getToken())) {
+            throw new IllegalStateException("Queue token is not active.");
+        }
+        return token;
+    }
+
+    // 만료 시각에 바로 만료 처리해서 자리를 비움 (타이밍 휠 사용 시, 같은 사용자의 이전 타이머는 교체됨)
+    private void scheduleExpiry(String queueId, String userId, LocalDateTime deadline) {
+        deadlineTimers.schedule(timerKey(queueId, userId), deadline, () -> expireIfDue(queueId, userId));
+    }
+
+    // 승격 결과에는 토큰 값이 없으므로 대기열과 사용자로 타이머를 구분
+    private String timerKey(String queueId, String userId) {
+        return TIMER_KEY_PREFIX + queueId + "|" + userId;
+    }
+
+    private void expireIfDue(String queueId, String userId) {
+        LocalDateTime now = clockProvider.now();
+        reservationTokenRepository.findLatestByUserId(queueId, userId)
+            .filter(token -> token.getStatus() == ReservationTokenStatus.ACTIVE && token.isExpired(now))
+            .ifPresent(token -> {
+                token.expire(now);
+                reservationTokenRepository.save(token);
+                activeTokenCache.invalidate(token.getToken());
+            });
+    }
+
+    // 만료 전에 종료된 토큰의 서명 토큰이 다른 노드에서 계속 통과하지 않도록 무효화
+    private void revokeSigned(ReservationToken token) {
+        if (queueAccessTokenSigner.isEnabled() && token.getExpiresAt() != null) {
+            queueTokenRevocationPort.revoke(token.getToken(), token.getExpiresAt());
+        }
     }
 }
@@ -1,28 +1,58 @@
 package kr.hhplus.be.server.queue.controller;
 
+import kr.hhplus.be.server.queue.application.QueuePositionStreamService;
+import kr.hhplus.be.server.queue.application.QueueWaitEstimator;
 import kr.hhplus.be.server.queue.application.ReservationTokenService;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/queue/tokens")
 public class ReservationTokenController {
     private final ReservationTokenService reservationTokenService;
+    private final QueuePositionStreamService queuePositionStreamService;
+    private final QueueWaitEstimator queueWaitEstimator;
 
-    public ReservationTokenController(ReservationTokenService reservationTokenService) {
+    public ReservationTokenController(
+        ReservationTokenService reservationTokenService,
+        QueuePositionStreamService queuePositionStreamService,
+        QueueWaitEstimator queueWaitEstimator
+    ) {
         this.reservationTokenService = reservationTokenService;
+        this.queuePositionStreamService = queuePositionStreamService;
+        this.queueWaitEstimator = queueWaitEstimator;
     }
 
     @PostMapping
     public ReservationTokenResponse issue(@RequestBody ReservationTokenRequest request) {
-        var token = reservationTokenService.issue(request.getUserId());
+        var token = reservationTokenService.issue(
+            request.getUserId(),
+            ReservationToken.queueIdOf(request.getConcertDate())
+        );
+        var estimate = queueWaitEstimator.estimate(token);
         return new ReservationTokenResponse(
             token.getToken(),
             token.getStatus(),
             token.getPosition(),
-            token.getExpiresAt()
+            token.getExpiresAt(),
+            estimate.getEstimatedWaitSeconds(),
+            estimate.getPollAfterSeconds(),
+            reservationTokenService.signAccessToken(token)
         );
     }
+
+    /**
+     * 대기 순번 변경과 활성화 시점을 SSE 로 전달 (폴링 대체)
+     */
+    @GetMapping(value = "/{token}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable String token) {
+        return queuePositionStreamService.subscribe(token);
+    }
 }
@@ -1,7 +1,10 @@
 package kr.hhplus.be.server.queue.controller;
 
+import java.time.LocalDate;
+
 public class ReservationTokenRequest {
     private String userId;
+    private LocalDate concertDate; // 없으면 전역 대기열
 
     public ReservationTokenRequest() {
     }
@@ -10,7 +13,16 @@ public class ReservationTokenRequest {
         this.userId = userId;
     }
 
+    public ReservationTokenRequest(String userId, LocalDate concertDate) {
+        this.userId = userId;
+        this.concertDate = concertDate;
+    }
+
     public String getUserId() {
         return userId;
     }
+
+    public LocalDate getConcertDate() {
+        return concertDate;
+    }
 }
@@ -8,17 +8,26 @@ public class ReservationTokenResponse {
     private final ReservationTokenStatus status;
     private final int position;
     private final LocalDateTime expiresAt;
+    private final Long estimatedWaitSeconds; // 이탈 속도를 모르면 null
+    private final int pollAfterSeconds; // 다음 조회 권장 간격
+    private final String accessToken; // 서명 토큰 (ACTIVE 이고 기능이 켜져 있을 때만)
 
     public ReservationTokenResponse(
         String token,
         ReservationTokenStatus status,
         int position,
-        LocalDateTime expiresAt
+        LocalDateTime expiresAt,
+        Long estimatedWaitSeconds,
+        int pollAfterSeconds,
+        String accessToken
     ) {
         this.token = token;
         this.status = status;
         this.position = position;
         this.expiresAt = expiresAt;
+        this.estimatedWaitSeconds = estimatedWaitSeconds;
+        this.pollAfterSeconds = pollAfterSeconds;
+        this.accessToken = accessToken;
     }
 
     public String getToken() {
@@ -36,4 +45,16 @@ public class ReservationTokenResponse {
     public LocalDateTime getExpiresAt() {
         return expiresAt;
     }
+
+    public Long getEstimatedWaitSeconds() {
+        return estimatedWaitSeconds;
+    }
+
+    public int getPollAfterSeconds() {
+        return pollAfterSeconds;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
 }
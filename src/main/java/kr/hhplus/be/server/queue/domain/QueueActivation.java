@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.util.List;
+
+/**
+ * 한 번의 승격 주기에서 대기열 하나의 결과
+ *
+ * dequeuedCount 는 대기열 앞에서 빠져나간 인원으로, 메타데이터가 만료되어
+ * 활성화되지 못하고 제거된 사용자까지 포함합니다. (남은 대기자의 순번 감소량)
+ */
+public class QueueActivation {
+    private final String queueId;
+    private final List<String> activatedUserIds;
+    private final int dequeuedCount;
+
+    public QueueActivation(String queueId, List<String> activatedUserIds, int dequeuedCount) {
+        this.queueId = queueId;
+        this.activatedUserIds = List.copyOf(activatedUserIds);
+        this.dequeuedCount = dequeuedCount;
+    }
+
+    public QueueActivation(List<String> activatedUserIds, int dequeuedCount) {
+        this(ReservationToken.GLOBAL_QUEUE, activatedUserIds, dequeuedCount);
+    }
+
+    public static QueueActivation empty() {
+        return new QueueActivation(List.of(), 0);
+    }
+
+    public String getQueueId() {
+        return queueId;
+    }
+
+    public List<String> getActivatedUserIds() {
+        return activatedUserIds;
+    }
+
+    public int getActivatedCount() {
+        return activatedUserIds.size();
+    }
+
+    public int getDequeuedCount() {
+        return dequeuedCount;
+    }
+
+    public boolean isEmpty() {
+        return dequeuedCount == 0;
+    }
+}
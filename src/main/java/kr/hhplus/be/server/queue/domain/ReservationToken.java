@@ -1,8 +1,12 @@
 package kr.hhplus.be.server.queue.domain;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 public class ReservationToken {
+    public static final String GLOBAL_QUEUE = "global"; // 공연 날짜를 지정하지 않은 기존 단일 대기열
+    public static final char QUEUE_SEPARATOR = ':';
+
     private Long id;
     private final String userId;
     private final String token;
@@ -51,6 +55,32 @@ public class ReservationToken {
         return new ReservationToken(id, userId, token, status, position, expiresAt, createdAt);
     }
 
+    /**
+     * 공연 날짜별 대기열 ID (날짜가 없으면 전역 대기열)
+     */
+    public static String queueIdOf(LocalDate concertDate) {
+        return concertDate == null ? GLOBAL_QUEUE : concertDate.toString();
+    }
+
+    /**
+     * 토큰 값 앞에 대기열 ID 를 붙여 토큰만으로 대기열을 찾을 수 있게 합니다.
+     * 전역 대기열 토큰은 기존과 같은 형태를 유지합니다.
+     */
+    public static String scopeToken(String queueId, String tokenValue) {
+        if (GLOBAL_QUEUE.equals(queueId)) {
+            return tokenValue;
+        }
+        if (queueId.indexOf(QUEUE_SEPARATOR) >= 0 || queueId.indexOf('{') >= 0 || queueId.indexOf('}') >= 0) {
+            throw new IllegalStateException("Invalid queue id.");
+        }
+        return queueId + QUEUE_SEPARATOR + tokenValue;
+    }
+
+    public static String queueIdOfToken(String tokenValue) {
+        int separator = tokenValue.indexOf(QUEUE_SEPARATOR);
+        return separator > 0 ? tokenValue.substring(0, separator) : GLOBAL_QUEUE;
+    }
+
     public boolean isExpired(LocalDateTime now) {
         return expiresAt != null && expiresAt.isBefore(now);
     }
@@ -84,6 +114,10 @@ public class ReservationToken {
         return token;
     }
 
+    public String getQueueId() {
+        return queueIdOfToken(token);
+    }
+
     public ReservationTokenStatus getStatus() {
         return status;
     }
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.queue.port;
+
+import java.util.Optional;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+
+/**
+ * 검증된 ACTIVE 토큰의 노드 로컬 캐시
+ */
+public interface ActiveTokenCache {
+    Optional<ReservationToken> get(String token);
+
+    void put(ReservationToken token);
+
+    /**
+     * 모든 노드의 캐시에서 토큰을 제거합니다. (완료/만료 시 호출)
+     */
+    void invalidate(String token);
+}
@@ -0,0 +1,28 @@
+package kr.hhplus.be.server.queue.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+
+/**
+ * 대기열 -> 활성 토큰 일괄 승격 포트
+ */
+public interface QueueActivationPort {
+    /**
+     * 대기자가 있는 대기열마다 빈 자리만큼, 최대 batchSize 명을 앞에서부터 활성화합니다.
+     *
+     * @return 대기열별 활성화된 사용자와 대기열에서 빠진 인원
+     */
+    List<QueueActivation> activateNext(int batchSize);
+
+    /**
+     * 모든 대기열의 대기 인원 합계
+     */
+    long countWaiting();
+
+    /**
+     * 모든 대기열을 통틀어 가장 오래 기다린 사용자의 대기 시작 시각
+     */
+    Optional<LocalDateTime> findOldestWaitingSince();
+}
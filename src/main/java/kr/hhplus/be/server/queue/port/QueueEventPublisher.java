@@ -0,0 +1,10 @@
+package kr.hhplus.be.server.queue.port;
+
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+
+/**
+ * 승격 결과를 모든 노드에 전파하는 포트
+ */
+public interface QueueEventPublisher {
+    void publishActivated(QueueActivation activation);
+}
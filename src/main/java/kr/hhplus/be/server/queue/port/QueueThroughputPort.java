@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.queue.port;
+
+/**
+ * 활성 토큰 이탈(완료/만료) 속도 조회 포트
+ */
+public interface QueueThroughputPort {
+    /**
+     * 대기열 하나의 최근 구간 초당 평균 이탈 수 (= 그 대기열의 입장 속도)
+     */
+    double exitsPerSecond(String queueId);
+}
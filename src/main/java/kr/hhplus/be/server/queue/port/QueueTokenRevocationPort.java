@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.queue.port;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 전에 무효화된 대기열 토큰 목록
+ */
+public interface QueueTokenRevocationPort {
+    /**
+     * 토큰을 무효화합니다. 항목은 토큰 만료 시각 이후 정리됩니다.
+     */
+    void revoke(String token, LocalDateTime expiresAt);
+
+    boolean isRevoked(String token);
+}
@@ -4,7 +4,14 @@ import java.util.Optional;
 import kr.hhplus.be.server.queue.domain.ReservationToken;
 
 public interface ReservationTokenRepository {
-    Optional<ReservationToken> findLatestByUserId(String userId);
+    /**
+     * 대기열 하나에서 사용자의 최신 토큰
+     */
+    Optional<ReservationToken> findLatestByUserId(String queueId, String userId);
+
+    default Optional<ReservationToken> findLatestByUserId(String userId) {
+        return findLatestByUserId(ReservationToken.GLOBAL_QUEUE, userId);
+    }
 
     Optional<ReservationToken> findByToken(String token);
 
@@ -0,0 +1,120 @@
+package kr.hhplus.be.server.queue.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.hhplus.be.server.lock.domain.DistributedLock;
+import kr.hhplus.be.server.queue.application.ReservationTokenService;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
+import kr.hhplus.be.server.queue.port.QueueEventPublisher;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 일괄 활성화 스케줄러
+ *
+ * 요청 스레드에서 승격하지 않고, 정해진 주기마다 대기열(공연 날짜)별로 최대 batchSize 명을
+ * 활성화합니다. (기본값: 2초마다 대기열당 500명) 대기자가 있는 대기열만 순회합니다.
+ *
+ * 여러 노드 중 리더 락을 잡은 한 노드만 실행합니다. 락은 해제하지 않고 주기만큼 유지해서
+ * 노드 수와 관계없이 클러스터 전체에서 주기당 한 번만 승격되도록 합니다.
+ *
+ * 승격 결과는 대기열마다 QueueEventPublisher 로 한 번 발행되어 모든 노드의 SSE 구독자에게 전달됩니다.
+ * 승격된 토큰의 만료 타이머는 승격을 실행한 이 노드에 등록합니다.
+ */
+@Component
+public class QueueActivationScheduler {
+    private static final Logger log = LoggerFactory.getLogger(QueueActivationScheduler.class);
+    private static final String LEADER_LOCK_KEY = "queue:activation:leader";
+
+    private final QueueActivationPort queueActivationPort;
+    private final QueueEventPublisher queueEventPublisher;
+    private final ReservationTokenService reservationTokenService;
+    private final DistributedLock distributedLock;
+    private final ClockProvider clockProvider;
+    private final long intervalMs;
+    private final int batchSize;
+
+    private final Counter admittedCounter;
+    private final AtomicLong backlogSize = new AtomicLong();
+    private final AtomicLong oldestWaiterAgeSeconds = new AtomicLong();
+
+    public QueueActivationScheduler(
+        QueueActivationPort queueActivationPort,
+        QueueEventPublisher queueEventPublisher,
+        ReservationTokenService reservationTokenService,
+        @Qualifier("leaderLock") DistributedLock distributedLock,
+        ClockProvider clockProvider,
+        MeterRegistry meterRegistry,
+        @Value("${queue.activation.interval-ms:2000}") long intervalMs,
+        @Value("${queue.activation.batch-size:500}") int batchSize
+    ) {
+        this.queueActivationPort = queueActivationPort;
+        this.queueEventPublisher = queueEventPublisher;
+        this.reservationTokenService = reservationTokenService;
+        this.distributedLock = distributedLock;
+        this.clockProvider = clockProvider;
+        this.intervalMs = intervalMs;
+        this.batchSize = batchSize;
+
+        // 초당 입장 인원은 counter 의 rate 로 확인
+        this.admittedCounter = Counter.builder("queue.activation.admitted")
+            .description("Users moved from waiting queue to active")
+            .register(meterRegistry);
+        Gauge.builder("queue.waiting.size", backlogSize, AtomicLong::get)
+            .description("Users waiting in queue (updated by the activation leader)")
+            .register(meterRegistry);
+        Gauge.builder("queue.waiting.oldest.age", oldestWaiterAgeSeconds, AtomicLong::get)
+            .description("Age of the oldest waiting user (updated by the activation leader)")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.activation.interval-ms:2000}")
+    public void activateWaitingUsers() {
+        // 다른 노드가 이번 주기를 이미 처리했으면 건너뜀
+        if (!distributedLock.tryLock(LEADER_LOCK_KEY, 0, intervalMs)) {
+            return;
+        }
+
+        try {
+            List<QueueActivation> activations = queueActivationPort.activateNext(batchSize);
+            for (QueueActivation activation : activations) {
+                admittedCounter.increment(activation.getActivatedCount());
+                if (!activation.isEmpty()) {
+                    log.debug("Activated {} waiting users in queue {}",
+                        activation.getActivatedCount(), activation.getQueueId());
+                    queueEventPublisher.publishActivated(activation);
+                    reservationTokenService.scheduleExpiry(activation);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to activate waiting users: {}", e.getMessage(), e);
+        }
+
+        refreshBacklogMetrics();
+    }
+
+    private void refreshBacklogMetrics() {
+        try {
+            backlogSize.set(queueActivationPort.countWaiting());
+            LocalDateTime now = clockProvider.now();
+            long ageSeconds = queueActivationPort.findOldestWaitingSince()
+                .map(since -> Math.max(0L, Duration.between(since, now).getSeconds()))
+                .orElse(0L);
+            oldestWaiterAgeSeconds.set(ageSeconds);
+        } catch (Exception e) {
+            log.warn("Failed to refresh queue backlog metrics: {}", e.getMessage());
+        }
+    }
+}
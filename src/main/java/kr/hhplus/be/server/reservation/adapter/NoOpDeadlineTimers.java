@@ -0,0 +1,24 @@
+package kr.hhplus.be.server.reservation.adapter;
+
+import java.time.LocalDateTime;
+import kr.hhplus.be.server.reservation.port.DeadlineTimers;
+
+/**
+ * 타이밍 휠을 쓰지 않을 때의 타이머 (만료는 기존 스케줄러와 조회 시점 확인으로 처리)
+ */
+public class NoOpDeadlineTimers implements DeadlineTimers {
+    @Override
+    public void schedule(String key, LocalDateTime deadline, Runnable onExpiry) {
+        // no-op
+    }
+
+    @Override
+    public void cancel(String key) {
+        // no-op
+    }
+
+    @Override
+    public long pending() {
+        return 0;
+    }
+}
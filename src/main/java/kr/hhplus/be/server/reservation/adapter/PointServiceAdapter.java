@@ -21,4 +21,14 @@ public class PointServiceAdapter implements UserBalanceRepository {
     public void use(String userId, long amount) {
         pointService.use(userId, amount);
     }
+
+    @Override
+    public String useLockKey(String userId) {
+        return PointService.useLockKey(userId);
+    }
+
+    @Override
+    public void use(String userId, long amount, long fencingToken) {
+        pointService.useWithHeldLock(userId, amount, fencingToken);
+    }
 }
@@ -40,6 +40,18 @@ public class ReservationJpaAdapter implements SeatReservationRepository {
         return reservation;
     }
 
+    @Override
+    @Transactional
+    public Reservation save(Reservation reservation, long fencingToken) {
+        // findById 는 PESSIMISTIC_WRITE 이므로 토큰 비교와 변경이 한 행 잠금 안에서 이루어짐
+        ReservationEntity entity = reservationJpaRepository.findById(reservation.getId())
+            .orElseThrow(() -> new IllegalStateException("Reservation not found."));
+        entity.applyFencingToken(fencingToken);
+        entity.updateStatus(reservation.getStatus(), reservation.getExpiresAt());
+        reservationJpaRepository.save(entity);
+        return reservation;
+    }
+
     @Override
     @Transactional
     public void expireActiveBySeatId(Long seatId, LocalDateTime expiredAt) {
@@ -1,11 +1,10 @@
 package kr.hhplus.be.server.reservation.adapter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.IntStream;
-import kr.hhplus.be.server.concert.domain.ConcertDate;
+import java.util.Optional;
 import kr.hhplus.be.server.concert.domain.Seat;
-import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
 import kr.hhplus.be.server.reservation.port.SeatPort;
 import org.springframework.stereotype.Component;
@@ -13,33 +12,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class SeatJpaAdapter implements SeatPort {
-    private static final int MAX_SEAT_NUMBER = 50;
-
-    private final ConcertDateRepository concertDateRepository;
     private final SeatRepository seatRepository;
 
-    public SeatJpaAdapter(ConcertDateRepository concertDateRepository, SeatRepository seatRepository) {
-        this.concertDateRepository = concertDateRepository;
+    public SeatJpaAdapter(SeatRepository seatRepository) {
         this.seatRepository = seatRepository;
     }
 
     @Override
     @Transactional
     public kr.hhplus.be.server.reservation.domain.Seat loadForUpdate(LocalDate concertDate, int seatNumber) {
-        ConcertDate dateEntity = concertDateRepository.findByConcertDate(concertDate)
-            .orElseGet(() -> concertDateRepository.save(new ConcertDate(concertDate)));
-
         Seat seatEntity = seatRepository.findForUpdateByDateAndSeatNumber(concertDate, seatNumber)
-            .orElseGet(() -> {
-                if (seatRepository.countByConcertDateId(dateEntity.getId()) == 0) {
-                    List<Seat> seats = IntStream.rangeClosed(1, MAX_SEAT_NUMBER)
-                        .mapToObj(number -> Seat.available(dateEntity, number))
-                        .toList();
-                    seatRepository.saveAll(seats);
-                }
-                return seatRepository.findForUpdateByDateAndSeatNumber(concertDate, seatNumber)
-                    .orElseThrow(() -> new IllegalStateException("Seat not found."));
-            });
+            .orElseThrow(() -> new IllegalStateException("Seat not found."));
 
         return toDomain(seatEntity);
     }
@@ -52,6 +35,14 @@ public class SeatJpaAdapter implements SeatPort {
         return toDomain(seatEntity);
     }
 
+    @Override
+    @Transactional
+    public List<kr.hhplus.be.server.reservation.domain.Seat> loadAll(LocalDate concertDate) {
+        return seatRepository.findAllByDate(concertDate).stream()
+            .map(this::toDomain)
+            .toList();
+    }
+
     @Override
     @Transactional
     public void save(kr.hhplus.be.server.reservation.domain.Seat seat) {
@@ -69,6 +60,42 @@ public class SeatJpaAdapter implements SeatPort {
         seatRepository.save(seatEntity);
     }
 
+    @Override
+    @Transactional
+    public int releaseExpiredHolds(List<Long> seatIds, LocalDateTime now) {
+        if (seatIds.isEmpty()) {
+            return 0;
+        }
+        return seatRepository.releaseExpiredHolds(seatIds, now);
+    }
+
+    @Override
+    @Transactional
+    public Optional<kr.hhplus.be.server.reservation.domain.Seat> holdIfAvailable(
+        LocalDate concertDate,
+        int seatNumber,
+        String userId,
+        LocalDateTime expiresAt,
+        LocalDateTime now
+    ) {
+        // 잠금 없는 조회로 좌석 ID 만 얻고, 선점 여부는 UPDATE 의 조건절이 결정
+        Long seatId = seatRepository.findIdByDateAndSeatNumber(concertDate, seatNumber)
+            .orElseThrow(() -> new IllegalStateException("Seat not found."));
+
+        if (seatRepository.holdIfAvailable(seatId, userId, expiresAt, now) == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new kr.hhplus.be.server.reservation.domain.Seat(
+            seatId,
+            concertDate,
+            seatNumber,
+            kr.hhplus.be.server.reservation.domain.SeatStatus.HELD,
+            userId,
+            expiresAt,
+            null
+        ));
+    }
+
     private kr.hhplus.be.server.reservation.domain.Seat toDomain(Seat seatEntity) {
         return new kr.hhplus.be.server.reservation.domain.Seat(
             seatEntity.getId(),
@@ -0,0 +1,180 @@
+package kr.hhplus.be.server.reservation.adapter.actor;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import kr.hhplus.be.server.reservation.domain.Seat;
+import kr.hhplus.be.server.reservation.domain.SeatStatus;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 공연 날짜별 좌석 맵을 JVM 메모리에 두고, 날짜마다 하나의 메일박스로만 변경하는 재고
+ *
+ * 같은 날짜의 선점/동기화는 해당 날짜 액터의 메일박스에 순서대로 쌓이고, 공유 작업자 스레드 중
+ * 한 번에 하나만 그 메일박스를 처리합니다. 좌석 상태를 바꾸는 스레드가 날짜당 하나뿐이라
+ * 락이 필요 없고, 경합에서 진 요청은 메모리 비교 한 번으로 거절됩니다.
+ *
+ * 재고가 노드 로컬이므로 한 날짜의 요청은 한 노드로 라우팅되어야 합니다(예: 로드 밸런서의
+ * 날짜 해시 라우팅). 다른 노드로 새어 들어간 요청이 있어도 DB 반영 시 조건부 UPDATE 에서 걸러집니다.
+ */
+public class SeatMapActorInventory implements SeatInventoryPort {
+    private static final Logger log = LoggerFactory.getLogger(SeatMapActorInventory.class);
+
+    private final ExecutorService workers;
+    private final Map<LocalDate, SeatMapActor> actors = new ConcurrentHashMap<>();
+
+    public SeatMapActorInventory(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "seat-map-actor-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public HoldResult tryHold(
+        LocalDate concertDate,
+        int seatNumber,
+        String userId,
+        LocalDateTime expiresAt,
+        LocalDateTime now
+    ) {
+        SeatMapActor actor = actors.get(concertDate);
+        if (actor == null) {
+            return HoldResult.NOT_LOADED;
+        }
+        return actor.ask(() -> actor.hold(seatNumber, userId, expiresAt, now)).join();
+    }
+
+    @Override
+    public void sync(Seat seat) {
+        SeatMapActor actor = actors.get(seat.getConcertDate());
+        if (actor != null) {
+            actor.tell(() -> actor.apply(seat));
+        }
+    }
+
+    @Override
+    public void load(LocalDate concertDate, List<Seat> seats, boolean replace) {
+        // 새 액터는 좌석 맵을 채운 채로 등록되므로 등록 직후의 선점도 적재된 상태를 봄
+        SeatMapActor created = new SeatMapActor(workers, seats);
+        SeatMapActor actor = actors.computeIfAbsent(concertDate, date -> created);
+        if (actor != created && replace) {
+            actor.tell(() -> actor.reset(seats));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    /**
+     * 날짜 하나의 좌석 맵과 메일박스
+     * 상태 필드는 메일박스 처리 중에만 접근하며, 메일박스는 한 번에 한 스레드만 처리합니다.
+     */
+    private static class SeatMapActor {
+        private final ExecutorService workers;
+        private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final Map<Integer, SeatState> seats = new HashMap<>();
+
+        private SeatMapActor(ExecutorService workers, List<Seat> loadedSeats) {
+            this.workers = workers;
+            reset(loadedSeats);
+        }
+
+        private void tell(Runnable message) {
+            mailbox.add(message);
+            schedule();
+        }
+
+        private <T> CompletableFuture<T> ask(Supplier<T> message) {
+            CompletableFuture<T> reply = new CompletableFuture<>();
+            tell(() -> {
+                try {
+                    reply.complete(message.get());
+                } catch (RuntimeException e) {
+                    reply.completeExceptionally(e);
+                }
+            });
+            return reply;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                workers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable message;
+                while ((message = mailbox.poll()) != null) {
+                    try {
+                        message.run();
+                    } catch (RuntimeException e) {
+                        log.error("Seat map actor message failed: {}", e.getMessage(), e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // 비우는 사이에 들어온 메시지가 있으면 다시 예약
+                if (!mailbox.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+
+        private HoldResult hold(int seatNumber, String userId, LocalDateTime expiresAt, LocalDateTime now) {
+            SeatState state = seats.get(seatNumber);
+            if (state == null) {
+                return HoldResult.NOT_LOADED;
+            }
+            boolean expiredHold = state.status == SeatStatus.HELD
+                && state.holdExpiresAt != null
+                && !state.holdExpiresAt.isAfter(now);
+            boolean available = state.status == SeatStatus.AVAILABLE || expiredHold;
+            if (!available) {
+                return HoldResult.TAKEN;
+            }
+            state.status = SeatStatus.HELD;
+            state.holdExpiresAt = expiresAt;
+            return HoldResult.HELD;
+        }
+
+        private void apply(Seat seat) {
+            seats.put(seat.getSeatNumber(), new SeatState(seat));
+        }
+
+        private void reset(List<Seat> loadedSeats) {
+            seats.clear();
+            loadedSeats.forEach(seat -> seats.put(seat.getSeatNumber(), new SeatState(seat)));
+        }
+    }
+
+    private static class SeatState {
+        private SeatStatus status;
+        private LocalDateTime holdExpiresAt;
+
+        private SeatState(Seat seat) {
+            this.status = seat.getStatus();
+            this.holdExpiresAt = seat.getHoldExpiresAt();
+        }
+    }
+}
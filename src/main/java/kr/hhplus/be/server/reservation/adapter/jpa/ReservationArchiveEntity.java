@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.reservation.adapter.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+
+/**
+ * 종료된(CONFIRMED/EXPIRED) 예약 보관 테이블
+ *
+ * 행은 ReservationJpaRepository.copyToArchive 로만 들어오며, ID 는 원래 예약 ID 를 그대로 사용합니다.
+ */
+@Entity
+@Table(
+    name = "reservation_archive",
+    indexes = @Index(name = "idx_reservation_archive_user", columnList = "user_id")
+)
+public class ReservationArchiveEntity {
+    @Id
+    private Long id;
+
+    @Column(name = "seat_id", nullable = false)
+    private Long seatId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReservationStatus status;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected ReservationArchiveEntity() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getSeatId() {
+        return seatId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public ReservationStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
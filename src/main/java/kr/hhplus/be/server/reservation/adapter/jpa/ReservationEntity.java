@@ -7,12 +7,20 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 
 @Entity
-@Table(name = "reservation")
+@Table(
+    name = "reservation",
+    indexes = {
+        // 만료/보관 조회를 (expires_at, id) 순서로 인덱스만으로 처리 (db/migration/V4 와 동일)
+        @Index(name = "idx_reservation_status_expires_id", columnList = "status, expires_at, id, seat_id"),
+        @Index(name = "idx_reservation_seat_status", columnList = "seat_id, status")
+    }
+)
 public class ReservationEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,6 +42,10 @@ public class ReservationEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // 마지막으로 상태를 바꾼 락 보유자의 펜싱 토큰
+    @Column(name = "fencing_token", nullable = false, columnDefinition = "bigint not null default 0")
+    private long fencingToken;
+
     protected ReservationEntity() {
     }
 
@@ -56,6 +68,16 @@ public class ReservationEntity {
         this.expiresAt = expiresAt;
     }
 
+    /**
+     * 이전 보유자보다 큰 펜싱 토큰일 때만 변경을 허용
+     */
+    public void applyFencingToken(long fencingToken) {
+        if (fencingToken <= this.fencingToken) {
+            throw new IllegalStateException("Lock lease expired before reservation update.");
+        }
+        this.fencingToken = fencingToken;
+    }
+
     public Long getId() {
         return id;
     }
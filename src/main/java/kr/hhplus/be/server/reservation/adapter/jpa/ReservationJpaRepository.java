@@ -5,13 +5,18 @@ import java.util.List;
 import java.util.Optional;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import jakarta.persistence.LockModeType;
 
 public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, Long> {
+    // 키셋 조회의 첫 커서 (HOLD 예약의 만료 시각은 항상 이보다 뒤)
+    LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
     Optional<ReservationEntity> findFirstBySeatIdAndStatus(Long seatId, ReservationStatus status);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -27,4 +32,100 @@ public interface ReservationJpaRepository extends JpaRepository<ReservationEntit
         @Param("status") ReservationStatus status,
         @Param("now") LocalDateTime now
     );
+
+    /**
+     * 만료된 HOLD 예약을 (만료 시각, ID) 순으로 커서 다음부터 한 묶음 조회 (키셋 페이지네이션)
+     * (status, expires_at, id) 인덱스 순서 그대로 읽으므로 묶음마다 남은 행 전체를 정렬하지 않습니다.
+     * @param afterExpiresAt 직전 묶음의 마지막 만료 시각 (처음이면 KEYSET_START)
+     * @param afterId 직전 묶음의 마지막 예약 ID (처음이면 0)
+     * @param pageable 묶음 크기 (정렬은 쿼리의 만료 시각, ID 오름차순을 사용)
+     */
+    @Query("select r.id as id, r.seatId as seatId, r.expiresAt as expiresAt from ReservationEntity r "
+        + "where r.status = :status and r.expiresAt < :now and r.expiresAt >= :afterExpiresAt "
+        + "and (r.expiresAt > :afterExpiresAt or r.id > :afterId) "
+        + "order by r.expiresAt, r.id")
+    List<ExpiredHold> findExpiredHoldsAfter(
+        @Param("status") ReservationStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * HOLD 예약의 만료 시각을 (만료 시각, ID) 순으로 커서 다음부터 한 묶음 조회 (타이머 재구성용 키셋 페이지네이션)
+     */
+    @Query("select r.id as id, r.expiresAt as expiresAt from ReservationEntity r "
+        + "where r.status = :status and r.expiresAt >= :afterExpiresAt "
+        + "and (r.expiresAt > :afterExpiresAt or r.id > :afterId) "
+        + "order by r.expiresAt, r.id")
+    List<HoldDeadline> findHoldDeadlinesAfter(
+        @Param("status") ReservationStatus status,
+        @Param("afterExpiresAt") LocalDateTime afterExpiresAt,
+        @Param("afterId") long afterId,
+        Pageable pageable
+    );
+
+    /**
+     * 지정한 예약 중 아직 HOLD 이고 now 이전에 만료된 예약만 조회
+     */
+    @Query("select r.id as id, r.seatId as seatId, r.expiresAt as expiresAt from ReservationEntity r "
+        + "where r.id in :ids and r.status = :status and r.expiresAt < :now")
+    List<ExpiredHold> findExpiredHoldsByIds(
+        @Param("ids") List<Long> ids,
+        @Param("status") ReservationStatus status,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 아직 HOLD 인 예약만 한 번에 EXPIRED 로 변경 (그 사이 결제된 예약은 제외)
+     * @return 변경된 예약 수
+     */
+    @Modifying
+    @Query("update ReservationEntity r "
+        + "set r.status = kr.hhplus.be.server.reservation.domain.ReservationStatus.EXPIRED, r.expiresAt = :now "
+        + "where r.id in :ids and r.status = kr.hhplus.be.server.reservation.domain.ReservationStatus.HOLD")
+    int expireHolds(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * before 이전에 종료된 status 상태의 예약 ID 를 종료 시각 순으로 한 묶음 조회 (보관용)
+     * 종료 시각은 expiresAt 에 기록되므로 (status, expires_at) 인덱스 범위만 읽습니다.
+     * 보관된 행은 삭제되므로 매번 첫 묶음을 가져오면 됩니다.
+     */
+    @Query("select r.id from ReservationEntity r "
+        + "where r.status = :status and r.expiresAt < :before order by r.expiresAt")
+    List<Long> findTerminatedBefore(
+        @Param("status") ReservationStatus status,
+        @Param("before") LocalDateTime before,
+        Pageable pageable
+    );
+
+    /**
+     * 예약을 보관 테이블로 복사 (이미 보관된 ID 는 건너뜀)
+     * @return 복사된 예약 수
+     */
+    @Modifying
+    @Query(value = "insert ignore into reservation_archive "
+        + "(id, seat_id, user_id, status, expires_at, created_at, fencing_token, archived_at) "
+        + "select id, seat_id, user_id, status, expires_at, created_at, fencing_token, :now "
+        + "from reservation where id in (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from ReservationEntity r where r.id in :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
+
+    interface ExpiredHold {
+        Long getId();
+
+        Long getSeatId();
+
+        LocalDateTime getExpiresAt();
+    }
+
+    interface HoldDeadline {
+        Long getId();
+
+        LocalDateTime getExpiresAt();
+    }
 }
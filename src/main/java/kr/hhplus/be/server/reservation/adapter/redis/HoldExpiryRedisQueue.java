@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.reservation.adapter.redis;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임시 배정 만료 지연 작업 대기열 (reservation:hold-expiry ZSET, 예약 ID -> 만료 시각 ms)
+ *
+ * 꺼내기는 scripts/reservation/claim_due.lua 로 조회와 제거를 한 번에 처리합니다.
+ */
+@Component
+public class HoldExpiryRedisQueue implements HoldExpiryQueue {
+    private static final String QUEUE_KEY = "reservation:hold-expiry";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> claimScript;
+
+    public HoldExpiryRedisQueue(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.claimScript = new DefaultRedisScript<>();
+        this.claimScript.setLocation(new ClassPathResource("scripts/reservation/claim_due.lua"));
+        this.claimScript.setResultType(List.class);
+    }
+
+    @Override
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        redisTemplate.opsForZSet().add(QUEUE_KEY, String.valueOf(reservationId), toEpochMilli(expiresAt));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Long> claimDue(LocalDateTime now, int limit) {
+        List<Object> due = redisTemplate.execute(
+            claimScript,
+            List.of(QUEUE_KEY),
+            String.valueOf(toEpochMilli(now)),
+            String.valueOf(limit)
+        );
+        if (due == null) {
+            return List.of();
+        }
+        return due.stream().map(id -> Long.valueOf(String.valueOf(id))).toList();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
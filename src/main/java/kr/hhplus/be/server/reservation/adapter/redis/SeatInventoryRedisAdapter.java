@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.reservation.adapter.redis;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import kr.hhplus.be.server.reservation.domain.Seat;
+import kr.hhplus.be.server.reservation.domain.SeatHoldStrategy;
+import kr.hhplus.be.server.reservation.domain.SeatStatus;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌석 재고 (seat:inventory:{날짜} HASH, 좌석 번호 -> 상태)
+ *
+ * 선점/동기화/적재는 scripts/seat/seat_inventory.lua 로 원자적으로 처리합니다.
+ * reservation.seat-hold.strategy=redis 일 때만 결제 등 DB 변경을 재고에 반영합니다.
+ */
+@Component
+public class SeatInventoryRedisAdapter implements SeatInventoryPort {
+    private static final String KEY_PREFIX = "seat:inventory:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<String> holdScript;
+    private final DefaultRedisScript<Long> updateScript;
+    private final boolean enabled;
+
+    public SeatInventoryRedisAdapter(
+        RedisTemplate<String, String> redisTemplate,
+        @Value("${reservation.seat-hold.strategy:lock}") String seatHoldStrategy
+    ) {
+        this.redisTemplate = redisTemplate;
+        // 같은 스크립트를 명령별 반환 타입으로 나눠 등록
+        this.holdScript = new DefaultRedisScript<>();
+        this.holdScript.setLocation(new ClassPathResource("scripts/seat/seat_inventory.lua"));
+        this.holdScript.setResultType(String.class);
+        this.updateScript = new DefaultRedisScript<>();
+        this.updateScript.setLocation(new ClassPathResource("scripts/seat/seat_inventory.lua"));
+        this.updateScript.setResultType(Long.class);
+        this.enabled = SeatHoldStrategy.from(seatHoldStrategy) == SeatHoldStrategy.REDIS;
+    }
+
+    @Override
+    public HoldResult tryHold(
+        LocalDate concertDate,
+        int seatNumber,
+        String userId,
+        LocalDateTime expiresAt,
+        LocalDateTime now
+    ) {
+        String result = redisTemplate.execute(
+            holdScript,
+            List.of(key(concertDate)),
+            "hold",
+            String.valueOf(seatNumber),
+            userId,
+            String.valueOf(toEpochMilli(expiresAt)),
+            String.valueOf(toEpochMilli(now))
+        );
+        if (result == null) {
+            throw new IllegalStateException("Unexpected seat inventory result: null");
+        }
+        return HoldResult.valueOf(result);
+    }
+
+    @Override
+    public void sync(Seat seat) {
+        if (!enabled) {
+            return;
+        }
+        redisTemplate.execute(
+            updateScript,
+            List.of(key(seat.getConcertDate())),
+            "sync",
+            String.valueOf(seat.getSeatNumber()),
+            state(seat)
+        );
+    }
+
+    @Override
+    public void load(LocalDate concertDate, List<Seat> seats, boolean replace) {
+        List<String> args = new ArrayList<>(2 + seats.size() * 2);
+        args.add("load");
+        args.add(replace ? "1" : "0");
+        for (Seat seat : seats) {
+            args.add(String.valueOf(seat.getSeatNumber()));
+            args.add(state(seat));
+        }
+        redisTemplate.execute(updateScript, List.of(key(concertDate)), args.toArray());
+    }
+
+    private static String state(Seat seat) {
+        if (seat.getStatus() == SeatStatus.HELD) {
+            return "H|" + toEpochMilli(seat.getHoldExpiresAt()) + "|" + seat.getHoldUserId();
+        }
+        if (seat.getStatus() == SeatStatus.RESERVED) {
+            return "R|" + seat.getReservedUserId();
+        }
+        return "A";
+    }
+
+    private static String key(LocalDate concertDate) {
+        return KEY_PREFIX + concertDate;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,258 @@
+package kr.hhplus.be.server.reservation.adapter.wheel;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 해시 타이밍 휠
+ *
+ * tickMs 간격의 칸 wheelSize 개를 작업자 스레드 하나가 돌면서, 현재 칸에서 마감된 타이머만 실행합니다.
+ * 등록/취소는 대기열에 넣기만 하므로 O(1) 이고, 칸 배치와 제거는 작업자 스레드가 다음 칸에서 처리합니다.
+ * 한 바퀴(tickMs * wheelSize)보다 먼 타이머는 남은 바퀴 수를 세면서 기다립니다.
+ *
+ * 실행 정밀도는 tickMs 이며, 타이머는 마감 전에 실행되지 않습니다.
+ * 타이머 작업은 작업자 스레드가 아니라 taskExecutor 에서 실행됩니다.
+ */
+final class HashedTimingWheel {
+    private static final Logger log = LoggerFactory.getLogger(HashedTimingWheel.class);
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Executor taskExecutor;
+    private final Queue<Timeout> incoming = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final long startNanos;
+    private final Thread worker;
+    private volatile boolean running = true;
+    private long tick; // 작업자 스레드 전용
+
+    HashedTimingWheel(String name, long tickMs, int wheelSize, Executor taskExecutor) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMs and wheelSize must be positive.");
+        }
+        // 칸 번호를 비트 연산으로 구하도록 2의 거듭제곱으로 올림
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMs);
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.taskExecutor = taskExecutor;
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * delayMs 뒤에 task 를 한 번 실행합니다.
+     */
+    Timeout schedule(Runnable task, long delayMs) {
+        if (!running) {
+            throw new IllegalStateException("Timing wheel is stopped.");
+        }
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMs));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        incoming.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 실행도 취소도 되지 않은 타이머 수
+     */
+    long pending() {
+        return pending.get();
+    }
+
+    void stop() {
+        running = false;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.NANOSECONDS.toMillis(tickNanos) + 1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                return;
+            }
+            removeCancelled();
+            transferIncoming();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+        }
+    }
+
+    // 다음 칸의 시작 시각까지 대기 (휠 시작 기준 경과 ns 반환, 중지되면 -1)
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long now = System.nanoTime() - startNanos;
+            long sleepMs = (deadline - now + 999_999) / 1_000_000;
+            if (sleepMs <= 0) {
+                return now;
+            }
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferIncoming() {
+        // 한 칸에서 너무 오래 머물지 않도록 나머지는 다음 칸에서 옮김
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = incoming.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state != Timeout.INIT) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 이미 지난 마감은 현재 칸에 넣어 바로 실행
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void execute(Timeout timeout) {
+        try {
+            taskExecutor.execute(timeout.task);
+        } catch (RuntimeException e) {
+            log.warn("Failed to run timer task: {}", e.getMessage(), e);
+        }
+    }
+
+    static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedTimingWheel timingWheel;
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = INIT;
+
+        // 작업자 스레드 전용
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedTimingWheel timingWheel, Runnable task, long deadline) {
+            this.timingWheel = timingWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 아직 실행되지 않은 타이머를 취소합니다.
+         * @return 이 호출로 취소되었으면 true (이미 실행/취소된 경우 false)
+         */
+        boolean cancel() {
+            if (!STATE.compareAndSet(this, INIT, CANCELLED)) {
+                return false;
+            }
+            timingWheel.pending.decrementAndGet();
+            timingWheel.cancelled.add(this);
+            return true;
+        }
+
+        boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            timingWheel.pending.decrementAndGet();
+            timingWheel.execute(this);
+        }
+    }
+
+    // 칸 하나의 타이머 목록 (이중 연결 리스트, 작업자 스레드 전용)
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expire(long now) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.state == Timeout.CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
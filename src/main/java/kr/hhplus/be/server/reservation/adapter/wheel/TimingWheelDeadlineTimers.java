@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.reservation.adapter.wheel;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.hhplus.be.server.reservation.adapter.wheel.HashedTimingWheel.Timeout;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.DeadlineTimers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 해시 타이밍 휠 기반 마감 타이머
+ *
+ * 키별 타이머를 맵에 두어 같은 키의 재등록/취소를 O(1) 로 처리합니다.
+ * 마감 시각은 ClockProvider 기준 남은 시간으로 바꿔 등록하고, 만료 콜백은 별도 스레드 풀에서 실행합니다.
+ */
+public class TimingWheelDeadlineTimers implements DeadlineTimers {
+    private static final Logger log = LoggerFactory.getLogger(TimingWheelDeadlineTimers.class);
+
+    private final ClockProvider clockProvider;
+    private final ExecutorService callbacks;
+    private final HashedTimingWheel wheel;
+    private final Map<String, Timeout> timers = new ConcurrentHashMap<>();
+
+    public TimingWheelDeadlineTimers(ClockProvider clockProvider, long tickMs, int wheelSize, int callbackThreads) {
+        this.clockProvider = clockProvider;
+        AtomicInteger sequence = new AtomicInteger();
+        this.callbacks = Executors.newFixedThreadPool(callbackThreads, runnable -> {
+            Thread thread = new Thread(runnable, "deadline-timer-callback-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.wheel = new HashedTimingWheel("deadline-timer-wheel", tickMs, wheelSize, callbacks);
+    }
+
+    @Override
+    public void schedule(String key, LocalDateTime deadline, Runnable onExpiry) {
+        // ms 단위로 올림해서 마감 전에 실행되지 않게 함
+        long delayNanos = Duration.between(clockProvider.now(), deadline).toNanos();
+        long delayMs = delayNanos > 0 ? TimeUnit.NANOSECONDS.toMillis(delayNanos + 999_999) : 0;
+
+        Timeout timeout = wheel.schedule(() -> fire(key, onExpiry), delayMs);
+        Timeout previous = timers.put(key, timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+        // 맵에 넣기 전에 이미 실행된 경우 정리
+        if (timeout.isExpired()) {
+            timers.remove(key, timeout);
+        }
+    }
+
+    @Override
+    public void cancel(String key) {
+        Timeout timeout = timers.remove(key);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    @Override
+    public long pending() {
+        return wheel.pending();
+    }
+
+    public void shutdown() {
+        wheel.stop();
+        callbacks.shutdown();
+    }
+
+    private void fire(String key, Runnable onExpiry) {
+        // 그 사이 같은 키로 다시 등록된 타이머는 남겨 둠
+        timers.computeIfPresent(key, (k, timeout) -> timeout.isExpired() ? null : timeout);
+        try {
+            onExpiry.run();
+        } catch (RuntimeException e) {
+            log.warn("Deadline timer callback failed for {}: {}", key, e.getMessage(), e);
+        }
+    }
+}
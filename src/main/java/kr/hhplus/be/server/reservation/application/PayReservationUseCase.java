@@ -1,15 +1,17 @@
 package kr.hhplus.be.server.reservation.application;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import kr.hhplus.be.server.concert.service.ConcertQueryService;
 import kr.hhplus.be.server.concert.service.ConcertRankingService;
-import kr.hhplus.be.server.lock.adapter.redis.SpinDistributedLock;
+import kr.hhplus.be.server.lock.domain.FencedLock;
 import kr.hhplus.be.server.reservation.application.event.ReservationCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.Payment;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.ClockProvider;
 import kr.hhplus.be.server.reservation.port.NotificationPort;
 import kr.hhplus.be.server.reservation.port.PaymentRepository;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
 import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
 import kr.hhplus.be.server.reservation.port.UserBalanceRepository;
 import kr.hhplus.be.server.reservation.port.SeatPort;
@@ -20,15 +22,16 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 public class PayReservationUseCase {
     private static final long LOCK_WAIT_TIME_MS = 1000; // 1 second
-    private static final long LOCK_LEASE_TIME_MS = 5000; // 5 seconds
+    private static final long LOCK_LEASE_TIME_MS = 500; // renewed by the watchdog while running
 
     private final SeatReservationRepository reservationPort;
     private final SeatPort seatPort;
+    private final SeatInventoryPort seatInventory;
     private final UserBalanceRepository pointPort;
     private final PaymentRepository paymentPort;
     private final NotificationPort notificationPort;
     private final ClockProvider clockProvider;
-    private final SpinDistributedLock distributedLock;
+    private final FencedLock distributedLock;
     private final ConcertQueryService concertQueryService;
     private final ConcertRankingService concertRankingService;
     private final ApplicationEventPublisher eventPublisher;
@@ -36,17 +39,19 @@ public class PayReservationUseCase {
     public PayReservationUseCase(
         SeatReservationRepository reservationPort,
         SeatPort seatPort,
+        SeatInventoryPort seatInventory,
         UserBalanceRepository pointPort,
         PaymentRepository paymentPort,
         NotificationPort notificationPort,
         ClockProvider clockProvider,
-        SpinDistributedLock distributedLock,
+        FencedLock distributedLock,
         ConcertQueryService concertQueryService,
         ConcertRankingService concertRankingService,
         ApplicationEventPublisher eventPublisher
     ) {
         this.reservationPort = reservationPort;
         this.seatPort = seatPort;
+        this.seatInventory = seatInventory;
         this.pointPort = pointPort;
         this.paymentPort = paymentPort;
         this.notificationPort = notificationPort;
@@ -58,19 +63,23 @@ public class PayReservationUseCase {
     }
 
     public Payment pay(PayReservationCommand command) {
-        // Lock key: reservation-specific lock to prevent concurrent payment of the same reservation
-        String lockKey = "reservation:pay:" + command.getReservationId();
-        
-        return distributedLock.executeWithLock(
-            lockKey,
+        // Lock keys: the reservation (no double payment) and the user's balance (no concurrent deduction),
+        // acquired together in one round trip
+        List<String> lockKeys = List.of(
+            "reservation:pay:" + command.getReservationId(),
+            pointPort.useLockKey(command.getUserId())
+        );
+
+        return distributedLock.executeWithWatchdog(
+            lockKeys,
             LOCK_WAIT_TIME_MS,
             LOCK_LEASE_TIME_MS,
-            () -> payInternal(command)
+            handles -> payInternal(command, handles.get(0).getFencingToken(), handles.get(1).getFencingToken())
         );
     }
 
     @Transactional
-    private Payment payInternal(PayReservationCommand command) {
+    private Payment payInternal(PayReservationCommand command, long fencingToken, long pointFencingToken) {
         LocalDateTime now = clockProvider.now();
         var reservation = reservationPort.loadForUpdate(command.getReservationId());
 
@@ -84,10 +93,11 @@ public class PayReservationUseCase {
 
         if (reservation.isExpired(now)) {
             reservation.expire(now);
-            reservationPort.save(reservation);
+            reservationPort.save(reservation, fencingToken);
             var seat = seatPort.loadForUpdate(reservation.getSeatId());
             seat.releaseHold();
             seatPort.save(seat);
+            seatInventory.sync(seat);
             throw new IllegalStateException("Reservation expired.");
         }
 
@@ -98,12 +108,13 @@ public class PayReservationUseCase {
 
         // pointPort.use() 내부에서 조건부 UPDATE를 사용하여 원자적으로 잔액 확인 및 차감
         // getBalance() 호출을 제거하여 동시성 문제 해결
-        pointPort.use(command.getUserId(), command.getAmount());
+        pointPort.use(command.getUserId(), command.getAmount(), pointFencingToken);
         seat.reserve(command.getUserId());
         seatPort.save(seat);
+        seatInventory.sync(seat);
 
         reservation.confirm(now);
-        reservationPort.save(reservation);
+        reservationPort.save(reservation, fencingToken);
 
         Payment payment = paymentPort.save(
             Payment.create(reservation.getId(), command.getUserId(), command.getAmount(), now)
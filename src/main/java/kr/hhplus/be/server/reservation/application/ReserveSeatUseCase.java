@@ -2,55 +2,97 @@ package kr.hhplus.be.server.reservation.application;
 
 import java.time.LocalDateTime;
 import kr.hhplus.be.server.concert.service.ConcertQueryService;
-import kr.hhplus.be.server.lock.adapter.redis.SpinDistributedLock;
+import kr.hhplus.be.server.lock.domain.FencedLock;
 import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.SeatHoldStrategy;
 import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort.HoldResult;
 import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
 import kr.hhplus.be.server.reservation.port.SeatPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 public class ReserveSeatUseCase {
-    private static final int MAX_SEAT_NUMBER = 50;
+    private static final Logger log = LoggerFactory.getLogger(ReserveSeatUseCase.class);
     private static final int HOLD_MINUTES = 5;
     private static final long LOCK_WAIT_TIME_MS = 1000; // 1 second
-    private static final long LOCK_LEASE_TIME_MS = 5000; // 5 seconds
+    private static final long LOCK_LEASE_TIME_MS = 500; // renewed by the watchdog while running
 
     private final SeatPort seatPort;
     private final SeatReservationRepository reservationPort;
     private final ClockProvider clockProvider;
-    private final SpinDistributedLock distributedLock;
+    private final FencedLock distributedLock;
     private final ConcertQueryService concertQueryService;
+    private final SeatInventoryPort seatInventory;
+    private final SeatHoldWriteBehind seatHoldWriteBehind;
+    private final HoldExpiryQueue holdExpiryQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatHoldStrategy seatHoldStrategy;
 
     public ReserveSeatUseCase(
         SeatPort seatPort,
         SeatReservationRepository reservationPort,
         ClockProvider clockProvider,
-        SpinDistributedLock distributedLock,
-        ConcertQueryService concertQueryService
+        FencedLock distributedLock,
+        ConcertQueryService concertQueryService,
+        SeatInventoryPort seatInventory,
+        SeatHoldWriteBehind seatHoldWriteBehind,
+        HoldExpiryQueue holdExpiryQueue,
+        PlatformTransactionManager transactionManager,
+        @Value("${reservation.seat-hold.strategy:lock}") String seatHoldStrategy
     ) {
         this.seatPort = seatPort;
         this.reservationPort = reservationPort;
         this.clockProvider = clockProvider;
         this.distributedLock = distributedLock;
         this.concertQueryService = concertQueryService;
+        this.seatInventory = seatInventory;
+        this.seatHoldWriteBehind = seatHoldWriteBehind;
+        this.holdExpiryQueue = holdExpiryQueue;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.seatHoldStrategy = SeatHoldStrategy.from(seatHoldStrategy);
     }
 
     public Reservation reserve(ReserveSeatCommand command) {
-        if (command.getSeatNumber() < 1 || command.getSeatNumber() > MAX_SEAT_NUMBER) {
-            throw new IllegalArgumentException("Seat number must be between 1 and 50.");
+        if (command.getSeatNumber() < 1) {
+            throw new IllegalArgumentException("Seat number must be positive.");
+        }
+
+        Reservation reservation = hold(command);
+        // 만료 시각에 바로 좌석을 풀 수 있도록 지연 작업 등록 (실패해도 주기 스케줄러가 해제)
+        try {
+            holdExpiryQueue.schedule(reservation.getId(), reservation.getExpiresAt());
+        } catch (RuntimeException e) {
+            log.warn("Failed to schedule hold expiry for reservation {}: {}", reservation.getId(), e.getMessage());
+        }
+        return reservation;
+    }
+
+    private Reservation hold(ReserveSeatCommand command) {
+        if (seatHoldStrategy == SeatHoldStrategy.CONDITIONAL) {
+            return transactionTemplate.execute(status -> reserveWithConditionalUpdate(command));
+        }
+        if (seatHoldStrategy.usesInventory()) {
+            return reserveWithInventory(command);
         }
 
         // Lock key: seat-specific lock to prevent concurrent reservation of the same seat
         String lockKey = String.format("seat:reserve:%s:%d", 
             command.getConcertDate().toString(), command.getSeatNumber());
         
-        return distributedLock.executeWithLock(
+        return distributedLock.executeWithWatchdog(
             lockKey,
             LOCK_WAIT_TIME_MS,
             LOCK_LEASE_TIME_MS,
-            () -> reserveInternal(command)
+            handle -> reserveInternal(command)
         );
     }
 
@@ -81,4 +123,60 @@ public class ReserveSeatUseCase {
 
         return savedReservation;
     }
+
+    /**
+     * 분산 락과 행 잠금 없이 조건부 UPDATE 로 좌석을 선점
+     * 경합에서 진 요청은 대기하지 않고 바로 실패하므로, 인기 좌석에 요청이 몰려도
+     * 락 대기열이나 커넥션 점유 시간이 늘어나지 않습니다.
+     */
+    private Reservation reserveWithConditionalUpdate(ReserveSeatCommand command) {
+        LocalDateTime now = clockProvider.now();
+        LocalDateTime expiresAt = now.plusMinutes(HOLD_MINUTES);
+        var seat = seatPort.holdIfAvailable(
+                command.getConcertDate(),
+                command.getSeatNumber(),
+                command.getUserId(),
+                expiresAt,
+                now
+            )
+            .orElseThrow(() -> new IllegalStateException("Seat is not available."));
+
+        // 만료된 임시 배정을 넘겨받은 경우 이전 예약을 만료 처리 (빈 좌석이었다면 대상 없음)
+        reservationPort.expireActiveBySeatId(seat.getId(), now);
+
+        Reservation savedReservation = reservationPort.save(
+            Reservation.hold(seat.getId(), command.getUserId(), expiresAt, now)
+        );
+        concertQueryService.evictAvailableSeatsCache(command.getConcertDate());
+        return savedReservation;
+    }
+
+    /**
+     * 재고(Redis 또는 날짜별 액터)에서 먼저 선점하고, 이긴 요청만 write-behind 로 DB 에 반영
+     * 진 요청은 DB 에 접근하지 않고 재고에서 바로 거절됩니다.
+     */
+    private Reservation reserveWithInventory(ReserveSeatCommand command) {
+        LocalDateTime now = clockProvider.now();
+        LocalDateTime expiresAt = now.plusMinutes(HOLD_MINUTES);
+        HoldResult result = tryHold(command, expiresAt, now);
+        if (result == HoldResult.NOT_LOADED) {
+            // 처음 요청된 날짜는 DB 에서 적재 (동시에 적재한 노드가 있으면 그쪽 상태를 유지)
+            seatInventory.load(command.getConcertDate(), seatPort.loadAll(command.getConcertDate()), false);
+            result = tryHold(command, expiresAt, now);
+        }
+        if (result != HoldResult.HELD) {
+            throw new IllegalStateException("Seat is not available.");
+        }
+        return seatHoldWriteBehind.submit(command, expiresAt, now);
+    }
+
+    private HoldResult tryHold(ReserveSeatCommand command, LocalDateTime expiresAt, LocalDateTime now) {
+        return seatInventory.tryHold(
+            command.getConcertDate(),
+            command.getSeatNumber(),
+            command.getUserId(),
+            expiresAt,
+            now
+        );
+    }
 }
@@ -0,0 +1,265 @@
+package kr.hhplus.be.server.reservation.application;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.hhplus.be.server.concert.service.ConcertQueryService;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고에서 선점에 성공한 임시 배정을 묶어서 DB 에 반영하는 write-behind 작업자
+ *
+ * 요청 스레드는 대기열에 넣고 반영 결과를 기다리며, 작업자 스레드 하나가 쌓인 요청을
+ * 최대 batch-size 개씩 한 트랜잭션으로 저장합니다. 예약 ID 를 응답해야 하므로 커밋 전에
+ * 성공을 돌려주지는 않지만, 경합에서 진 요청은 여기까지 오지 않아 DB 에는 좌석당 한 건만 도달합니다.
+ *
+ * DB 반영은 조건부 UPDATE 로 다시 확인하므로, 재고가 DB 와 어긋난 경우(재적재 직후 등)에도
+ * 좌석이 두 번 배정되지 않습니다. 반영에 실패하면 해당 좌석의 재고를 DB 상태로 되돌립니다.
+ *
+ * 작업자 스레드는 첫 요청이 들어올 때 시작하므로 재고를 쓰지 않는 전략(lock/conditional)에서는 만들어지지 않습니다.
+ *
+ * 제한 시간 안에 작업자가 가져가지 못한 요청은 취소되어 DB 에 반영되지 않습니다.
+ * 작업자가 이미 가져간 요청은 실패를 응답했는데 예약이 남는 일이 없도록 반영 결과를 끝까지 기다립니다.
+ */
+@Component
+public class SeatHoldWriteBehind {
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldWriteBehind.class);
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private final SeatPort seatPort;
+    private final SeatReservationRepository reservationPort;
+    private final SeatInventoryPort seatInventory;
+    private final ConcertQueryService concertQueryService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long persistTimeoutMs;
+    private final BlockingQueue<PendingHold> pending = new LinkedBlockingQueue<>();
+    private volatile Thread flusher; // 첫 요청에서 시작
+    private volatile boolean running = true;
+
+    public SeatHoldWriteBehind(
+        SeatPort seatPort,
+        SeatReservationRepository reservationPort,
+        SeatInventoryPort seatInventory,
+        ConcertQueryService concertQueryService,
+        PlatformTransactionManager transactionManager,
+        @Value("${reservation.write-behind.batch-size:100}") int batchSize,
+        @Value("${reservation.write-behind.persist-timeout-ms:5000}") long persistTimeoutMs
+    ) {
+        this.seatPort = seatPort;
+        this.reservationPort = reservationPort;
+        this.seatInventory = seatInventory;
+        this.concertQueryService = concertQueryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.persistTimeoutMs = persistTimeoutMs;
+    }
+
+    /**
+     * 임시 배정을 DB 반영 대기열에 넣고 반영될 때까지 기다립니다.
+     */
+    public Reservation submit(ReserveSeatCommand command, LocalDateTime expiresAt, LocalDateTime now) {
+        if (flusher == null) {
+            startFlusher();
+        }
+        PendingHold hold = new PendingHold(command, expiresAt, now);
+        pending.add(hold);
+        try {
+            try {
+                return hold.result.get(persistTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (hold.cancel()) {
+                    // 작업자가 가져가기 전에 취소했으므로 DB 에는 반영되지 않음, 재고의 선점만 되돌림
+                    resync(hold.command);
+                    throw new IllegalStateException("Seat hold was not persisted in time.");
+                }
+                // 작업자가 반영 중이면 결과를 기다림 (가져간 요청은 반드시 완료 또는 거절됨)
+                return hold.result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while persisting seat hold.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to persist seat hold.", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        Thread started;
+        synchronized (this) {
+            running = false;
+            started = flusher;
+        }
+        if (started != null) {
+            started.join(persistTimeoutMs);
+        }
+    }
+
+    private synchronized void startFlusher() {
+        if (!running) {
+            throw new IllegalStateException("Seat hold write-behind is stopped.");
+        }
+        if (flusher == null) {
+            flusher = new Thread(this::run, "seat-hold-write-behind");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+    }
+
+    private void run() {
+        List<PendingHold> batch = new ArrayList<>(batchSize);
+        // 종료 시에도 이미 받은 요청은 모두 반영
+        while (running || !pending.isEmpty()) {
+            try {
+                PendingHold first = pending.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 앞 배치를 저장하는 동안 쌓인 요청을 한 번에 가져감 (이미 취소된 요청은 제외)
+                batch.add(first);
+                pending.drainTo(batch, batchSize - 1);
+                batch.removeIf(hold -> !hold.claim());
+                if (!batch.isEmpty()) {
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Seat hold write-behind failed: {}", e.getMessage(), e);
+                batch.forEach(hold -> reject(hold, e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingHold> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                reject(batch.get(0), e);
+                return;
+            }
+            // 한 건 때문에 배치 전체가 실패하지 않도록 건별 트랜잭션으로 재시도
+            log.warn("Seat hold batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (PendingHold hold : batch) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> persist(List.of(hold)));
+                } catch (RuntimeException ex) {
+                    reject(hold, ex);
+                    continue;
+                }
+                complete(List.of(hold));
+            }
+            return;
+        }
+        complete(batch);
+    }
+
+    private void persist(List<PendingHold> batch) {
+        for (PendingHold hold : batch) {
+            hold.reservation = null;
+            ReserveSeatCommand command = hold.command;
+            var seat = seatPort.holdIfAvailable(
+                command.getConcertDate(),
+                command.getSeatNumber(),
+                command.getUserId(),
+                hold.expiresAt,
+                hold.now
+            );
+            if (seat.isEmpty()) {
+                continue;
+            }
+            // 만료된 임시 배정을 넘겨받은 경우 이전 예약을 만료 처리
+            reservationPort.expireActiveBySeatId(seat.get().getId(), hold.now);
+            hold.reservation = reservationPort.save(
+                Reservation.hold(seat.get().getId(), command.getUserId(), hold.expiresAt, hold.now)
+            );
+        }
+    }
+
+    private void complete(List<PendingHold> batch) {
+        Set<LocalDate> changedDates = new LinkedHashSet<>();
+        for (PendingHold hold : batch) {
+            if (hold.reservation == null) {
+                reject(hold, new IllegalStateException("Seat is not available."));
+                continue;
+            }
+            changedDates.add(hold.command.getConcertDate());
+            hold.result.complete(hold.reservation);
+        }
+        changedDates.forEach(concertQueryService::evictAvailableSeatsCache);
+    }
+
+    private void reject(PendingHold hold, RuntimeException cause) {
+        hold.result.completeExceptionally(cause);
+        resync(hold.command);
+    }
+
+    private void resync(ReserveSeatCommand command) {
+        try {
+            seatPort.loadAll(command.getConcertDate()).stream()
+                .filter(seat -> seat.getSeatNumber() == command.getSeatNumber())
+                .findFirst()
+                .ifPresent(seatInventory::sync);
+        } catch (RuntimeException e) {
+            log.warn("Failed to resync seat inventory for {} #{}: {}",
+                command.getConcertDate(), command.getSeatNumber(), e.getMessage());
+        }
+    }
+
+    private static class PendingHold {
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final ReserveSeatCommand command;
+        private final LocalDateTime expiresAt;
+        private final LocalDateTime now;
+        private final CompletableFuture<Reservation> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private Reservation reservation; // 작업자 스레드 전용
+
+        private PendingHold(ReserveSeatCommand command, LocalDateTime expiresAt, LocalDateTime now) {
+            this.command = command;
+            this.expiresAt = expiresAt;
+            this.now = now;
+        }
+
+        // 작업자가 반영할 요청으로 가져감 (취소된 요청이면 false)
+        private boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        // 요청 스레드가 제한 시간이 지나 포기함 (작업자가 이미 가져갔으면 false)
+        private boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.reservation.controller;
 
 import kr.hhplus.be.server.queue.application.ReservationTokenService;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
 import kr.hhplus.be.server.reservation.application.ReserveSeatCommand;
 import kr.hhplus.be.server.reservation.application.ReserveSeatUseCase;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -28,7 +29,7 @@ public class ReservationController {
         @RequestHeader("Queue-Token") String queueToken,
         @RequestBody ReservationRequest request
     ) {
-        reservationTokenService.validateActive(queueToken);
+        reservationTokenService.validateActive(queueToken, ReservationToken.queueIdOf(request.getConcertDate()));
         var reservation = reserveSeatUseCase.reserve(
             new ReserveSeatCommand(request.getUserId(), request.getConcertDate(), request.getSeatNumber())
         );
@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.reservation.domain;
+
+/**
+ * 좌석 선점 방식 (reservation.seat-hold.strategy)
+ */
+public enum SeatHoldStrategy {
+    LOCK("lock"), // 분산 락 + 행 잠금
+    CONDITIONAL("conditional"), // 조건부 UPDATE 한 번으로 선점
+    REDIS("redis"), // Redis 재고에서 선점 후 DB 에 일괄 반영
+    ACTOR("actor"); // 날짜별 좌석 맵 액터에서 선점 후 DB 에 일괄 반영
+
+    private final String value;
+
+    SeatHoldStrategy(String value) {
+        this.value = value;
+    }
+
+    public static SeatHoldStrategy from(String value) {
+        for (SeatHoldStrategy strategy : values()) {
+            if (strategy.value.equals(value)) {
+                return strategy;
+            }
+        }
+        throw new IllegalStateException("Unknown reservation.seat-hold.strategy: " + value);
+    }
+
+    /**
+     * 재고(Redis/액터)에서 먼저 선점하고 write-behind 로 DB 에 반영하는 방식인지
+     */
+    public boolean usesInventory() {
+        return this == REDIS || this == ACTOR;
+    }
+}
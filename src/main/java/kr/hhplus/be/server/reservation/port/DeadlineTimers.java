@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.reservation.port;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키별 마감 시각 타이머
+ *
+ * 마감 시각이 지나면 onExpiry 를 한 번 실행합니다. 같은 키로 다시 등록하면 이전 타이머는 취소됩니다.
+ * 타이머는 이 노드 메모리에만 있으므로, 재시작 후에는 등록한 쪽에서 다시 등록해야 합니다.
+ */
+public interface DeadlineTimers {
+    void schedule(String key, LocalDateTime deadline, Runnable onExpiry);
+
+    void cancel(String key);
+
+    /**
+     * 실행을 기다리는 타이머 수
+     */
+    long pending();
+}
@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.reservation.port;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 임시 배정 만료 지연 작업 대기열
+ *
+ * 예약마다 만료 시각을 등록해 두고, 만료 시각이 지난 작업만 꺼내서 처리합니다.
+ * 꺼낸 작업은 대기열에서 제거되므로 여러 작업자가 동시에 꺼내도 한 작업자만 받습니다.
+ */
+public interface HoldExpiryQueue {
+    void schedule(Long reservationId, LocalDateTime expiresAt);
+
+    /**
+     * now 이전에 만료된 작업을 최대 limit 건 꺼냄
+     * @return 예약 ID 목록 (만료 시각 순)
+     */
+    List<Long> claimDue(LocalDateTime now, int limit);
+}
@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.reservation.port;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.hhplus.be.server.reservation.domain.Seat;
+
+/**
+ * 공연 날짜별 좌석 상태를 DB 앞에 두는 재고
+ *
+ * 선점 경합은 재고에서 원자적으로 판정하고, 이긴 요청만 DB 에 반영합니다.
+ * DB 가 원본이므로 재고는 언제든 DB 에서 다시 적재할 수 있어야 합니다.
+ */
+public interface SeatInventoryPort {
+    /**
+     * 빈 좌석이거나 임시 배정이 now 기준으로 만료된 경우에만 임시 배정
+     */
+    HoldResult tryHold(
+        LocalDate concertDate,
+        int seatNumber,
+        String userId,
+        LocalDateTime expiresAt,
+        LocalDateTime now
+    );
+
+    /**
+     * DB 에서 바뀐 좌석 하나의 상태를 재고에 반영 (해당 날짜가 적재 전이면 무시)
+     */
+    void sync(Seat seat);
+
+    /**
+     * 날짜 하나의 좌석 상태를 적재
+     * @param replace true 면 기존 재고를 덮어쓰고, false 면 이미 적재된 날짜는 건너뜀
+     */
+    void load(LocalDate concertDate, List<Seat> seats, boolean replace);
+
+    enum HoldResult {
+        HELD,
+        TAKEN,
+        NOT_LOADED
+    }
+}
@@ -1,6 +1,9 @@
 package kr.hhplus.be.server.reservation.port;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import kr.hhplus.be.server.reservation.domain.Seat;
 
 public interface SeatPort {
@@ -8,5 +11,29 @@ public interface SeatPort {
 
     Seat loadForUpdate(Long seatId);
 
+    /**
+     * 날짜의 전체 좌석을 잠금 없이 조회 (좌석이 없으면 생성)
+     */
+    List<Seat> loadAll(LocalDate concertDate);
+
     void save(Seat seat);
+
+    /**
+     * 임시 배정이 now 이전에 만료된 좌석만 한 번의 UPDATE 로 해제
+     * @return 해제된 좌석 수
+     */
+    int releaseExpiredHolds(List<Long> seatIds, LocalDateTime now);
+
+    /**
+     * 락 없이 조건부 UPDATE 한 번으로 좌석을 임시 배정
+     * 빈 좌석이거나 기존 임시 배정이 now 기준으로 만료된 경우에만 성공합니다.
+     * @return 임시 배정된 좌석, 이미 다른 사용자가 배정받았으면 empty
+     */
+    Optional<Seat> holdIfAvailable(
+        LocalDate concertDate,
+        int seatNumber,
+        String userId,
+        LocalDateTime expiresAt,
+        LocalDateTime now
+    );
 }
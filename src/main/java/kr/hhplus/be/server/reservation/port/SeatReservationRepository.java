@@ -6,6 +6,11 @@ import kr.hhplus.be.server.reservation.domain.Reservation;
 public interface SeatReservationRepository {
     Reservation save(Reservation reservation);
 
+    /**
+     * 분산 락 안에서 기존 예약을 저장합니다. 더 큰 펜싱 토큰으로 이미 변경된 예약이면 거부합니다.
+     */
+    Reservation save(Reservation reservation, long fencingToken);
+
     void expireActiveBySeatId(Long seatId, LocalDateTime expiredAt);
 
     Reservation loadForUpdate(Long reservationId);
@@ -4,4 +4,14 @@ public interface UserBalanceRepository {
     long getBalance(String userId);
 
     void use(String userId, long amount);
+
+    /**
+     * 잔액 차감 락 키 (결제 락과 함께 한 번에 잡기 위해 사용)
+     */
+    String useLockKey(String userId);
+
+    /**
+     * useLockKey(userId) 락을 이미 잡은 상태에서 차감
+     */
+    void use(String userId, long amount, long fencingToken);
 }
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository.ExpiredHold;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 만료 시각이 된 예약 ID 묶음을 한 트랜잭션으로 만료 처리
+ *
+ * 지연 작업 대기열(HoldExpiryWorker)과 타이밍 휠(HoldExpiryTimingWheel)이 함께 사용합니다.
+ * 그 사이 결제되었거나 이미 만료 처리된 예약은 건너뜁니다.
+ */
+@Component
+public class ExpiredHoldReleaser {
+    private final ReservationJpaRepository reservationJpaRepository;
+    private final SeatPort seatPort;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter releasedCounter;
+
+    public ExpiredHoldReleaser(
+        ReservationJpaRepository reservationJpaRepository,
+        SeatPort seatPort,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry
+    ) {
+        this.reservationJpaRepository = reservationJpaRepository;
+        this.seatPort = seatPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.releasedCounter = Counter.builder("reservation.hold-expiry.released")
+            .description("Held reservations expired by due delayed jobs")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return 만료 처리된 예약 수
+     */
+    public int release(List<Long> reservationIds, LocalDateTime now) {
+        Integer expired = transactionTemplate.execute(status -> expire(reservationIds, now));
+        int count = expired != null ? expired : 0;
+        releasedCounter.increment(count);
+        return count;
+    }
+
+    private int expire(List<Long> reservationIds, LocalDateTime now) {
+        List<ExpiredHold> holds = reservationJpaRepository.findExpiredHoldsByIds(
+            reservationIds,
+            ReservationStatus.HOLD,
+            now
+        );
+        if (holds.isEmpty()) {
+            return 0;
+        }
+        int expired = reservationJpaRepository.expireHolds(holds.stream().map(ExpiredHold::getId).toList(), now);
+        seatPort.releaseExpiredHolds(holds.stream().map(ExpiredHold::getSeatId).distinct().toList(), now);
+        return expired;
+    }
+}
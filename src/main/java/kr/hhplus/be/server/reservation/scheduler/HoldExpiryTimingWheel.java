@@ -0,0 +1,117 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository.HoldDeadline;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.DeadlineTimers;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 노드 메모리의 타이밍 휠로 임시 배정을 만료 시각에 바로 해제하는 지연 작업 대기열
+ *
+ * 예약마다 만료 타이머를 등록하고, 타이머가 실행되면 그때 쌓여 있는 만료 예약을 묶어서 해제합니다.
+ * MySQL 이나 Redis 를 주기적으로 조회하지 않으며, 해제는 만료 후 타이머 정밀도(tick-ms) 안에 이루어집니다.
+ * 만료 작업을 직접 처리하므로 claimDue 로 꺼낼 작업은 없습니다.
+ *
+ * 타이머는 이 노드에만 있으므로 단일 노드/소규모 클러스터용입니다. 시작 시 reservation 테이블의 HOLD 예약으로
+ * 타이머를 다시 만들고, 누락된 예약은 ReservationExpirationScheduler 가 주기적으로 정리합니다.
+ */
+public class HoldExpiryTimingWheel implements HoldExpiryQueue {
+    private static final Logger log = LoggerFactory.getLogger(HoldExpiryTimingWheel.class);
+    private static final String TIMER_KEY_PREFIX = "reservation:hold:";
+    private static final int REBUILD_PAGE_SIZE = 1000;
+
+    private final DeadlineTimers deadlineTimers;
+    private final ExpiredHoldReleaser expiredHoldReleaser;
+    private final ReservationJpaRepository reservationJpaRepository;
+    private final ClockProvider clockProvider;
+    private final int batchSize;
+    private final Queue<Long> due = new ConcurrentLinkedQueue<>();
+
+    public HoldExpiryTimingWheel(
+        DeadlineTimers deadlineTimers,
+        ExpiredHoldReleaser expiredHoldReleaser,
+        ReservationJpaRepository reservationJpaRepository,
+        ClockProvider clockProvider,
+        int batchSize
+    ) {
+        this.deadlineTimers = deadlineTimers;
+        this.expiredHoldReleaser = expiredHoldReleaser;
+        this.reservationJpaRepository = reservationJpaRepository;
+        this.clockProvider = clockProvider;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        deadlineTimers.schedule(TIMER_KEY_PREFIX + reservationId, expiresAt, () -> onExpiry(reservationId));
+    }
+
+    @Override
+    public List<Long> claimDue(LocalDateTime now, int limit) {
+        return List.of();
+    }
+
+    /**
+     * 재시작 전에 등록된 HOLD 예약의 만료 타이머를 다시 등록 (이미 지난 예약은 바로 해제됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime afterExpiresAt = ReservationJpaRepository.KEYSET_START;
+        long afterId = 0;
+        int scheduled = 0;
+        while (true) {
+            List<HoldDeadline> holds = reservationJpaRepository.findHoldDeadlinesAfter(
+                ReservationStatus.HOLD,
+                afterExpiresAt,
+                afterId,
+                PageRequest.of(0, REBUILD_PAGE_SIZE)
+            );
+            for (HoldDeadline hold : holds) {
+                schedule(hold.getId(), hold.getExpiresAt());
+            }
+            scheduled += holds.size();
+            if (holds.size() < REBUILD_PAGE_SIZE) {
+                break;
+            }
+            HoldDeadline last = holds.get(holds.size() - 1);
+            afterExpiresAt = last.getExpiresAt();
+            afterId = last.getId();
+        }
+        log.info("Rebuilt {} hold expiry timers from reservation table", scheduled);
+    }
+
+    private void onExpiry(Long reservationId) {
+        due.add(reservationId);
+        // 같은 시점에 만료된 예약은 먼저 실행된 콜백이 묶음으로 가져감
+        List<Long> reservationIds;
+        while (!(reservationIds = drainDue()).isEmpty()) {
+            try {
+                expiredHoldReleaser.release(reservationIds, clockProvider.now());
+            } catch (RuntimeException e) {
+                // 주기 스케줄러가 다음 실행에서 정리
+                log.error("Failed to expire {} held reservations: {}", reservationIds.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private List<Long> drainDue() {
+        List<Long> reservationIds = new ArrayList<>();
+        Long id;
+        while (reservationIds.size() < batchSize && (id = due.poll()) != null) {
+            reservationIds.add(id);
+        }
+        return reservationIds;
+    }
+}
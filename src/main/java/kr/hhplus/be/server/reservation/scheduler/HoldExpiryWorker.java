@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 시각이 지난 임시 배정을 바로 해제하는 작업자
+ *
+ * 예약 시 등록한 지연 작업 중 만료된 것만 poll-ms 마다 꺼내서 예약을 EXPIRED 로,
+ * 좌석을 AVAILABLE 로 바꿉니다. 처리 비용은 테이블 크기가 아니라 만료된 작업 수에 비례하고,
+ * 좌석은 만료 후 poll-ms 안에 다시 예약할 수 있게 됩니다.
+ *
+ * 꺼낸 작업은 대기열에서 사라지므로 여러 노드가 실행해도 한 노드만 처리합니다.
+ * 처리 중 실패하거나 등록이 누락된 예약은 ReservationExpirationScheduler 가 주기적으로 정리합니다.
+ */
+@Component
+public class HoldExpiryWorker {
+    private static final Logger log = LoggerFactory.getLogger(HoldExpiryWorker.class);
+
+    private final HoldExpiryQueue holdExpiryQueue;
+    private final ExpiredHoldReleaser expiredHoldReleaser;
+    private final ClockProvider clockProvider;
+    private final int batchSize;
+
+    public HoldExpiryWorker(
+        HoldExpiryQueue holdExpiryQueue,
+        ExpiredHoldReleaser expiredHoldReleaser,
+        ClockProvider clockProvider,
+        @Value("${reservation.hold-expiry.batch-size:500}") int batchSize
+    ) {
+        this.holdExpiryQueue = holdExpiryQueue;
+        this.expiredHoldReleaser = expiredHoldReleaser;
+        this.clockProvider = clockProvider;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.hold-expiry.poll-ms:500}")
+    public void releaseDueHolds() {
+        LocalDateTime now = clockProvider.now();
+        while (true) {
+            List<Long> reservationIds;
+            try {
+                reservationIds = holdExpiryQueue.claimDue(now, batchSize);
+            } catch (Exception e) {
+                log.warn("Failed to claim due hold expiry jobs: {}", e.getMessage());
+                return;
+            }
+            if (reservationIds.isEmpty()) {
+                return;
+            }
+
+            try {
+                expiredHoldReleaser.release(reservationIds, now);
+            } catch (Exception e) {
+                // 꺼낸 작업은 대기열에 남지 않으므로 주기 스케줄러에 맡김
+                log.error("Failed to expire {} due holds: {}", reservationIds.size(), e.getMessage(), e);
+                return;
+            }
+
+            if (reservationIds.size() < batchSize) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 종료된 예약을 보관 테이블로 옮기는 스케줄러 (reservation.archive.enabled=true 일 때만 실행)
+ *
+ * 종료 후 retention-days 가 지난 CONFIRMED/EXPIRED 예약을 batchSize 건씩 reservation_archive 로
+ * 복사하고 reservation 에서 삭제합니다. reservation 에는 진행 중인 예약과 최근 이력만 남으므로
+ * 만료 스캔과 좌석별 HOLD 조회의 인덱스 크기가 이력 누적과 무관하게 유지됩니다.
+ *
+ * 묶음마다 별도 트랜잭션이며, 여러 노드가 함께 실행해도 이미 복사된 행은 건너뜁니다.
+ * 지표: reservation.archive.archived
+ */
+@Component
+public class ReservationArchiveScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ReservationArchiveScheduler.class);
+    private static final List<ReservationStatus> TERMINAL_STATUSES =
+        List.of(ReservationStatus.CONFIRMED, ReservationStatus.EXPIRED);
+
+    private final ReservationJpaRepository reservationJpaRepository;
+    private final ClockProvider clockProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int batchSize;
+    private final Counter archivedCounter;
+
+    public ReservationArchiveScheduler(
+        ReservationJpaRepository reservationJpaRepository,
+        ClockProvider clockProvider,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${reservation.archive.enabled:false}") boolean enabled,
+        @Value("${reservation.archive.retention-days:30}") int retentionDays,
+        @Value("${reservation.archive.batch-size:1000}") int batchSize
+    ) {
+        this.reservationJpaRepository = reservationJpaRepository;
+        this.clockProvider = clockProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.archivedCounter = Counter.builder("reservation.archive.archived")
+            .description("Terminal reservations moved to reservation_archive")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${reservation.archive.cron:0 30 4 * * *}")
+    public void archiveTerminatedReservations() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = clockProvider.now();
+        LocalDateTime before = now.minusDays(retentionDays);
+        long archived = 0;
+
+        try {
+            for (ReservationStatus status : TERMINAL_STATUSES) {
+                while (true) {
+                    Integer moved = transactionTemplate.execute(tx -> archiveBatch(status, before, now));
+                    int count = moved != null ? moved : 0;
+                    archived += count;
+                    archivedCounter.increment(count);
+                    if (count < batchSize) {
+                        break;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to archive reservations: {}", e.getMessage(), e);
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} reservations terminated before {}", archived, before);
+        }
+    }
+
+    private int archiveBatch(ReservationStatus status, LocalDateTime before, LocalDateTime now) {
+        List<Long> ids = reservationJpaRepository.findTerminatedBefore(status, before, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        reservationJpaRepository.copyToArchive(ids, now);
+        reservationJpaRepository.deleteByIds(ids);
+        return ids.size();
+    }
+}
@@ -1,24 +1,37 @@
 package kr.hhplus.be.server.reservation.scheduler;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
 import java.util.List;
-import kr.hhplus.be.server.reservation.adapter.jpa.ReservationEntity;
 import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository.ExpiredHold;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.reservation.port.ClockProvider;
 import kr.hhplus.be.server.reservation.port.SeatPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 만료된 좌석 임시 배정을 해제하는 스케줄러
- * 
- * 주기적으로 만료된 HOLD 상태의 예약을 찾아서:
- * 1. 예약 상태를 EXPIRED로 변경
- * 2. 해당 좌석의 HOLD 상태를 해제하여 AVAILABLE로 변경
+ *
+ * 주기적으로 만료된 HOLD 상태의 예약을 ID 순으로 batchSize 건씩 잘라서:
+ * 1. 예약 상태를 한 번의 UPDATE 로 EXPIRED 로 변경
+ * 2. 해당 좌석들의 HOLD 상태를 한 번의 UPDATE 로 해제하여 AVAILABLE 로 변경
+ *
+ * 묶음마다 별도 트랜잭션이라 잠금은 묶음 크기만큼만, 묶음 처리 시간 동안만 유지됩니다.
+ * 직전 묶음의 마지막 ID 다음부터 조회(키셋 페이지네이션)하므로 오프셋 스캔이 없고,
+ * 처리 도중 실패해도 커밋된 묶음은 유지되며 나머지는 다음 주기에 이어서 처리됩니다.
+ *
+ * 지표: reservation.expiration.expired, reservation.expiration.seats.released,
+ * reservation.expiration.batch (묶음당 소요 시간), reservation.expiration.run (주기당 소요 시간)
  */
 @Component
 public class ReservationExpirationScheduler {
@@ -27,54 +40,128 @@ public class ReservationExpirationScheduler {
     private final ReservationJpaRepository reservationJpaRepository;
     private final SeatPort seatPort;
     private final ClockProvider clockProvider;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final Counter expiredCounter;
+    private final Counter releasedSeatCounter;
+    private final Timer batchTimer;
+    private final Timer runTimer;
 
     public ReservationExpirationScheduler(
         ReservationJpaRepository reservationJpaRepository,
         SeatPort seatPort,
-        ClockProvider clockProvider
+        ClockProvider clockProvider,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${reservation.expiration.batch-size:1000}") int batchSize
     ) {
         this.reservationJpaRepository = reservationJpaRepository;
         this.seatPort = seatPort;
         this.clockProvider = clockProvider;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        this.expiredCounter = Counter.builder("reservation.expiration.expired")
+            .description("Held reservations moved to EXPIRED")
+            .register(meterRegistry);
+        this.releasedSeatCounter = Counter.builder("reservation.expiration.seats.released")
+            .description("Seats released from expired holds")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("reservation.expiration.batch")
+            .description("Time to expire one batch of held reservations")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("reservation.expiration.run")
+            .description("Time to expire all held reservations in one scheduler run")
+            .register(meterRegistry);
     }
 
     /**
      * 매 1분마다 실행되는 스케줄러
-     * 만료된 HOLD 상태의 예약을 찾아서 해제 처리
+     * 만료된 HOLD 상태의 예약을 묶음 단위로 해제 처리
      */
     @Scheduled(fixedRate = 60000) // 1분마다 실행
-    @Transactional
     public void expireHeldReservations() {
         LocalDateTime now = clockProvider.now();
-        List<ReservationEntity> expiredReservations = reservationJpaRepository.findExpiredHolds(
-            ReservationStatus.HOLD,
-            now
-        );
+        LocalDateTime afterExpiresAt = ReservationJpaRepository.KEYSET_START;
+        long afterId = 0;
+        long expired = 0;
+        long released = 0;
+        int batches = 0;
+        Timer.Sample run = Timer.start();
 
-        if (expiredReservations.isEmpty()) {
-            return;
-        }
-
-        log.info("Found {} expired reservations to release", expiredReservations.size());
+        try {
+            while (true) {
+                LocalDateTime cursorExpiresAt = afterExpiresAt;
+                long cursorId = afterId;
+                Timer.Sample batch = Timer.start();
+                BatchResult result = transactionTemplate.execute(
+                    status -> expireBatch(cursorExpiresAt, cursorId, now)
+                );
+                batch.stop(batchTimer);
+                if (result == null || result.size == 0) {
+                    break;
+                }
 
-        for (ReservationEntity reservation : expiredReservations) {
-            try {
-                // 예약 상태를 EXPIRED로 변경
-                reservation.updateStatus(ReservationStatus.EXPIRED, now);
-                reservationJpaRepository.save(reservation);
+                batches++;
+                expired += result.expired;
+                released += result.released;
+                expiredCounter.increment(result.expired);
+                releasedSeatCounter.increment(result.released);
+                afterExpiresAt = result.lastExpiresAt;
+                afterId = result.lastId;
+                log.debug("Expired batch {}: {} reservations, {} seats (last id {})",
+                    batches, result.expired, result.released, afterId);
 
-                // 좌석의 HOLD 상태 해제
-                var seat = seatPort.loadForUpdate(reservation.getSeatId());
-                if (seat.isHeld() && seat.isHoldExpired(now)) {
-                    seat.releaseHold();
-                    seatPort.save(seat);
-                    log.debug("Released seat {} from expired reservation {}", seat.getId(), reservation.getId());
+                if (result.size < batchSize) {
+                    break;
                 }
-            } catch (Exception e) {
-                log.error("Failed to expire reservation {}: {}", reservation.getId(), e.getMessage(), e);
             }
+        } catch (Exception e) {
+            log.error("Failed to expire reservations after id {}: {}", afterId, e.getMessage(), e);
+        } finally {
+            run.stop(runTimer);
+        }
+
+        if (expired > 0) {
+            log.info("Completed expiration processing: {} reservations, {} seats in {} batches",
+                expired, released, batches);
+        }
+    }
+
+    private BatchResult expireBatch(LocalDateTime afterExpiresAt, long afterId, LocalDateTime now) {
+        List<ExpiredHold> holds = reservationJpaRepository.findExpiredHoldsAfter(
+            ReservationStatus.HOLD,
+            now,
+            afterExpiresAt,
+            afterId,
+            PageRequest.of(0, batchSize)
+        );
+        if (holds.isEmpty()) {
+            return new BatchResult(0, 0, 0, afterExpiresAt, afterId);
         }
 
-        log.info("Completed expiration processing for {} reservations", expiredReservations.size());
+        List<Long> reservationIds = holds.stream().map(ExpiredHold::getId).toList();
+        List<Long> seatIds = holds.stream().map(ExpiredHold::getSeatId).distinct().toList();
+        int expired = reservationJpaRepository.expireHolds(reservationIds, now);
+        int released = seatPort.releaseExpiredHolds(seatIds, now);
+        ExpiredHold last = holds.get(holds.size() - 1);
+        return new BatchResult(holds.size(), expired, released, last.getExpiresAt(), last.getId());
+    }
+
+    private static class BatchResult {
+        private final int size;
+        private final int expired;
+        private final int released;
+        private final LocalDateTime lastExpiresAt;
+        private final long lastId;
+
+        private BatchResult(int size, int expired, int released, LocalDateTime lastExpiresAt, long lastId) {
+            this.size = size;
+            this.expired = expired;
+            this.released = released;
+            this.lastExpiresAt = lastExpiresAt;
+            this.lastId = lastId;
+        }
     }
 }
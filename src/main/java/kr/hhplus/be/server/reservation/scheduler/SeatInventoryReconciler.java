@@ -0,0 +1,68 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import java.util.List;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
+import kr.hhplus.be.server.reservation.domain.SeatHoldStrategy;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 재고가 비어 있는 공연 날짜만 MySQL 기준으로 적재
+ *
+ * 재고 해시는 모든 노드가 공유하므로 이미 적재된 날짜는 덮어쓰지 않습니다.
+ * 롤링 재시작 중 다른 노드가 아직 DB 에 반영하지 않은 임시 배정을 지우지 않기 위해서입니다.
+ * 이전 프로세스가 반영하지 못한 임시 배정은 만료 시각이 지나면 다시 배정 가능해지고,
+ * DB 에서 바뀐 좌석은 sync 로 반영됩니다.
+ * 지난 공연 날짜는 적재하지 않습니다.
+ * reservation.seat-hold.strategy=redis 일 때만 동작합니다.
+ */
+@Component
+public class SeatInventoryReconciler {
+    private static final Logger log = LoggerFactory.getLogger(SeatInventoryReconciler.class);
+
+    private final ConcertDateRepository concertDateRepository;
+    private final SeatPort seatPort;
+    private final SeatInventoryPort seatInventory;
+    private final ClockProvider clockProvider;
+    private final boolean enabled;
+
+    public SeatInventoryReconciler(
+        ConcertDateRepository concertDateRepository,
+        SeatPort seatPort,
+        SeatInventoryPort seatInventory,
+        ClockProvider clockProvider,
+        @Value("${reservation.seat-hold.strategy:lock}") String seatHoldStrategy
+    ) {
+        this.concertDateRepository = concertDateRepository;
+        this.seatPort = seatPort;
+        this.seatInventory = seatInventory;
+        this.clockProvider = clockProvider;
+        this.enabled = SeatHoldStrategy.from(seatHoldStrategy) == SeatHoldStrategy.REDIS;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<ConcertDate> concertDates = concertDateRepository.findByConcertDateGreaterThanEqual(
+            clockProvider.now().toLocalDate()
+        );
+        for (ConcertDate concertDate : concertDates) {
+            seatInventory.load(
+                concertDate.getConcertDate(),
+                seatPort.loadAll(concertDate.getConcertDate()),
+                false
+            );
+        }
+        log.info("Loaded missing seat inventory for {} upcoming concert dates from MySQL", concertDates.size());
+    }
+}
@@ -0,0 +1,4 @@
+-- 분산 락 펜싱 토큰 (더 작은 토큰을 가진 이전 락 보유자의 변경을 거부)
+-- 토큰은 시각 기반 값에서 시작하므로 기존 행의 0 보다 항상 큼
+alter table reservation add column fencing_token bigint not null default 0;
+alter table user_point add column fencing_token bigint not null default 0;
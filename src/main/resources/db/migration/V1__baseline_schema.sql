@@ -0,0 +1,65 @@
+-- 기존 운영 DB 의 스키마 (ddl-auto: none 으로 직접 관리하던 시점)
+-- 이미 운영 중인 DB 는 baseline-on-migrate 로 이 버전을 기준선으로만 기록하고 이후 버전부터 적용합니다.
+-- 따라서 이 파일은 수정하지 않고, 스키마 변경은 새 버전 파일로 추가합니다.
+
+create table concert_date (
+    id bigint not null auto_increment,
+    concert_date date not null,
+    primary key (id),
+    constraint uk_concert_date_concert_date unique (concert_date)
+) engine = InnoDB;
+
+create table seat (
+    id bigint not null auto_increment,
+    concert_date_id bigint not null,
+    seat_number integer not null,
+    status varchar(20) not null,
+    hold_user_id varchar(255),
+    hold_expires_at datetime(6),
+    reserved_user_id varchar(255),
+    primary key (id),
+    constraint uk_seat_concert_date_seat_number unique (concert_date_id, seat_number),
+    constraint fk_seat_concert_date foreign key (concert_date_id) references concert_date (id)
+) engine = InnoDB;
+
+create table reservation (
+    id bigint not null auto_increment,
+    seat_id bigint not null,
+    user_id varchar(255) not null,
+    status varchar(20) not null,
+    expires_at datetime(6),
+    created_at datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table payment (
+    id bigint not null auto_increment,
+    reservation_id bigint not null,
+    user_id varchar(255) not null,
+    amount bigint not null,
+    paid_at datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table user_point (
+    id bigint not null auto_increment,
+    user_id varchar(255) not null,
+    balance bigint not null,
+    primary key (id),
+    constraint uk_user_point_user_id unique (user_id)
+) engine = InnoDB;
+
+create table reservation_token (
+    id bigint not null auto_increment,
+    user_id varchar(255) not null,
+    token varchar(255) not null,
+    status varchar(20) not null,
+    position integer not null,
+    expires_at datetime(6),
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_reservation_token_token unique (token)
+) engine = InnoDB;
+
+create index idx_reservation_token_user on reservation_token (user_id);
+create index idx_reservation_token_token on reservation_token (token);
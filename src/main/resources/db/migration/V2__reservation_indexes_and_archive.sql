@@ -0,0 +1,21 @@
+-- 예약 조회 인덱스
+-- 만료/보관 조회(status = ? and expires_at < ?)는 인덱스 범위만 읽음.
+-- seat_id 까지 포함하고 InnoDB 보조 인덱스에는 id 가 들어 있으므로 (id, seat_id) 조회는 테이블을 읽지 않음
+create index idx_reservation_status_expires on reservation (status, expires_at, seat_id);
+-- 좌석별 활성 예약 조회 (findFirstBySeatIdAndStatus)
+create index idx_reservation_seat_status on reservation (seat_id, status);
+
+-- 종료된 예약 보관 테이블 (reservation.archive.enabled=true 일 때 ReservationArchiveScheduler 가 옮김)
+create table reservation_archive (
+    id bigint not null,
+    seat_id bigint not null,
+    user_id varchar(255) not null,
+    status varchar(20) not null,
+    expires_at datetime(6),
+    created_at datetime(6) not null,
+    fencing_token bigint not null,
+    archived_at datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_reservation_archive_user on reservation_archive (user_id);
@@ -0,0 +1,3 @@
+-- 공연 날짜별 좌석 수 (SeatProvisioningService 가 좌석 번호 1..seat_count 를 미리 만듦)
+-- 기존 날짜는 조회 시 50석을 만들던 방식으로 채워졌으므로 50 으로 둠
+alter table concert_date add column seat_count integer not null default 50;
@@ -0,0 +1,5 @@
+-- 만료/타이머 재구성 조회를 (expires_at, id) 키셋으로 넘기기 위한 인덱스
+-- V2 인덱스는 expires_at 다음이 seat_id 라 order by expires_at, id 를 인덱스 순서로 읽지 못함
+-- id 를 seat_id 앞에 두어 정렬과 (id, seat_id, expires_at) 조회를 모두 인덱스만으로 처리
+create index idx_reservation_status_expires_id on reservation (status, expires_at, id, seat_id);
+drop index idx_reservation_status_expires on reservation;
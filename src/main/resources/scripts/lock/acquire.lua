@@ -0,0 +1,20 @@
+-- 소유자 ID 로 락을 잡고 펜싱 토큰을 발급한다.
+--
+-- KEYS[1] 락 키
+-- KEYS[2] 펜싱 토큰 카운터 키
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 임대 시간 ms
+-- ARGV[3] 카운터가 없을 때의 시작 값 (현재 시각 기반, Redis 데이터 유실 후에도 토큰이 줄어들지 않도록)
+-- ARGV[4] 카운터 유지 시간 ms (임대 시간보다 충분히 길게, 락을 다시 잡지 않는 키의 카운터는 스스로 만료)
+--
+-- 반환값: 펜싱 토큰 (획득 실패 시 0)
+
+if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 0
+end
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+local token = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[4])
+return token
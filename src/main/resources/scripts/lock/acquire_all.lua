@@ -0,0 +1,28 @@
+-- 여러 락을 한 번에 잡는다. 하나라도 잡혀 있으면 아무것도 잡지 않는다.
+--
+-- KEYS[1..n]    락 키 (정렬된 순서)
+-- KEYS[n+1..2n] 펜싱 토큰 카운터 키 (락 키와 같은 순서)
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 임대 시간 ms
+-- ARGV[3] 카운터가 없을 때의 시작 값
+-- ARGV[4] 카운터 유지 시간 ms
+--
+-- 반환값: 성공 시 키 순서대로 펜싱 토큰 목록, 실패 시 { -(처음 막힌 락 키의 위치) }
+
+local n = #KEYS / 2
+for i = 1, n do
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        return { -i }
+    end
+end
+
+local tokens = {}
+for i = 1, n do
+    redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2])
+    if redis.call('EXISTS', KEYS[n + i]) == 0 then
+        redis.call('SET', KEYS[n + i], ARGV[3])
+    end
+    tokens[i] = redis.call('INCR', KEYS[n + i])
+    redis.call('PEXPIRE', KEYS[n + i], ARGV[4])
+end
+return tokens
@@ -0,0 +1,12 @@
+-- 자신이 잡은 락일 때만 임대 시간을 다시 설정한다.
+--
+-- KEYS[1] 락 키
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 임대 시간 ms
+--
+-- 반환값: 연장했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,50 @@
+-- 공정(FIFO) 락: 대기 순번을 발급받고, 맨 앞 순번일 때만 락을 잡는다.
+--
+-- KEYS[1] 락 키
+-- KEYS[2] 펜싱 토큰 카운터 키
+-- KEYS[3] 대기 순번 (ZSET, 소유자 ID -> 순번)
+-- KEYS[4] 순번 카운터
+-- KEYS[5] 대기자 생존 시각 (ZSET, 소유자 ID -> 이 시각까지 재시도가 없으면 순번에서 제외, ms)
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 임대 시간 ms
+-- ARGV[3] 펜싱 카운터가 없을 때의 시작 값
+-- ARGV[4] 대기자 생존 시간 ms (대기자는 이보다 짧은 주기로 재시도하며 갱신)
+-- ARGV[5] 펜싱 카운터 유지 시간 ms
+--
+-- 반환값: 펜싱 토큰 (락이 잡혀 있거나 앞선 대기자가 있으면 0)
+
+local owner = ARGV[1]
+local waiterTtlMs = tonumber(ARGV[4])
+-- 노드 간 시계 차이가 없도록 Redis 시각을 사용
+local time = redis.call('TIME')
+local nowMs = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+-- 재시도가 끊긴 대기자(프로세스 종료 등)는 순번에서 제외
+local dead = redis.call('ZRANGEBYSCORE', KEYS[5], '-inf', nowMs)
+for _, id in ipairs(dead) do
+    redis.call('ZREM', KEYS[3], id)
+    redis.call('ZREM', KEYS[5], id)
+end
+
+if not redis.call('ZSCORE', KEYS[3], owner) then
+    redis.call('ZADD', KEYS[3], redis.call('INCR', KEYS[4]), owner)
+end
+redis.call('ZADD', KEYS[5], nowMs + waiterTtlMs, owner)
+-- 대기자가 모두 사라지면 대기 키도 스스로 만료
+for i = 3, 5 do
+    redis.call('PEXPIRE', KEYS[i], waiterTtlMs * 10)
+end
+
+local head = redis.call('ZRANGE', KEYS[3], 0, 0)
+if head[1] ~= owner or not redis.call('SET', KEYS[1], owner, 'NX', 'PX', ARGV[2]) then
+    return 0
+end
+
+redis.call('ZREM', KEYS[3], owner)
+redis.call('ZREM', KEYS[5], owner)
+if redis.call('EXISTS', KEYS[2]) == 0 then
+    redis.call('SET', KEYS[2], ARGV[3])
+end
+local token = redis.call('INCR', KEYS[2])
+redis.call('PEXPIRE', KEYS[2], ARGV[5])
+return token
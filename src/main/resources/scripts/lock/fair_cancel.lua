@@ -0,0 +1,20 @@
+-- 공정 락 대기 포기: 순번에서 빠지고, 맨 앞이었다면 다음 대기자에게 차례를 넘긴다.
+--
+-- KEYS 는 fair_acquire.lua 와 같음 (KEYS[1] 락, KEYS[3] 대기 순번, KEYS[5] 생존 시각 사용)
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 순번 알림 채널
+--
+-- 반환값: 순번에서 빠졌으면 1, 이미 없었으면 0
+
+local head = redis.call('ZRANGE', KEYS[3], 0, 0)
+redis.call('ZREM', KEYS[5], ARGV[1])
+if redis.call('ZREM', KEYS[3], ARGV[1]) == 0 then
+    return 0
+end
+if head[1] == ARGV[1] and redis.call('EXISTS', KEYS[1]) == 0 then
+    local next = redis.call('ZRANGE', KEYS[3], 0, 0)
+    if next[1] then
+        redis.call('PUBLISH', ARGV[2], next[1])
+    end
+end
+return 1
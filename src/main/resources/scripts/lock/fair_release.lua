@@ -0,0 +1,17 @@
+-- 공정 락 해제: 자신이 잡은 락일 때만 해제하고, 다음 순번 대기자에게 알린다.
+--
+-- KEYS 는 fair_acquire.lua 와 같음 (KEYS[1] 락, KEYS[3] 대기 순번 사용)
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 순번 알림 채널 (다음 대기자의 소유자 ID 를 발행)
+--
+-- 반환값: 해제했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+local head = redis.call('ZRANGE', KEYS[3], 0, 0)
+if head[1] then
+    redis.call('PUBLISH', ARGV[2], head[1])
+end
+return 1
@@ -0,0 +1,16 @@
+-- 자신이 잡은 락일 때만 해제한다. (임대가 끝나 다른 소유자가 잡은 락은 건드리지 않음)
+--
+-- KEYS[1] 락 키
+-- ARGV[1] 소유자 ID
+-- ARGV[2] 해제 알림 채널 (빈 문자열이면 알리지 않음)
+--
+-- 반환값: 해제했으면 1, 아니면 0
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    if ARGV[2] ~= '' then
+        redis.call('PUBLISH', ARGV[2], '1')
+    end
+    return 1
+end
+return 0
@@ -0,0 +1,19 @@
+-- 여러 락 중 자신이 잡은 것만 해제한다.
+--
+-- KEYS[1..n] 락 키
+-- ARGV[1] 소유자 ID
+-- ARGV[2..n+1] 락 키별 해제 알림 채널 (빈 문자열이면 알리지 않음)
+--
+-- 반환값: 해제한 락 수
+
+local released = 0
+for i = 1, #KEYS do
+    if redis.call('GET', KEYS[i]) == ARGV[1] then
+        redis.call('DEL', KEYS[i])
+        if ARGV[i + 1] ~= '' then
+            redis.call('PUBLISH', ARGV[i + 1], '1')
+        end
+        released = released + 1
+    end
+end
+return released
@@ -0,0 +1,182 @@
+-- 대기열 스크립트 엔진
+-- 입장(중복 제거), 활성화, 해제, 일괄 승격을 단일 EVALSHA 로 원자적으로 처리한다.
+-- 대기열 승격은 요청 경로가 아닌 QueueActivationScheduler 의 promote 호출에서만 일어난다.
+-- 접근하는 키는 모두 KEYS 로 전달받으며, 날짜 대기열/샤드의 키는 같은 해시 태그를 가진다.
+--
+-- KEYS[1] 대기열 (ZSET, userId -> 진입 시각 ms)
+-- KEYS[2] 활성 토큰 (HASH, userId -> token)
+-- KEYS[3] 활성 토큰 만료 (ZSET, userId -> 만료 시각 ms)
+-- KEYS[4] 현재 초의 이탈 카운터 (STRING, 활성 토큰 완료/만료 수, 대기 시간 추정용)
+-- KEYS[5] 사용자 메타데이터 (STRING, token)   : enqueue / activate / release
+-- KEYS[6] 토큰 역색인 (STRING, userId)         : enqueue / activate / release
+--         promote 는 승격 후보마다 메타데이터/역색인 키를 한 쌍씩 KEYS[5] 부터 전달
+--
+-- ARGV[1] 명령 (enqueue | activate | release | promote)
+-- ARGV[2] 활성 토큰 최대 수
+-- ARGV[3] 한 번에 승격할 최대 인원 (promote 전용)
+-- ARGV[4] 현재 시각 ms
+-- ARGV[5] 활성 토큰 유효 시간 ms
+-- ARGV[6..] 명령별 인자
+--         promote 는 대기열 앞에서 읽은 후보의 userId, 토큰('' 이면 메타데이터 없음) 쌍
+--
+-- 반환값: { 상태, 토큰, 숫자(대기 순번 또는 승격 인원) }
+--         promote 는 { 'PROMOTED', '', 승격 인원, 승격된 userId 목록, 대기열에서 빠진 인원 }
+
+local command = ARGV[1]
+local activeLimit = tonumber(ARGV[2])
+local promoteBatch = tonumber(ARGV[3])
+local nowMs = tonumber(ARGV[4])
+local activeTtlMs = tonumber(ARGV[5])
+
+local waitingKey = KEYS[1]
+local activeKey = KEYS[2]
+local expiryKey = KEYS[3]
+local exitsKey = KEYS[4]
+
+-- 요청 경로에서 한 번에 정리할 만료 토큰 수 (나머지는 승격 주기에서 정리)
+local INLINE_REAP_LIMIT = 100
+
+-- 활성 토큰 이탈 수를 초 단위 버킷에 기록 (최근 60초만 사용)
+local function recordExits(count)
+    if count > 0 then
+        redis.call('INCRBY', exitsKey, count)
+        redis.call('EXPIRE', exitsKey, 120)
+    end
+end
+
+-- 만료 시각이 지난 활성 토큰을 최대 maxCount 개까지 회수
+local function reap(maxCount)
+    local expired = redis.call('ZRANGEBYSCORE', expiryKey, '-inf', nowMs, 'LIMIT', 0, maxCount)
+    for _, userId in ipairs(expired) do
+        redis.call('HDEL', activeKey, userId)
+        redis.call('ZREM', expiryKey, userId)
+    end
+    recordExits(#expired)
+    return #expired
+end
+
+-- 토큰마다 개별 만료 시각을 기록하고, 메타데이터/역색인 TTL 을 활성 유효 시간에 맞춤
+local function admit(userId, token, metadataKey, indexKey)
+    redis.call('HSET', activeKey, userId, token)
+    -- 예전 방식(해시 전체 EXPIRE)으로 걸린 TTL 이 남아 있으면 제거
+    redis.call('PERSIST', activeKey)
+    redis.call('ZADD', expiryKey, nowMs + activeTtlMs, userId)
+    redis.call('PEXPIRE', metadataKey, activeTtlMs)
+    redis.call('PEXPIRE', indexKey, activeTtlMs)
+end
+
+-- 호출자가 대기열 앞에서 읽은 후보 순서대로 빈 자리만큼 Active 로 이동
+-- 후보를 읽은 뒤 상태가 바뀐 사용자는 건너뛰거나 다음 주기로 넘긴다.
+local function promote()
+    reap(promoteBatch)
+    local available = activeLimit - redis.call('ZCARD', expiryKey)
+    local promotedUsers = {}
+    local dequeued = 0
+    local candidate = 0
+    while available > 0 and #promotedUsers < promoteBatch and ARGV[6 + candidate * 2] do
+        local userId = ARGV[6 + candidate * 2]
+        local expectedToken = ARGV[7 + candidate * 2]
+        local metadataKey = KEYS[5 + candidate * 2]
+        local indexKey = KEYS[6 + candidate * 2]
+        candidate = candidate + 1
+
+        -- 이미 활성화되었거나 나간 사용자는 건너뜀
+        if redis.call('ZSCORE', waitingKey, userId) then
+            local token = redis.call('GET', metadataKey)
+            if not token then
+                -- 메타데이터가 만료된 사용자는 대기열에서 제거만 한다
+                redis.call('ZREM', waitingKey, userId)
+                dequeued = dequeued + 1
+            elseif token ~= expectedToken then
+                -- 후보를 읽은 뒤 토큰이 바뀜 (역색인 키를 받지 못했으므로 다음 주기에 승격)
+                break
+            else
+                redis.call('ZREM', waitingKey, userId)
+                dequeued = dequeued + 1
+                admit(userId, token, metadataKey, indexKey)
+                promotedUsers[#promotedUsers + 1] = userId
+                available = available - 1
+            end
+        end
+    end
+    return promotedUsers, dequeued
+end
+
+local function status(userId, token)
+    if redis.call('HGET', activeKey, userId) == token then
+        return { 'ACTIVE', token, 0 }
+    end
+    local rank = redis.call('ZRANK', waitingKey, userId)
+    if rank then
+        return { 'WAITING', token, rank + 1 }
+    end
+    return { 'NONE', token, -1 }
+end
+
+if command == 'enqueue' then
+    local userId, token, score, ttl = ARGV[6], ARGV[7], ARGV[8], ARGV[9]
+    reap(INLINE_REAP_LIMIT)
+
+    -- 중복 제거: 이미 Active 이거나 유효한 대기 토큰이 있으면 그대로 반환
+    local activeToken = redis.call('HGET', activeKey, userId)
+    if activeToken then
+        return { 'ACTIVE', activeToken, 0 }
+    end
+    local rank = redis.call('ZRANK', waitingKey, userId)
+    if rank then
+        local waitingToken = redis.call('GET', KEYS[5])
+        if waitingToken then
+            return { 'WAITING', waitingToken, rank + 1 }
+        end
+        redis.call('ZREM', waitingKey, userId)
+    end
+
+    redis.call('SET', KEYS[5], token, 'EX', ttl)
+    redis.call('SET', KEYS[6], userId, 'EX', ttl)
+
+    -- 기다리는 사람이 없고 자리가 남아 있으면 바로 입장 (앞선 대기자를 추월하지 않음)
+    if redis.call('ZCARD', waitingKey) == 0 and redis.call('ZCARD', expiryKey) < activeLimit then
+        admit(userId, token, KEYS[5], KEYS[6])
+        return { 'ACTIVE', token, 0 }
+    end
+
+    redis.call('ZADD', waitingKey, score, userId)
+    redis.call('EXPIRE', waitingKey, 86400)
+    return status(userId, token)
+end
+
+if command == 'activate' then
+    local userId, token = ARGV[6], ARGV[7]
+    redis.call('SET', KEYS[5], token)
+    redis.call('SET', KEYS[6], userId)
+    admit(userId, token, KEYS[5], KEYS[6])
+    redis.call('ZREM', waitingKey, userId)
+    return { 'ACTIVE', token, 0 }
+end
+
+if command == 'release' then
+    local userId, token = ARGV[6], ARGV[7]
+    -- 같은 사용자가 새로 발급받은 토큰은 건드리지 않는다
+    if redis.call('HGET', activeKey, userId) == token then
+        redis.call('HDEL', activeKey, userId)
+        redis.call('ZREM', expiryKey, userId)
+        recordExits(1)
+    end
+    local current = redis.call('GET', KEYS[5])
+    if current == token or not current then
+        redis.call('ZREM', waitingKey, userId)
+    end
+    if current == token then
+        redis.call('DEL', KEYS[5])
+    end
+    redis.call('DEL', KEYS[6])
+    -- 비워진 자리는 다음 승격 주기에 채워진다
+    return { 'RELEASED', token, 0 }
+end
+
+if command == 'promote' then
+    local promotedUsers, dequeued = promote()
+    return { 'PROMOTED', '', #promotedUsers, promotedUsers, dequeued }
+end
+
+return redis.error_reply('Unknown queue command: ' .. tostring(command))
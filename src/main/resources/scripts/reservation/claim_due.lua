@@ -0,0 +1,14 @@
+-- 만료 시각이 지난 지연 작업을 꺼내고 대기열에서 제거한다.
+-- 조회와 제거가 한 스크립트라 여러 작업자가 동시에 실행해도 같은 작업을 두 번 받지 않는다.
+--
+-- KEYS[1] 지연 작업 대기열 (ZSET, 예약 ID -> 만료 시각 ms)
+-- ARGV[1] 현재 시각 ms (이 시각보다 먼저 만료된 작업만 꺼냄)
+-- ARGV[2] 최대 개수
+--
+-- 반환값: 예약 ID 목록 (만료 시각 순)
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+if #due > 0 then
+    redis.call('ZREM', KEYS[1], unpack(due))
+end
+return due
@@ -0,0 +1,62 @@
+-- 좌석 재고 스크립트 엔진
+-- 공연 날짜별 좌석 상태를 HASH 하나에 두고 선점/동기화/적재를 단일 EVALSHA 로 원자적으로 처리한다.
+-- MySQL 이 원본이며, 이 HASH 는 경합에서 진 요청을 DB 에 가기 전에 걸러내는 용도이다.
+--
+-- KEYS[1] 좌석 재고 (HASH, 좌석 번호 -> 상태)
+--         상태 값: 'A' (빈 좌석) | 'H|만료 시각 ms|userId' (임시 배정) | 'R|userId' (예약 완료)
+--
+-- ARGV[1] 명령 (hold | sync | load)
+-- hold : ARGV[2] 좌석 번호, ARGV[3] userId, ARGV[4] 만료 시각 ms, ARGV[5] 현재 시각 ms
+--        반환값: 'HELD' | 'TAKEN' | 'NOT_LOADED'
+-- sync : ARGV[2] 좌석 번호, ARGV[3] 상태 값 (DB 에서 바뀐 좌석 하나를 반영, 적재 전이면 무시)
+--        반환값: 1 (반영) | 0 (적재 전)
+-- load : ARGV[2] 덮어쓰기 여부 (1 | 0), ARGV[3..] 좌석 번호, 상태 값 쌍
+--        반환값: 1 (적재) | 0 (이미 적재되어 있어 건너뜀)
+
+local command = ARGV[1]
+local inventoryKey = KEYS[1]
+
+if command == 'hold' then
+    if redis.call('EXISTS', inventoryKey) == 0 then
+        return 'NOT_LOADED'
+    end
+    local state = redis.call('HGET', inventoryKey, ARGV[2])
+    if not state then
+        return 'NOT_LOADED'
+    end
+    local available = state == 'A'
+    if not available and string.sub(state, 1, 2) == 'H|' then
+        -- 만료된 임시 배정은 빈 좌석으로 간주
+        local expiresAtMs = tonumber(string.match(state, '^H|(%d+)|'))
+        available = expiresAtMs ~= nil and expiresAtMs <= tonumber(ARGV[5])
+    end
+    if not available then
+        return 'TAKEN'
+    end
+    redis.call('HSET', inventoryKey, ARGV[2], 'H|' .. ARGV[4] .. '|' .. ARGV[3])
+    return 'HELD'
+end
+
+if command == 'sync' then
+    if redis.call('EXISTS', inventoryKey) == 0 then
+        return 0
+    end
+    redis.call('HSET', inventoryKey, ARGV[2], ARGV[3])
+    return 1
+end
+
+if command == 'load' then
+    local exists = redis.call('EXISTS', inventoryKey) == 1
+    if exists and ARGV[2] ~= '1' then
+        return 0
+    end
+    if exists then
+        redis.call('DEL', inventoryKey)
+    end
+    for i = 3, #ARGV, 2 do
+        redis.call('HSET', inventoryKey, ARGV[i], ARGV[i + 1])
+    end
+    return 1
+end
+
+return redis.error_reply('Unknown seat inventory command: ' .. tostring(command))
@@ -2,6 +2,7 @@ package kr.hhplus.be.server.concert.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,7 +16,6 @@ import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,25 +44,30 @@ class ConcertQueryServiceTest {
     }
 
     @Test
-    void createsSeatsWhenNoneExist() {
+    void returnsAvailableSeatsOfProvisionedDate() {
         LocalDate date = LocalDate.of(2025, 1, 1);
-        ConcertDate concertDate = new ConcertDate(date);
+        ConcertDate concertDate = new ConcertDate(date, 50);
         ReflectionTestUtils.setField(concertDate, "id", 10L);
 
         when(concertDateRepository.findByConcertDate(date)).thenReturn(Optional.of(concertDate));
-        when(seatRepository.countByConcertDateId(10L)).thenReturn(0L);
         when(seatRepository.findByConcertDateIdAndStatus(10L, SeatStatus.AVAILABLE))
             .thenReturn(List.of(Seat.available(concertDate, 1)));
 
-        concertQueryService.getAvailableSeats(date);
+        List<Seat> seats = concertQueryService.getAvailableSeats(date);
 
-        ArgumentCaptor<List<Seat>> captor = ArgumentCaptor.forClass(List.class);
-        verify(seatRepository).saveAll(captor.capture());
+        assertThat(seats).extracting(Seat::getSeatNumber).containsExactly(1);
+        verify(seatRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void returnsNoSeatsWithoutCreatingThemWhenDateIsNotProvisioned() {
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        when(concertDateRepository.findByConcertDate(date)).thenReturn(Optional.empty());
+
+        List<Seat> seats = concertQueryService.getAvailableSeats(date);
 
-        List<Seat> createdSeats = captor.getValue();
-        assertThat(createdSeats).hasSize(50);
-        assertThat(createdSeats.get(0).getSeatNumber()).isEqualTo(1);
-        assertThat(createdSeats.get(createdSeats.size() - 1).getSeatNumber()).isEqualTo(50);
-        verify(seatRepository).findByConcertDateIdAndStatus(10L, SeatStatus.AVAILABLE);
+        assertThat(seats).isEmpty();
+        verify(concertDateRepository, never()).save(any());
+        verify(seatRepository, never()).saveAll(any());
     }
 }
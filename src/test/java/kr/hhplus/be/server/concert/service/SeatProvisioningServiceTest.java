@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.concert.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.SeatStatus;
+import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.application.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.application.ReserveSeatUseCase;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "reservation.seat-hold.strategy=redis")
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class SeatProvisioningServiceTest {
+    private static final LocalDate FIRST = LocalDate.of(2025, 5, 1);
+    private static final LocalDate SECOND = LocalDate.of(2025, 5, 2);
+
+    @Autowired
+    private SeatProvisioningService seatProvisioningService;
+
+    @Autowired
+    private ConcertQueryService concertQueryService;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ReserveSeatUseCase reserveSeatUseCase;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @AfterEach
+    void tearDown() {
+        reservationJpaRepository.deleteAll();
+        seatRepository.deleteAll();
+        redisTemplate.delete(List.of("seat:inventory:" + FIRST, "seat:inventory:" + SECOND));
+        concertDateRepository.deleteAll();
+        concertQueryService.evictAllCaches();
+    }
+
+    @Test
+    void createsDatesAndSeatsInBulk() {
+        // When: 두 날짜에 120석씩 준비
+        int created = seatProvisioningService.provision(List.of(FIRST, SECOND, FIRST), 120);
+
+        // Then: 중복 날짜는 한 번만, 좌석 번호 1..120 이 AVAILABLE 로 생성
+        assertThat(created).isEqualTo(240);
+        assertThat(concertDateRepository.findAll())
+            .extracting(ConcertDate::getConcertDate, ConcertDate::getSeatCount)
+            .containsExactlyInAnyOrder(
+                tuple(FIRST, 120),
+                tuple(SECOND, 120)
+            );
+        assertThat(concertQueryService.getAvailableSeats(FIRST))
+            .hasSize(120)
+            .allMatch(seat -> seat.getStatus() == SeatStatus.AVAILABLE);
+        assertThat(concertQueryService.getAvailableDates()).containsExactly(FIRST, SECOND);
+    }
+
+    @Test
+    void rerunOnlyAddsMissingSeats() {
+        seatProvisioningService.provision(List.of(FIRST), 50);
+
+        // 같은 요청을 다시 보내면 아무것도 만들지 않음
+        assertThat(seatProvisioningService.provision(List.of(FIRST), 50)).isZero();
+
+        // 좌석 수를 늘리면 51..80 만 추가, 줄이는 요청은 기존 좌석을 그대로 둠
+        assertThat(seatProvisioningService.provision(List.of(FIRST), 80)).isEqualTo(30);
+        assertThat(seatProvisioningService.provision(List.of(FIRST), 10)).isZero();
+
+        assertThat(seatRepository.count()).isEqualTo(80);
+        assertThat(concertDateRepository.findByConcertDate(FIRST).orElseThrow().getSeatCount()).isEqualTo(80);
+    }
+
+    @Test
+    void addsGrownSeatsToLoadedSeatInventory() {
+        testClockProvider.setNow(LocalDateTime.of(2025, 4, 1, 10, 0));
+        seatProvisioningService.provision(List.of(FIRST), 50);
+        // 첫 예약에서 날짜의 좌석 재고가 Redis 에 적재됨
+        reserveSeatUseCase.reserve(new ReserveSeatCommand("user-1", FIRST, 1));
+
+        seatProvisioningService.provision(List.of(FIRST), 80);
+
+        // 적재된 재고에 51..80 번 좌석이 추가되어 바로 예약 가능
+        var reservation = reserveSeatUseCase.reserve(new ReserveSeatCommand("user-2", FIRST, 70));
+        assertThat(reservationJpaRepository.findById(reservation.getId()).orElseThrow().getUserId())
+            .isEqualTo("user-2");
+        assertThat(redisTemplate.opsForHash().hasKey("seat:inventory:" + FIRST, "80")).isTrue();
+    }
+
+    @Test
+    void rejectsInvalidRequest() {
+        assertThatThrownBy(() -> seatProvisioningService.provision(List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> seatProvisioningService.provision(List.of(FIRST), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,264 @@
+package kr.hhplus.be.server.lock.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.lock.adapter.redis.FairDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.FencedDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.HybridDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.PubSubDistributedLock;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockHandle;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Hot-key lock contention: 10ms spin polling vs pub/sub release notification,
+ * and pub/sub with same-node contenders queued in the JVM first.
+ * Also compares acquire latency and failure rate of spin, pub/sub and fair (FIFO) locks
+ * when waiters give up after the same wait time as the payment path.
+ *
+ * THREADS contenders each take the same key ROUNDS times and hold it for HOLD_MS.
+ * Reports Redis commands per acquisition and the handoff latency (release -> next acquire).
+ *
+ * Run with ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class DistributedLockBenchmarkTest {
+    private static final int THREADS = 50;
+    private static final int ROUNDS = 10;
+    private static final long HOLD_MS = 5;
+    private static final long CONTENTION_WAIT_MS = 1000; // same as the payment path
+    private static final long CONTENTION_HOLD_MS = 20;
+
+    @Autowired
+    private FencedDistributedLock spinLock;
+
+    @Autowired
+    private PubSubDistributedLock pubSubLock;
+
+    @Autowired
+    private FairDistributedLock fairLock;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void pubSubLockReducesRedisTrafficAndHandoffLatency() throws Exception {
+        Result spin = run(spinLock, "bench:spin");
+        Result pubSub = run(pubSubLock, "bench:pubsub");
+
+        System.out.printf(
+            "[benchmark] threads=%d acquisitions=%d | spin: commands/acquire=%.1f handoff p50=%.2fms p99=%.2fms"
+                + " | pubsub: commands/acquire=%.1f handoff p50=%.2fms p99=%.2fms%n",
+            THREADS,
+            THREADS * ROUNDS,
+            spin.commandsPerAcquire, spin.p50Ms, spin.p99Ms,
+            pubSub.commandsPerAcquire, pubSub.p50Ms, pubSub.p99Ms
+        );
+
+        assertThat(pubSub.commandsPerAcquire).isLessThan(spin.commandsPerAcquire);
+    }
+
+    @Test
+    void localQueueingSendsOneContenderPerNodeToRedis() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Result pubSub = run(pubSubLock, "bench:pubsub");
+        Result hybrid = run(new HybridDistributedLock(pubSubLock, meterRegistry), "bench:hybrid");
+
+        double queued = meterRegistry.counter("lock.local.acquire", "key", "bench:hybrid", "result", "queued").count();
+        double failedRedis = meterRegistry.counter("lock.redis.acquire", "key", "bench:hybrid", "result", "failed").count();
+        System.out.printf(
+            "[benchmark] threads=%d acquisitions=%d | pubsub: commands/acquire=%.1f handoff p50=%.2fms p99=%.2fms"
+                + " | hybrid: commands/acquire=%.1f handoff p50=%.2fms p99=%.2fms queuedLocally=%.0f redisFailures=%.0f%n",
+            THREADS,
+            THREADS * ROUNDS,
+            pubSub.commandsPerAcquire, pubSub.p50Ms, pubSub.p99Ms,
+            hybrid.commandsPerAcquire, hybrid.p50Ms, hybrid.p99Ms,
+            queued, failedRedis
+        );
+
+        // Single node: the local winner always finds the Redis key free
+        assertThat(failedRedis).isZero();
+        assertThat(hybrid.commandsPerAcquire).isLessThan(pubSub.commandsPerAcquire);
+    }
+
+    @Test
+    void fairLockBoundsTailLatencyUnderSustainedContention() throws Exception {
+        Contention spin = contend(spinLock, "bench:contention:spin");
+        Contention pubSub = contend(pubSubLock, "bench:contention:pubsub");
+        Contention fair = contend(fairLock, "bench:contention:fair");
+
+        System.out.printf(
+            "[benchmark] threads=%d attempts=%d wait=%dms hold=%dms"
+                + " | spin: p50=%.1fms p99=%.1fms failures=%.1f%%"
+                + " | pubsub: p50=%.1fms p99=%.1fms failures=%.1f%%"
+                + " | fair: p50=%.1fms p99=%.1fms failures=%.1f%%%n",
+            THREADS, THREADS * ROUNDS, CONTENTION_WAIT_MS, CONTENTION_HOLD_MS,
+            spin.p50Ms, spin.p99Ms, spin.failureRate * 100,
+            pubSub.p50Ms, pubSub.p99Ms, pubSub.failureRate * 100,
+            fair.p50Ms, fair.p99Ms, fair.failureRate * 100
+        );
+
+        assertThat(fair.failureRate).isLessThanOrEqualTo(spin.failureRate);
+    }
+
+    /**
+     * Every thread retries ROUNDS times with the payment path's wait time and records
+     * how long each successful acquisition waited.
+     */
+    private Contention contend(FencedLock lock, String key) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    long requested = System.nanoTime();
+                    var handle = lock.tryAcquire(key, CONTENTION_WAIT_MS, 5_000);
+                    if (handle.isEmpty()) {
+                        failures.incrementAndGet();
+                        continue;
+                    }
+                    latencies.add(System.nanoTime() - requested);
+                    Thread.sleep(CONTENTION_HOLD_MS);
+                    lock.release(handle.get());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(300, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Contention(
+            sorted.isEmpty() ? 0 : sorted.get(sorted.size() / 2) / 1_000_000.0,
+            sorted.isEmpty() ? 0 : sorted.get((int) (sorted.size() * 0.99)) / 1_000_000.0,
+            (double) failures.get() / (THREADS * ROUNDS)
+        );
+    }
+
+    private Result run(FencedLock lock, String key) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong lastReleaseNanos = new AtomicLong();
+        List<Long> handoffs = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> results = new ArrayList<>();
+
+        resetCommandStats();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    LockHandle handle = lock.tryAcquire(key, 30_000, 5_000).orElseThrow();
+                    long released = lastReleaseNanos.get();
+                    if (released > 0) {
+                        handoffs.add(System.nanoTime() - released);
+                    }
+                    Thread.sleep(HOLD_MS);
+                    lastReleaseNanos.set(System.nanoTime());
+                    lock.release(handle);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> result : results) {
+            result.get(120, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        long commands = totalCommands();
+
+        List<Long> sorted = new ArrayList<>(handoffs);
+        Collections.sort(sorted);
+        return new Result(
+            (double) commands / (THREADS * ROUNDS),
+            sorted.get(sorted.size() / 2) / 1_000_000.0,
+            sorted.get((int) (sorted.size() * 0.99)) / 1_000_000.0
+        );
+    }
+
+    private void resetCommandStats() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.serverCommands().resetConfigStats();
+        }
+    }
+
+    private long totalCommands() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            Properties stats = connection.serverCommands().info("commandstats");
+            long total = 0;
+            for (String name : stats.stringPropertyNames()) {
+                String value = stats.getProperty(name);
+                if (!name.startsWith("cmdstat_") || value == null) {
+                    continue;
+                }
+                for (String part : value.split(",")) {
+                    if (part.startsWith("calls=")) {
+                        total += Long.parseLong(part.substring("calls=".length()));
+                    }
+                }
+            }
+            return total;
+        }
+    }
+
+    private static class Result {
+        private final double commandsPerAcquire;
+        private final double p50Ms;
+        private final double p99Ms;
+
+        private Result(double commandsPerAcquire, double p50Ms, double p99Ms) {
+            this.commandsPerAcquire = commandsPerAcquire;
+            this.p50Ms = p50Ms;
+            this.p99Ms = p99Ms;
+        }
+    }
+
+    private static class Contention {
+        private final double p50Ms;
+        private final double p99Ms;
+        private final double failureRate;
+
+        private Contention(double p50Ms, double p99Ms, double failureRate) {
+            this.p50Ms = p50Ms;
+            this.p99Ms = p99Ms;
+            this.failureRate = failureRate;
+        }
+    }
+}
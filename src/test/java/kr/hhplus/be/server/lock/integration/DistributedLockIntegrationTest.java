@@ -2,8 +2,17 @@ package kr.hhplus.be.server.lock.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -12,9 +21,18 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.lock.adapter.metrics.InstrumentedFencedLock;
+import kr.hhplus.be.server.lock.adapter.metrics.LockMetrics;
+import kr.hhplus.be.server.lock.adapter.redis.FairDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.FencedDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.HybridDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.LeaseWatchdog;
+import kr.hhplus.be.server.lock.adapter.redis.PubSubDistributedLock;
+import kr.hhplus.be.server.lock.adapter.redis.RedisLockScripts;
 import kr.hhplus.be.server.lock.adapter.redis.SimpleDistributedLock;
 import kr.hhplus.be.server.lock.adapter.redis.SpinDistributedLock;
 import kr.hhplus.be.server.lock.domain.LockAcquisitionFailedException;
+import kr.hhplus.be.server.lock.domain.LockHandle;
 import kr.hhplus.be.server.point.domain.UserPoint;
 import kr.hhplus.be.server.point.repository.UserPointRepository;
 import kr.hhplus.be.server.point.service.PointService;
@@ -38,6 +56,15 @@ class DistributedLockIntegrationTest {
     @Autowired
     private SpinDistributedLock spinDistributedLock;
 
+    @Autowired
+    private FencedDistributedLock fencedDistributedLock;
+
+    @Autowired
+    private PubSubDistributedLock pubSubDistributedLock;
+
+    @Autowired
+    private FairDistributedLock fairDistributedLock;
+
     @Autowired
     private PointService pointService;
 
@@ -47,6 +74,15 @@ class DistributedLockIntegrationTest {
     @Autowired
     private RedisConnectionFactory redisConnectionFactory;
 
+    @Autowired
+    private RedisLockScripts redisLockScripts;
+
+    @Autowired
+    private LeaseWatchdog leaseWatchdog;
+
+    @Autowired
+    private LockMetrics lockMetrics;
+
     private static final String TEST_USER_ID = "user-lock-test";
     private static final long INITIAL_BALANCE = 1000L;
 
@@ -282,5 +318,350 @@ class DistributedLockIntegrationTest {
         // Release lock
         simpleDistributedLock.unlock(lockKey);
     }
-}
 
+    @Test
+    void fencedLock_staleHolderCannotReleaseSuccessorsLock() throws Exception {
+        String lockKey = "test:fenced:lock";
+
+        LockHandle first = fencedDistributedLock.tryAcquire(lockKey, 0, 100).orElseThrow();
+        Thread.sleep(200); // first holder's lease expires
+        LockHandle second = fencedDistributedLock.tryAcquire(lockKey, 0, 5000).orElseThrow();
+
+        // Late release by the first holder must not delete the second holder's lock
+        assertThat(fencedDistributedLock.release(first)).isFalse();
+        assertThat(fencedDistributedLock.tryAcquire(lockKey, 0, 5000)).isEmpty();
+
+        assertThat(second.getFencingToken()).isGreaterThan(first.getFencingToken());
+        assertThat(fencedDistributedLock.release(second)).isTrue();
+    }
+
+    @Test
+    void fencedLock_fenceCounterExpiresAfterKeyIsNoLongerUsed() {
+        String lockKey = "test:fenced:ttl";
+
+        LockHandle handle = fencedDistributedLock.tryAcquire(lockKey, 0, 5000).orElseThrow();
+        fencedDistributedLock.release(handle);
+
+        // Per-seat/per-reservation keys must not leave a permanent counter behind
+        Long ttlMs = redisConnectionFactory.getConnection().keyCommands()
+            .pTtl(("lock:fence:{" + lockKey + "}").getBytes());
+        assertThat(ttlMs).isGreaterThan(5000L);
+    }
+
+    @Test
+    void fencedLock_extendsOnlyWhileOwned() throws Exception {
+        String lockKey = "test:fenced:extend";
+
+        LockHandle handle = fencedDistributedLock.tryAcquire(lockKey, 0, 200).orElseThrow();
+        assertThat(fencedDistributedLock.extend(handle, 5000)).isTrue();
+        Thread.sleep(300);
+
+        // Still held thanks to the extension
+        assertThat(fencedDistributedLock.tryAcquire(lockKey, 0, 5000)).isEmpty();
+        fencedDistributedLock.release(handle);
+        assertThat(fencedDistributedLock.extend(handle, 5000)).isFalse();
+    }
+
+    @Test
+    void fencedLock_rejectsPointDeductionWithStaleFencingToken() {
+        pointService.use(TEST_USER_ID, 100L);
+        UserPoint afterFirstUse = userPointRepository.findByUserId(TEST_USER_ID).orElseThrow();
+
+        // A holder whose lease already expired arrives with an older token
+        int updatedRows = userPointRepository.deductIfSufficient(
+            TEST_USER_ID,
+            100L,
+            afterFirstUse.getFencingToken() - 1
+        );
+
+        assertThat(updatedRows).isZero();
+        assertThat(userPointRepository.findByUserId(TEST_USER_ID).orElseThrow().getBalance())
+            .isEqualTo(INITIAL_BALANCE - 100L);
+    }
+
+    @Test
+    void pubSubLock_handsOffToWaitersWithoutLosingMutualExclusion() throws Exception {
+        String lockKey = "test:pubsub:lock";
+        AtomicInteger counter = new AtomicInteger(0);
+        int threadCount = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return pubSubDistributedLock.executeWithLock(
+                    lockKey,
+                    5000, // waitTimeMs
+                    1000, // leaseTimeMs
+                    (LockHandle handle) -> {
+                        int current = counter.get();
+                        sleepQuietly(20); // Simulate work
+                        counter.set(current + 1);
+                        return true;
+                    }
+                );
+            }));
+        }
+        start.countDown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(counter.get()).isEqualTo(threadCount);
+    }
+
+    @Test
+    void pubSubLock_fallsBackToPollingWhenLeaseExpiresWithoutRelease() {
+        String lockKey = "test:pubsub:expiry";
+
+        // Holder that never releases: waiters are woken by the fallback poll after the lease
+        fencedDistributedLock.tryAcquire(lockKey, 0, 200).orElseThrow();
+        long start = System.currentTimeMillis();
+        LockHandle handle = pubSubDistributedLock.tryAcquire(lockKey, 2000, 1000).orElseThrow();
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+        assertThat(pubSubDistributedLock.release(handle)).isTrue();
+    }
+
+    @Test
+    void fairLock_grantsInArrivalOrder() throws Exception {
+        String lockKey = "test:fair:lock";
+        int waiterCount = 5;
+        LockHandle holder = fairDistributedLock.tryAcquire(lockKey, 0, 5000).orElseThrow();
+
+        ExecutorService executor = Executors.newFixedThreadPool(waiterCount);
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < waiterCount; i++) {
+            int waiter = i;
+            results.add(executor.submit(() -> {
+                LockHandle handle = fairDistributedLock.tryAcquire(lockKey, 5000, 1000).orElseThrow();
+                order.add(waiter);
+                sleepQuietly(10);
+                return fairDistributedLock.release(handle);
+            }));
+            sleepQuietly(50); // Let each waiter take its ticket before the next arrives
+        }
+
+        assertThat(fairDistributedLock.release(holder)).isTrue();
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+    }
+
+    @Test
+    void fairLock_waiterThatGivesUpDoesNotBlockTheQueue() {
+        String lockKey = "test:fair:cancel";
+        LockHandle holder = fairDistributedLock.tryAcquire(lockKey, 0, 5000).orElseThrow();
+
+        // Times out while first in line, then leaves the queue
+        assertThat(fairDistributedLock.tryAcquire(lockKey, 100, 1000)).isEmpty();
+        assertThat(fairDistributedLock.release(holder)).isTrue();
+
+        LockHandle next = fairDistributedLock.tryAcquire(lockKey, 0, 1000).orElseThrow();
+        assertThat(next.getFencingToken()).isGreaterThan(holder.getFencingToken());
+        assertThat(fairDistributedLock.release(next)).isTrue();
+    }
+
+    @Test
+    void multiKeyLock_acquiresAllOrNothing() {
+        LockHandle held = fencedDistributedLock.tryAcquire("test:multi:b", 0, 5000).orElseThrow();
+
+        assertThat(pubSubDistributedLock.tryAcquireAll(List.of("test:multi:a", "test:multi:b"), 0, 1000)).isEmpty();
+        // The free key must not have been taken by the failed attempt
+        LockHandle free = fencedDistributedLock.tryAcquire("test:multi:a", 0, 1000).orElseThrow();
+        assertThat(fencedDistributedLock.release(free)).isTrue();
+
+        assertThat(fencedDistributedLock.release(held)).isTrue();
+        List<LockHandle> handles = pubSubDistributedLock
+            .tryAcquireAll(List.of("test:multi:b", "test:multi:a"), 0, 1000)
+            .orElseThrow();
+        assertThat(handles).extracting(LockHandle::getKey).containsExactly("test:multi:b", "test:multi:a");
+        assertThat(handles.get(0).getFencingToken()).isGreaterThan(held.getFencingToken());
+        assertThat(pubSubDistributedLock.releaseAll(handles)).isTrue();
+    }
+
+    @Test
+    void multiKeyLock_takesKeysOneByOneOnCluster() {
+        // Keys with their own hash tags cannot go through one script call on a cluster
+        RedisLockScripts clusterScripts = spy(redisLockScripts);
+        doReturn(true).when(clusterScripts).isCluster();
+        FencedDistributedLock clusterLock = new FencedDistributedLock(clusterScripts, leaseWatchdog, lockMetrics);
+        LockHandle held = fencedDistributedLock.tryAcquire("test:cluster:b", 0, 5000).orElseThrow();
+
+        assertThat(clusterLock.tryAcquireAll(List.of("test:cluster:a", "test:cluster:b"), 0, 1000)).isEmpty();
+        // The key taken before the held one was released again
+        LockHandle free = fencedDistributedLock.tryAcquire("test:cluster:a", 0, 1000).orElseThrow();
+        assertThat(fencedDistributedLock.release(free)).isTrue();
+
+        assertThat(fencedDistributedLock.release(held)).isTrue();
+        List<LockHandle> handles = clusterLock
+            .tryAcquireAll(List.of("test:cluster:b", "test:cluster:a"), 0, 1000)
+            .orElseThrow();
+        assertThat(handles).extracting(LockHandle::getKey).containsExactly("test:cluster:b", "test:cluster:a");
+        assertThat(clusterLock.releaseAll(handles)).isTrue();
+        verify(clusterScripts, never()).acquireAll(anyList(), anyList(), anyString(), anyLong());
+        verify(clusterScripts, never()).releaseAll(anyList(), anyString(), anyList());
+    }
+
+    @Test
+    void multiKeyLock_overlappingKeySetsInOppositeOrderDoNotDeadlock() throws Exception {
+        AtomicInteger counter = new AtomicInteger(0);
+        int threadCount = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            List<String> keys = i % 2 == 0
+                ? List.of("test:multi:pay", "test:multi:point")
+                : List.of("test:multi:point", "test:multi:pay");
+            results.add(executor.submit(() -> {
+                start.await();
+                return pubSubDistributedLock.executeWithWatchdog(
+                    keys,
+                    5000, // waitTimeMs
+                    500, // leaseTimeMs
+                    (List<LockHandle> handles) -> {
+                        int current = counter.get();
+                        sleepQuietly(20); // Simulate work
+                        counter.set(current + 1);
+                        return true;
+                    }
+                );
+            }));
+        }
+        start.countDown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(counter.get()).isEqualTo(threadCount);
+    }
+
+    @Test
+    void hybridLock_queuesLocalContendersBeforeRedis() throws Exception {
+        String lockKey = "test:hybrid:lock";
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HybridDistributedLock hybridLock = new HybridDistributedLock(pubSubDistributedLock, meterRegistry);
+        AtomicInteger counter = new AtomicInteger(0);
+        int threadCount = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return hybridLock.executeWithWatchdog(
+                    lockKey,
+                    5000, // waitTimeMs
+                    500, // leaseTimeMs
+                    (LockHandle handle) -> {
+                        int current = counter.get();
+                        sleepQuietly(20); // Simulate work
+                        counter.set(current + 1);
+                        return true;
+                    }
+                );
+            }));
+        }
+        start.countDown();
+
+        for (Future<Boolean> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isTrue();
+        }
+        executor.shutdown();
+
+        assertThat(counter.get()).isEqualTo(threadCount);
+        // Waiters queued in the JVM, and only local winners (which found the key free) reached Redis
+        assertThat(meterRegistry.counter("lock.local.acquire", "key", "test:hybrid", "result", "queued").count())
+            .isPositive();
+        assertThat(meterRegistry.counter("lock.redis.acquire", "key", "test:hybrid", "result", "acquired").count())
+            .isEqualTo(threadCount);
+        assertThat(meterRegistry.counter("lock.redis.acquire", "key", "test:hybrid", "result", "failed").count())
+            .isZero();
+        assertThat(meterRegistry.get("lock.local.keys").gauge().value()).isZero();
+    }
+
+    @Test
+    void instrumentedLock_recordsWaitFailuresHoldAndLeaseOverrun() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        InstrumentedFencedLock lock = new InstrumentedFencedLock(fencedDistributedLock, new LockMetrics(meterRegistry));
+        String lockKey = "test:metrics:1";
+
+        LockHandle handle = lock.tryAcquire(lockKey, 0, 50).orElseThrow();
+        assertThat(lock.tryAcquire(lockKey, 20, 50)).isEmpty();
+        sleepQuietly(100); // Hold longer than the lease
+        lock.release(handle);
+
+        assertThat(meterRegistry.get("lock.acquire").tag("key", "test:metrics").tag("result", "acquired").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("lock.acquire").tag("key", "test:metrics").tag("result", "failed").timer().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").tag("key", "test:metrics").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.lease.overrun").tag("key", "test:metrics").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void watchdog_keepsShortLeaseAliveWhileWorkIsRunning() {
+        String lockKey = "test:watchdog:lock";
+
+        // Work takes several leases; without renewal a second holder could enter midway
+        boolean contended = pubSubDistributedLock.executeWithWatchdog(
+            lockKey,
+            0, // waitTimeMs
+            200, // leaseTimeMs
+            (LockHandle handle) -> {
+                sleepQuietly(700);
+                return fencedDistributedLock.tryAcquire(lockKey, 0, 200).isPresent();
+            }
+        );
+
+        assertThat(contended).isFalse();
+        // Released on completion, renewal stopped
+        LockHandle next = fencedDistributedLock.tryAcquire(lockKey, 0, 200).orElseThrow();
+        assertThat(fencedDistributedLock.release(next)).isTrue();
+    }
+
+    @Test
+    void watchdog_stopsRenewingAfterLeaseIsLost() {
+        String lockKey = "test:watchdog:lost";
+
+        LockHandle successor = pubSubDistributedLock.executeWithWatchdog(
+            lockKey,
+            0, // waitTimeMs
+            300, // leaseTimeMs
+            (LockHandle handle) -> {
+                // Simulate the key being lost (e.g. failover) and taken by another holder
+                redisConnectionFactory.getConnection().keyCommands().del(("lock:{" + lockKey + "}").getBytes());
+                LockHandle taken = fencedDistributedLock.tryAcquire(lockKey, 0, 5000).orElseThrow();
+                sleepQuietly(400);
+                return taken;
+            }
+        );
+
+        // Renewal must not have touched the successor's lease, and the stale release was a no-op
+        assertThat(successor.getFencingToken()).isGreaterThan(0);
+        assertThat(fencedDistributedLock.release(successor)).isTrue();
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package kr.hhplus.be.server.queue.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import org.junit.jupiter.api.Test;
+
+class QueueAccessTokenSignerTest {
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.of(2025, 1, 1, 10, 10);
+
+    private final QueueAccessTokenSigner signer = new QueueAccessTokenSigner(true, SECRET);
+
+    @Test
+    void signsAndVerifiesActiveToken() {
+        String signed = signer.sign(activeToken("user|1"));
+
+        ReservationToken verified = signer.verify(signed).orElseThrow();
+
+        assertThat(verified.getUserId()).isEqualTo("user|1");
+        assertThat(verified.getToken()).isEqualTo("queue-token");
+        assertThat(verified.getStatus()).isEqualTo(ReservationTokenStatus.ACTIVE);
+        assertThat(verified.getExpiresAt()).isEqualTo(EXPIRES_AT);
+    }
+
+    @Test
+    void rejectsTamperedPayload() {
+        String signed = signer.sign(activeToken("user-1"));
+        String otherPayload = signer.sign(activeToken("user-2")).split("\\.")[0];
+        String tampered = otherPayload + "." + signed.split("\\.")[1];
+
+        assertThatThrownBy(() -> signer.verify(tampered))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void rejectsTokenSignedWithDifferentSecret() {
+        QueueAccessTokenSigner other = new QueueAccessTokenSigner(true, "fedcba9876543210fedcba9876543210");
+        String signed = other.sign(activeToken("user-1"));
+
+        assertThatThrownBy(() -> signer.verify(signed))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void doesNotSignWaitingTokenOrWhenDisabled() {
+        ReservationToken waiting = ReservationToken.rebuild(
+            null, "user-1", "queue-token", ReservationTokenStatus.WAITING, 3, EXPIRES_AT, null
+        );
+        QueueAccessTokenSigner disabled = new QueueAccessTokenSigner(false, "");
+
+        assertThat(signer.sign(waiting)).isNull();
+        assertThat(disabled.sign(activeToken("user-1"))).isNull();
+        assertThat(disabled.isSigned("a.b")).isFalse();
+    }
+
+    @Test
+    void plainQueueTokenIsNotTreatedAsSigned() {
+        assertThat(signer.isSigned("3f2b8c1e-8a4d-4c1b-9f6e-2d7a5b9c0e11")).isFalse();
+    }
+
+    private ReservationToken activeToken(String userId) {
+        return ReservationToken.rebuild(
+            null, userId, "queue-token", ReservationTokenStatus.ACTIVE, 0, EXPIRES_AT, null
+        );
+    }
+}
@@ -0,0 +1,206 @@
+package kr.hhplus.be.server.queue.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueThroughputPort;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePositionStreamServiceTest {
+    private static final String QUEUE_ID = "2025-01-01";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Mock
+    private QueueThroughputPort queueThroughputPort;
+
+    @Mock
+    private QueueAccessTokenSigner queueAccessTokenSigner;
+
+    private final Queue<RecordingEmitter> emitters = new ConcurrentLinkedQueue<>();
+    private QueuePositionStreamService streamService;
+
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(RecordingEmitter::release);
+        if (streamService != null) {
+            streamService.shutdown();
+        }
+    }
+
+    @Test
+    void onActivatedDoesNotWaitForSlowSubscriber() throws Exception {
+        // Given: 두 사용자가 구독 중이고, user-1 의 연결은 쓰기가 막힘
+        streamService = streamService(5000);
+        RecordingEmitter slow = subscribe("user-1", 5);
+        RecordingEmitter fast = subscribe("user-2", 6);
+        assertThat(slow.nextUpdate().getPosition()).isEqualTo(5);
+        assertThat(fast.nextUpdate().getPosition()).isEqualTo(6);
+        slow.block();
+
+        // When: 승격 이벤트가 리스너 스레드에서 들어옴
+        assertTimeoutPreemptively(
+            Duration.ofSeconds(1),
+            () -> streamService.onActivated(new QueueActivation(QUEUE_ID, List.of(), 2))
+        );
+
+        // Then: 느린 연결이 전송 중이어도 다른 구독자는 갱신된 순번을 받음
+        assertThat(slow.awaitBlocked()).isTrue();
+        assertThat(fast.nextUpdate().getPosition()).isEqualTo(4);
+    }
+
+    @Test
+    void dropsSubscriberWhoseSendStalls() throws Exception {
+        // Given: user-1 의 전송이 제한 시간보다 오래 막혀 있음
+        streamService = streamService(100);
+        RecordingEmitter slow = subscribe("user-1", 5);
+        RecordingEmitter fast = subscribe("user-2", 6);
+        slow.nextUpdate();
+        fast.nextUpdate();
+        slow.block();
+        streamService.onActivated(new QueueActivation(QUEUE_ID, List.of(), 1));
+        assertThat(slow.awaitBlocked()).isTrue();
+        Thread.sleep(200);
+
+        // When
+        streamService.onActivated(new QueueActivation(QUEUE_ID, List.of(), 1));
+
+        // Then: 막힌 구독만 끊기고, 막혀 있던 전송이 끝나면 연결이 닫힘
+        assertThat(streamService.countSubscriptions()).isEqualTo(1);
+        assertThat(fast.nextUpdate().getPosition()).isEqualTo(5);
+        assertThat(fast.nextUpdate().getPosition()).isEqualTo(4);
+        slow.release();
+        assertThat(slow.awaitCompleted()).isTrue();
+    }
+
+    @Test
+    void sendsActiveEventAndCompletesStream() throws Exception {
+        // Given
+        streamService = streamService(5000);
+        RecordingEmitter emitter = subscribe("user-1", 1);
+        emitter.nextUpdate();
+
+        // When
+        streamService.onActivated(new QueueActivation(QUEUE_ID, List.of("user-1"), 1));
+
+        // Then
+        QueuePositionUpdate update = emitter.nextUpdate();
+        assertThat(update.getStatus()).isEqualTo(ReservationTokenStatus.ACTIVE);
+        assertThat(update.getPosition()).isZero();
+        assertThat(emitter.awaitCompleted()).isTrue();
+        assertThat(streamService.countSubscriptions()).isZero();
+    }
+
+    private QueuePositionStreamService streamService(long sendTimeoutMs) {
+        return new QueuePositionStreamService(
+            reservationTokenRepository,
+            new QueueWaitEstimator(queueThroughputPort),
+            queueAccessTokenSigner,
+            2,
+            100,
+            sendTimeoutMs
+        ) {
+            @Override
+            SseEmitter createEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    private RecordingEmitter subscribe(String userId, int position) {
+        String tokenValue = QUEUE_ID + ":token-" + userId;
+        when(reservationTokenRepository.findByToken(tokenValue)).thenReturn(Optional.of(ReservationToken.rebuild(
+            null,
+            userId,
+            tokenValue,
+            ReservationTokenStatus.WAITING,
+            position,
+            NOW.plusMinutes(10),
+            NOW
+        )));
+        return (RecordingEmitter) streamService.subscribe(tokenValue);
+    }
+
+    /**
+     * 전송된 이벤트를 기록하고, block() 이후의 전송은 release() 까지 막는 emitter
+     */
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<QueuePositionUpdate> updates = new LinkedBlockingQueue<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (blocking) {
+                blocked.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            builder.build().stream()
+                .map(DataWithMediaType::getData)
+                .filter(QueuePositionUpdate.class::isInstance)
+                .map(QueuePositionUpdate.class::cast)
+                .forEach(updates::add);
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+
+        private void block() {
+            blocking = true;
+        }
+
+        private void release() {
+            released.countDown();
+        }
+
+        private boolean awaitBlocked() throws InterruptedException {
+            return blocked.await(5, TimeUnit.SECONDS);
+        }
+
+        private boolean awaitCompleted() throws InterruptedException {
+            return completed.await(5, TimeUnit.SECONDS);
+        }
+
+        private QueuePositionUpdate nextUpdate() throws InterruptedException {
+            QueuePositionUpdate update = updates.poll(5, TimeUnit.SECONDS);
+            assertThat(update).isNotNull();
+            return update;
+        }
+    }
+}
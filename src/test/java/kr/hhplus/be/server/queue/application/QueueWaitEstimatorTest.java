@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.queue.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueThroughputPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueueWaitEstimatorTest {
+    @Mock
+    private QueueThroughputPort queueThroughputPort;
+
+    @InjectMocks
+    private QueueWaitEstimator queueWaitEstimator;
+
+    @Test
+    void estimatesWaitFromExitRate() {
+        when(queueThroughputPort.exitsPerSecond(ReservationToken.GLOBAL_QUEUE)).thenReturn(5.0);
+
+        QueueWaitEstimate estimate = queueWaitEstimator.estimate(waitingToken(400));
+
+        assertThat(estimate.getEstimatedWaitSeconds()).isEqualTo(80L);
+        assertThat(estimate.getPollAfterSeconds()).isEqualTo(20);
+    }
+
+    @Test
+    void pollsMoreOftenNearTheFront() {
+        when(queueThroughputPort.exitsPerSecond(ReservationToken.GLOBAL_QUEUE)).thenReturn(5.0);
+
+        assertThat(queueWaitEstimator.estimate(waitingToken(3)).getPollAfterSeconds()).isEqualTo(1);
+        assertThat(queueWaitEstimator.estimate(waitingToken(100_000)).getPollAfterSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    void returnsUnknownWaitWhenNoExitsObserved() {
+        when(queueThroughputPort.exitsPerSecond(ReservationToken.GLOBAL_QUEUE)).thenReturn(0.0);
+
+        QueueWaitEstimate estimate = queueWaitEstimator.estimate(waitingToken(10));
+
+        assertThat(estimate.getEstimatedWaitSeconds()).isNull();
+        assertThat(estimate.getPollAfterSeconds()).isEqualTo(10);
+    }
+
+    @Test
+    void usesExitRateOfTheTokensOwnQueue() {
+        when(queueThroughputPort.exitsPerSecond("2025-01-01")).thenReturn(2.0);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        ReservationToken dated = ReservationToken.rebuild(
+            null,
+            "user-1",
+            ReservationToken.scopeToken("2025-01-01", "token"),
+            ReservationTokenStatus.WAITING,
+            40,
+            now.plusMinutes(10),
+            now
+        );
+
+        assertThat(queueWaitEstimator.estimate(dated).getEstimatedWaitSeconds()).isEqualTo(20L);
+    }
+
+    @Test
+    void activeTokenHasNoWait() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        ReservationToken active = ReservationToken.issue("user-1", "token", 0, now.plusMinutes(10), now);
+
+        QueueWaitEstimate estimate = queueWaitEstimator.estimate(active);
+
+        assertThat(estimate.getEstimatedWaitSeconds()).isZero();
+        assertThat(estimate.getPollAfterSeconds()).isZero();
+        verifyNoInteractions(queueThroughputPort);
+    }
+
+    private ReservationToken waitingToken(int position) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        return ReservationToken.rebuild(
+            null,
+            "user-1",
+            "token",
+            ReservationTokenStatus.WAITING,
+            position,
+            now.plusMinutes(10),
+            now
+        );
+    }
+}
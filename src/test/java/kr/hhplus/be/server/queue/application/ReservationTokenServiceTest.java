@@ -0,0 +1,223 @@
+package kr.hhplus.be.server.queue.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.ActiveTokenCache;
+import kr.hhplus.be.server.queue.port.QueueTokenRevocationPort;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.DeadlineTimers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationTokenServiceTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Mock
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Mock
+    private ClockProvider clockProvider;
+
+    @Mock
+    private QueueTokenRevocationPort queueTokenRevocationPort;
+
+    @Mock
+    private ActiveTokenCache activeTokenCache;
+
+    @Mock
+    private DeadlineTimers deadlineTimers;
+
+    private final QueueAccessTokenSigner signer =
+        new QueueAccessTokenSigner(true, "0123456789abcdef0123456789abcdef");
+
+    private ReservationTokenService reservationTokenService;
+
+    @BeforeEach
+    void setUp() {
+        reservationTokenService = new ReservationTokenService(
+            reservationTokenRepository,
+            clockProvider,
+            signer,
+            queueTokenRevocationPort,
+            activeTokenCache,
+            deadlineTimers
+        );
+        when(clockProvider.now()).thenReturn(NOW);
+    }
+
+    @Test
+    void validatesSignedTokenWithoutRepository() {
+        String signed = signer.sign(activeToken(NOW.plusMinutes(5)));
+
+        ReservationToken token = reservationTokenService.validateActive(signed);
+
+        assertThat(token.getUserId()).isEqualTo("user-1");
+        assertThat(token.getToken()).isEqualTo("queue-token");
+        verifyNoInteractions(reservationTokenRepository);
+    }
+
+    @Test
+    void rejectsExpiredSignedToken() {
+        String signed = signer.sign(activeToken(NOW.minusSeconds(1)));
+
+        assertThatThrownBy(() -> reservationTokenService.validateActive(signed))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Queue token expired.");
+    }
+
+    @Test
+    void rejectsRevokedSignedToken() {
+        String signed = signer.sign(activeToken(NOW.plusMinutes(5)));
+        when(queueTokenRevocationPort.isRevoked("queue-token")).thenReturn(true);
+
+        assertThatThrownBy(() -> reservationTokenService.validateActive(signed))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Queue token is not active.");
+    }
+
+    @Test
+    void completeRevokesAndReleasesQueueToken() {
+        LocalDateTime expiresAt = NOW.plusMinutes(5);
+        String signed = signer.sign(activeToken(expiresAt));
+
+        reservationTokenService.complete(signed);
+
+        verify(queueTokenRevocationPort).revoke("queue-token", expiresAt);
+        ArgumentCaptor<ReservationToken> saved = ArgumentCaptor.forClass(ReservationToken.class);
+        verify(reservationTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getToken()).isEqualTo("queue-token");
+        assertThat(saved.getValue().getStatus()).isEqualTo(ReservationTokenStatus.DONE);
+        verify(activeTokenCache).invalidate("queue-token");
+    }
+
+    @Test
+    void returnsCachedActiveTokenWithoutRepository() {
+        ReservationToken cached = ReservationToken.rebuild(
+            null, "user-1", "plain-token", ReservationTokenStatus.ACTIVE, 0, NOW.plusMinutes(5), NOW
+        );
+        when(activeTokenCache.get("plain-token")).thenReturn(Optional.of(cached));
+
+        ReservationToken token = reservationTokenService.validateActive("plain-token");
+
+        assertThat(token.getUserId()).isEqualTo("user-1");
+        verifyNoInteractions(reservationTokenRepository);
+    }
+
+    @Test
+    void cachesActiveTokenAfterRepositoryLookup() {
+        ReservationToken active = ReservationToken.rebuild(
+            null, "user-1", "plain-token", ReservationTokenStatus.ACTIVE, 0, NOW.plusMinutes(5), NOW
+        );
+        when(activeTokenCache.get("plain-token")).thenReturn(Optional.empty());
+        when(reservationTokenRepository.findByToken("plain-token")).thenReturn(Optional.of(active));
+
+        reservationTokenService.validateActive("plain-token");
+
+        verify(activeTokenCache).put(active);
+    }
+
+    @Test
+    void doesNotCacheWaitingToken() {
+        ReservationToken waiting = ReservationToken.rebuild(
+            null, "user-1", "plain-token", ReservationTokenStatus.WAITING, 4, NOW.plusMinutes(5), NOW
+        );
+        when(activeTokenCache.get("plain-token")).thenReturn(Optional.empty());
+        when(reservationTokenRepository.findByToken("plain-token")).thenReturn(Optional.of(waiting));
+
+        assertThatThrownBy(() -> reservationTokenService.validateActive("plain-token"))
+            .isInstanceOf(IllegalStateException.class);
+        verify(activeTokenCache, never()).put(waiting);
+    }
+
+    @Test
+    void expiresActiveTokenWhenDeadlineTimerFires() {
+        ReservationToken active = ReservationToken.rebuild(
+            null, "user-1", "plain-token", ReservationTokenStatus.ACTIVE, 0, NOW.plusMinutes(5), NOW
+        );
+        when(activeTokenCache.get("plain-token")).thenReturn(Optional.empty());
+        when(reservationTokenRepository.findByToken("plain-token")).thenReturn(Optional.of(active));
+
+        reservationTokenService.validateActive("plain-token");
+
+        ArgumentCaptor<Runnable> onExpiry = ArgumentCaptor.forClass(Runnable.class);
+        verify(deadlineTimers).schedule(eq("queue:token:global|user-1"), eq(NOW.plusMinutes(5)), onExpiry.capture());
+
+        // 만료 시각이 지난 뒤 타이머 실행
+        when(clockProvider.now()).thenReturn(NOW.plusMinutes(5).plusSeconds(1));
+        when(reservationTokenRepository.findLatestByUserId(ReservationToken.GLOBAL_QUEUE, "user-1"))
+            .thenReturn(Optional.of(active));
+        onExpiry.getValue().run();
+
+        ArgumentCaptor<ReservationToken> saved = ArgumentCaptor.forClass(ReservationToken.class);
+        verify(reservationTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(ReservationTokenStatus.EXPIRED);
+        verify(activeTokenCache).invalidate("plain-token");
+    }
+
+    @Test
+    void completeCancelsDeadlineTimer() {
+        String signed = signer.sign(activeToken(NOW.plusMinutes(5)));
+
+        reservationTokenService.complete(signed);
+
+        verify(deadlineTimers).cancel("queue:token:global|user-1");
+        verify(deadlineTimers, never()).schedule(any(), any(), any());
+    }
+
+    @Test
+    void schedulesExpiryForPromotedUsers() {
+        // Given: 승격된 사용자는 이후 서명 토큰으로만 요청할 수 있음
+        QueueActivation activation = new QueueActivation("2025-01-01", List.of("user-1", "user-2"), 2);
+
+        // When
+        reservationTokenService.scheduleExpiry(activation);
+
+        // Then: 검증 요청을 기다리지 않고 승격 시점에 만료 타이머 등록
+        verify(deadlineTimers).schedule(eq("queue:token:2025-01-01|user-1"), eq(NOW.plusMinutes(10)), any());
+        verify(deadlineTimers).schedule(eq("queue:token:2025-01-01|user-2"), eq(NOW.plusMinutes(10)), any());
+    }
+
+    @Test
+    void schedulesExpiryWhenIssuedTokenIsAdmittedImmediately() {
+        // Given: 대기자가 없어 발급과 동시에 ACTIVE
+        when(reservationTokenRepository.findLatestByUserId(ReservationToken.GLOBAL_QUEUE, "user-1"))
+            .thenReturn(Optional.empty());
+        when(reservationTokenRepository.save(any(ReservationToken.class))).thenAnswer(invocation -> {
+            ReservationToken token = invocation.getArgument(0);
+            return ReservationToken.rebuild(
+                null, "user-1", token.getToken(), ReservationTokenStatus.ACTIVE, 0, token.getExpiresAt(), NOW
+            );
+        });
+
+        // When
+        reservationTokenService.issue("user-1");
+
+        // Then
+        verify(deadlineTimers).schedule(eq("queue:token:global|user-1"), eq(NOW.plusMinutes(10)), any());
+    }
+
+    private ReservationToken activeToken(LocalDateTime expiresAt) {
+        return ReservationToken.rebuild(
+            null, "user-1", "queue-token", ReservationTokenStatus.ACTIVE, 0, expiresAt, null
+        );
+    }
+}
@@ -0,0 +1,239 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
+import kr.hhplus.be.server.queue.port.QueueEventPublisher;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * SSE 대기 순번 스트림 부하 테스트
+ *
+ * 대기 중인 클라이언트 N 명이 스트림을 열어 둔 상태에서 승격을 반복하고,
+ * 활성화 알림 지연과 Redis 명령 수를 같은 상황의 폴링 방식과 비교합니다.
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "queue.activation.interval-ms=3600000" // 스케줄러 대신 테스트가 직접 승격
+)
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class QueuePositionStreamBenchmarkTest {
+    private static final int ACTIVE_TOKEN_LIMIT = 100;
+    private static final int WAITING_CLIENTS = 1_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Autowired
+    private QueueActivationPort queueActivationPort;
+
+    @Autowired
+    private QueueEventPublisher queueEventPublisher;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void streamsReplacePollingWithSingleFanOut() throws Exception {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        List<ReservationToken> active = new ArrayList<>();
+        for (int i = 0; i < ACTIVE_TOKEN_LIMIT; i++) {
+            active.add(enqueue("active-" + i, base));
+        }
+        // 진입 시각을 1초씩 달리해서 대기 순서를 인덱스 순으로 고정
+        List<ReservationToken> waiting = new ArrayList<>();
+        for (int i = 0; i < WAITING_CLIENTS; i++) {
+            waiting.add(enqueue("waiting-" + i, base.plusSeconds(i + 1)));
+        }
+
+        HttpClient client = HttpClient.newHttpClient();
+        CountDownLatch connected = new CountDownLatch(WAITING_CLIENTS);
+        long[] activatedAt = new long[WAITING_CLIENTS];
+        CountDownLatch[] roundLatches = new CountDownLatch[WAITING_CLIENTS / ACTIVE_TOKEN_LIMIT];
+        for (int round = 0; round < roundLatches.length; round++) {
+            roundLatches[round] = new CountDownLatch(ACTIVE_TOKEN_LIMIT);
+        }
+
+        for (int i = 0; i < WAITING_CLIENTS; i++) {
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/queue/tokens/" + waiting.get(i).getToken() + "/stream"))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(new SseLineSubscriber(
+                connected::countDown,
+                () -> {
+                    activatedAt[index] = System.nanoTime();
+                    roundLatches[index / ACTIVE_TOKEN_LIMIT].countDown();
+                }
+            )));
+        }
+        assertThat(connected.await(60, TimeUnit.SECONDS)).isTrue();
+
+        resetCommandStats();
+        long[] fanOutLatencies = new long[roundLatches.length];
+        long pollingCommands = 0;
+
+        for (int round = 0; round < roundLatches.length; round++) {
+            // 활성 사용자가 모두 나가고, 다음 100명이 들어옴
+            for (ReservationToken token : active) {
+                token.complete();
+                reservationTokenRepository.save(token);
+            }
+            long start = System.nanoTime();
+            for (QueueActivation activation : queueActivationPort.activateNext(ACTIVE_TOKEN_LIMIT)) {
+                queueEventPublisher.publishActivated(activation);
+            }
+            assertThat(roundLatches[round].await(30, TimeUnit.SECONDS)).isTrue();
+
+            long slowest = 0;
+            for (int i = round * ACTIVE_TOKEN_LIMIT; i < (round + 1) * ACTIVE_TOKEN_LIMIT; i++) {
+                slowest = Math.max(slowest, activatedAt[i] - start);
+            }
+            fanOutLatencies[round] = slowest;
+
+            active = new ArrayList<>();
+            for (int i = round * ACTIVE_TOKEN_LIMIT; i < (round + 1) * ACTIVE_TOKEN_LIMIT; i++) {
+                active.add(reservationTokenRepository.findByToken(waiting.get(i).getToken()).orElseThrow());
+            }
+
+            // 비교: 남은 대기자 전원이 주기마다 한 번씩 폴링했을 때의 명령 수
+            long before = totalCommands();
+            for (int i = (round + 1) * ACTIVE_TOKEN_LIMIT; i < WAITING_CLIENTS; i++) {
+                reservationTokenRepository.findByToken(waiting.get(i).getToken());
+            }
+            pollingCommands += totalCommands() - before;
+        }
+
+        long totalCommands = totalCommands();
+        long streamCommands = totalCommands - pollingCommands;
+        Arrays.sort(fanOutLatencies);
+
+        System.out.printf(
+            "[benchmark] clients=%d rounds=%d fanOut p50=%dms max=%dms redisCommands stream=%d polling=%d%n",
+            WAITING_CLIENTS,
+            fanOutLatencies.length,
+            fanOutLatencies[fanOutLatencies.length / 2] / 1_000_000,
+            fanOutLatencies[fanOutLatencies.length - 1] / 1_000_000,
+            streamCommands,
+            pollingCommands
+        );
+
+        // 스트림 경로의 Redis 사용량은 클라이언트 수가 아니라 승격 횟수에 비례해야 함
+        assertThat(streamCommands).isLessThan(pollingCommands);
+    }
+
+    private ReservationToken enqueue(String userId, LocalDateTime createdAt) {
+        return reservationTokenRepository.save(ReservationToken.rebuild(
+            null,
+            userId,
+            UUID.randomUUID().toString(),
+            ReservationTokenStatus.WAITING,
+            0,
+            createdAt.plusMinutes(10),
+            createdAt
+        ));
+    }
+
+    private void resetCommandStats() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            connection.serverCommands().resetConfigStats();
+        }
+    }
+
+    private long totalCommands() {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            Properties stats = connection.serverCommands().info("commandstats");
+            long total = 0;
+            for (String name : stats.stringPropertyNames()) {
+                String value = stats.getProperty(name);
+                if (!name.startsWith("cmdstat_") || value == null) {
+                    continue;
+                }
+                for (String part : value.split(",")) {
+                    if (part.startsWith("calls=")) {
+                        total += Long.parseLong(part.substring("calls=".length()));
+                    }
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 첫 position 이벤트에서 연결 완료, active 이벤트에서 활성화를 기록
+     */
+    private static class SseLineSubscriber implements Flow.Subscriber<String> {
+        private final Runnable onConnected;
+        private final Runnable onActivated;
+        private boolean connected;
+
+        private SseLineSubscriber(Runnable onConnected, Runnable onActivated) {
+            this.onConnected = onConnected;
+            this.onActivated = onActivated;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!connected && line.equals("event:position")) {
+                connected = true;
+                onConnected.run();
+            } else if (line.equals("event:active")) {
+                onActivated.run();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
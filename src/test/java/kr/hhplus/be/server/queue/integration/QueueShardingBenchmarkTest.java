@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.adapter.redis.QueueKeyspace;
+import kr.hhplus.be.server.queue.adapter.redis.QueueRedisScripts;
+import kr.hhplus.be.server.queue.adapter.redis.ReservationTokenRedisAdapter;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 대기열 샤드 수에 따른 처리량 비교
+ *
+ * 같은 부하(동시 입장 후 전원 승격)를 샤드 1개와 K 개로 각각 실행해 입장 처리량과
+ * 승격 소요 시간을 출력합니다. 테스트 컨테이너는 단일 Redis 이므로 여기서 보이는 차이는
+ * 키 하나에 몰리던 ZADD/ZRANK 비용이 나뉜 만큼이고, 클러스터에서는 샤드가 여러 노드로
+ * 퍼지면서 차이가 더 커집니다.
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "queue.activation.interval-ms=3600000") // 스케줄러 대신 테스트가 직접 승격
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class QueueShardingBenchmarkTest {
+    private static final int ACTIVE_TOKEN_LIMIT = 100;
+    private static final int USERS = 20_000;
+    private static final int THREADS = 64;
+    private static final int SHARDS = 8;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private QueueRedisScripts queueScripts;
+
+    @Autowired
+    private ClockProvider clockProvider;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void comparesSingleKeyWithShardedQueue() throws Exception {
+        Result single = run(1);
+        redisConnectionFactory.getConnection().flushAll();
+        Result sharded = run(SHARDS);
+
+        System.out.printf(
+            "[benchmark] users=%d shards=1 enqueue=%d/s promote=%dms | shards=%d enqueue=%d/s promote=%dms%n",
+            USERS,
+            single.enqueuePerSecond,
+            single.promoteMillis,
+            SHARDS,
+            sharded.enqueuePerSecond,
+            sharded.promoteMillis
+        );
+
+        // 샤드 모드에서도 전체 활성 인원은 한도를 넘지 않아야 함
+        assertThat(single.maxActive).isEqualTo(ACTIVE_TOKEN_LIMIT);
+        assertThat(sharded.maxActive).isLessThanOrEqualTo(ACTIVE_TOKEN_LIMIT);
+    }
+
+    private Result run(int shardCount) throws Exception {
+        ReservationTokenRedisAdapter adapter = new ReservationTokenRedisAdapter(
+            redisTemplate, queueScripts, clockProvider, new QueueKeyspace(shardCount), ACTIVE_TOKEN_LIMIT);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReservationToken>> results = new ArrayList<>(USERS);
+        LocalDateTime base = LocalDateTime.now();
+        for (int i = 0; i < USERS; i++) {
+            String userId = "user-" + i;
+            LocalDateTime createdAt = base.plusSeconds(i);
+            results.add(executor.submit(() -> {
+                start.await();
+                return adapter.save(waitingToken(userId, createdAt));
+            }));
+        }
+
+        long enqueueStart = System.nanoTime();
+        start.countDown();
+        long active = 0;
+        for (Future<ReservationToken> result : results) {
+            if (result.get(60, TimeUnit.SECONDS).getStatus() == ReservationTokenStatus.ACTIVE) {
+                active++;
+            }
+        }
+        long enqueueNanos = System.nanoTime() - enqueueStart;
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // 활성 사용자를 모두 내보낸 뒤 빈 자리를 채우는 승격 한 주기
+        List<ReservationToken> activeTokens = new ArrayList<>();
+        for (Future<ReservationToken> result : results) {
+            ReservationToken token = result.get();
+            if (token.getStatus() == ReservationTokenStatus.ACTIVE) {
+                activeTokens.add(token);
+            }
+        }
+        for (ReservationToken token : activeTokens) {
+            token.complete();
+            adapter.save(token);
+        }
+        long promoteStart = System.nanoTime();
+        List<QueueActivation> activations = adapter.activateNext(ACTIVE_TOKEN_LIMIT);
+        long promoteNanos = System.nanoTime() - promoteStart;
+        assertThat(activations.get(0).getActivatedCount()).isLessThanOrEqualTo(ACTIVE_TOKEN_LIMIT);
+
+        return new Result(
+            USERS * 1_000_000_000L / enqueueNanos,
+            promoteNanos / 1_000_000,
+            active
+        );
+    }
+
+    private ReservationToken waitingToken(String userId, LocalDateTime createdAt) {
+        return ReservationToken.rebuild(
+            null,
+            userId,
+            UUID.randomUUID().toString(),
+            ReservationTokenStatus.WAITING,
+            0,
+            createdAt.plusMinutes(10),
+            createdAt
+        );
+    }
+
+    private static class Result {
+        private final long enqueuePerSecond;
+        private final long promoteMillis;
+        private final long maxActive;
+
+        private Result(long enqueuePerSecond, long promoteMillis, long maxActive) {
+            this.enqueuePerSecond = enqueuePerSecond;
+            this.promoteMillis = promoteMillis;
+            this.maxActive = maxActive;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class ReservationTokenActiveExpiryTest {
+    private static final int ACTIVE_TOKEN_LIMIT = 100;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @Autowired
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Autowired
+    private QueueActivationPort queueActivationPort;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+        testClockProvider.setNow(BASE_TIME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void laterActivationDoesNotExtendEarlierTokens() {
+        ReservationToken first = enqueue("user-1");
+
+        testClockProvider.setNow(BASE_TIME.plusMinutes(3));
+        ReservationToken second = enqueue("user-2");
+
+        assertThat(reservationTokenRepository.findByToken(first.getToken()).orElseThrow().getExpiresAt())
+            .isEqualTo(BASE_TIME.plusMinutes(10));
+        assertThat(reservationTokenRepository.findByToken(second.getToken()).orElseThrow().getExpiresAt())
+            .isEqualTo(BASE_TIME.plusMinutes(13));
+    }
+
+    @Test
+    void reclaimsExpiredSlotsForWaitingUsers() {
+        // 처음 절반은 t0, 나머지 절반은 t0+5분에 활성화
+        for (int i = 0; i < ACTIVE_TOKEN_LIMIT / 2; i++) {
+            enqueue("early-" + i);
+        }
+        testClockProvider.setNow(BASE_TIME.plusMinutes(5));
+        for (int i = 0; i < ACTIVE_TOKEN_LIMIT / 2; i++) {
+            enqueue("late-" + i);
+        }
+        ReservationToken waiting = enqueue("waiting-user");
+        assertThat(waiting.getStatus()).isEqualTo(ReservationTokenStatus.WAITING);
+
+        // t0+11분: 먼저 들어온 절반만 만료되어 자리가 회수됨
+        testClockProvider.setNow(BASE_TIME.plusMinutes(11));
+        queueActivationPort.activateNext(500);
+
+        ReservationToken promoted = reservationTokenRepository.findByToken(waiting.getToken()).orElseThrow();
+        assertThat(promoted.getStatus()).isEqualTo(ReservationTokenStatus.ACTIVE);
+        assertThat(promoted.getExpiresAt()).isEqualTo(BASE_TIME.plusMinutes(21));
+
+        assertThat(reservationTokenRepository.findLatestByUserId("early-0")).isEmpty();
+        assertThat(reservationTokenRepository.findLatestByUserId("late-0").orElseThrow().getStatus())
+            .isEqualTo(ReservationTokenStatus.ACTIVE);
+    }
+
+    private ReservationToken enqueue(String userId) {
+        LocalDateTime now = testClockProvider.now();
+        return reservationTokenRepository.save(ReservationToken.rebuild(
+            null,
+            userId,
+            UUID.randomUUID().toString(),
+            ReservationTokenStatus.WAITING,
+            0,
+            now.plusMinutes(10),
+            now
+        ));
+    }
+}
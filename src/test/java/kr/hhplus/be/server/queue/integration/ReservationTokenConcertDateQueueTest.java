@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "queue.activation.interval-ms=3600000") // 스케줄러 대신 테스트가 직접 승격
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class ReservationTokenConcertDateQueueTest {
+    private static final int ACTIVE_TOKEN_LIMIT = 100;
+    private static final String SOLD_OUT_DATE = ReservationToken.queueIdOf(LocalDate.of(2025, 1, 1));
+    private static final String QUIET_DATE = ReservationToken.queueIdOf(LocalDate.of(2025, 1, 2));
+
+    @Autowired
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Autowired
+    private QueueActivationPort queueActivationPort;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void busyDateDoesNotBlockOtherDates() {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        for (int i = 0; i < ACTIVE_TOKEN_LIMIT + 50; i++) {
+            enqueue(SOLD_OUT_DATE, "busy-" + i, base.plusSeconds(i));
+        }
+
+        ReservationToken quiet = enqueue(QUIET_DATE, "quiet-user", base);
+
+        assertThat(quiet.getStatus()).isEqualTo(ReservationTokenStatus.ACTIVE);
+        assertThat(quiet.getQueueId()).isEqualTo(QUIET_DATE);
+        assertThat(reservationTokenRepository.findByToken(quiet.getToken())).isPresent();
+        assertThat(queueActivationPort.countWaiting()).isEqualTo(50);
+    }
+
+    @Test
+    void sameUserHoldsOneTokenPerDate() {
+        LocalDateTime now = LocalDateTime.now();
+        ReservationToken first = enqueue(SOLD_OUT_DATE, "user-1", now);
+        ReservationToken second = enqueue(QUIET_DATE, "user-1", now);
+
+        assertThat(first.getToken()).isNotEqualTo(second.getToken());
+        assertThat(reservationTokenRepository.findLatestByUserId(SOLD_OUT_DATE, "user-1").orElseThrow().getToken())
+            .isEqualTo(first.getToken());
+        assertThat(reservationTokenRepository.findLatestByUserId(QUIET_DATE, "user-1").orElseThrow().getToken())
+            .isEqualTo(second.getToken());
+    }
+
+    @Test
+    void promotesOnlyWithinEachDate() {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        List<ReservationToken> active = new ArrayList<>();
+        for (int i = 0; i < ACTIVE_TOKEN_LIMIT + 10; i++) {
+            ReservationToken token = enqueue(SOLD_OUT_DATE, "busy-" + i, base.plusSeconds(i));
+            if (token.getStatus() == ReservationTokenStatus.ACTIVE) {
+                active.add(token);
+            }
+        }
+        enqueue(QUIET_DATE, "quiet-user", base);
+
+        // 한 명이 나가면 그 날짜의 대기자 한 명만 입장
+        ReservationToken leaving = active.get(0);
+        leaving.complete();
+        reservationTokenRepository.save(leaving);
+
+        List<QueueActivation> activations = queueActivationPort.activateNext(500);
+
+        QueueActivation soldOut = activations.stream()
+            .filter(activation -> activation.getQueueId().equals(SOLD_OUT_DATE))
+            .findFirst()
+            .orElseThrow();
+        assertThat(soldOut.getActivatedUserIds()).containsExactly("busy-" + ACTIVE_TOKEN_LIMIT);
+        // 대기자가 없는 날짜는 승격 대상에 포함되지 않음
+        assertThat(activations).noneMatch(activation -> activation.getQueueId().equals(QUIET_DATE));
+    }
+
+    private ReservationToken enqueue(String queueId, String userId, LocalDateTime createdAt) {
+        return reservationTokenRepository.save(ReservationToken.rebuild(
+            null,
+            userId,
+            ReservationToken.scopeToken(queueId, UUID.randomUUID().toString()),
+            ReservationTokenStatus.WAITING,
+            0,
+            createdAt.plusMinutes(10),
+            createdAt
+        ));
+    }
+}
@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 대기열 길이에 따른 토큰 조회(findByToken) 지연 시간 측정
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class ReservationTokenLookupBenchmarkTest {
+    private static final int[] QUEUE_SIZES = {1_000, 10_000, 50_000};
+    private static final int WARMUP_ITERATIONS = 500;
+    private static final int MEASURE_ITERATIONS = 2_000;
+    private static final int FILL_THREADS = 32;
+
+    @Autowired
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void tokenLookupLatencyStaysFlatAsQueueGrows() throws Exception {
+        Map<Integer, long[]> latencies = new LinkedHashMap<>();
+
+        for (int queueSize : QUEUE_SIZES) {
+            redisConnectionFactory.getConnection().flushAll();
+            String tailToken = fillWaitingQueue(queueSize);
+
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                reservationTokenRepository.findByToken(tailToken);
+            }
+
+            long[] samples = new long[MEASURE_ITERATIONS];
+            for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                var found = reservationTokenRepository.findByToken(tailToken);
+                samples[i] = System.nanoTime() - start;
+                assertThat(found).isPresent();
+            }
+            Arrays.sort(samples);
+            latencies.put(queueSize, samples);
+
+            System.out.printf(
+                "[benchmark] queueSize=%d p50=%dus p99=%dus%n",
+                queueSize,
+                percentile(samples, 50) / 1_000,
+                percentile(samples, 99) / 1_000
+            );
+        }
+
+        long smallestP50 = percentile(latencies.get(QUEUE_SIZES[0]), 50);
+        long largestP50 = percentile(latencies.get(QUEUE_SIZES[QUEUE_SIZES.length - 1]), 50);
+
+        // 대기열이 50배 커져도 조회 지연은 거의 일정해야 함 (네트워크 지터 허용)
+        assertThat(largestP50).isLessThan(smallestP50 * 3 + TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * 대기열을 채우고 가장 마지막에 들어간 사용자의 토큰을 반환
+     */
+    private String fillWaitingQueue(int queueSize) throws Exception {
+        LocalDateTime base = LocalDateTime.now().minusMinutes(1);
+        ExecutorService executor = Executors.newFixedThreadPool(FILL_THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < queueSize; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> reservationTokenRepository.save(waitingToken(
+                "bench-user-" + index,
+                UUID.randomUUID().toString(),
+                base
+            ))));
+        }
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        String tailToken = UUID.randomUUID().toString();
+        reservationTokenRepository.save(waitingToken("bench-user-tail", tailToken, base.plusSeconds(30)));
+        return tailToken;
+    }
+
+    private ReservationToken waitingToken(String userId, String token, LocalDateTime createdAt) {
+        return ReservationToken.rebuild(
+            null,
+            userId,
+            token,
+            ReservationTokenStatus.WAITING,
+            0,
+            createdAt.plusMinutes(10),
+            createdAt
+        );
+    }
+
+    private long percentile(long[] sortedSamples, int percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sortedSamples.length) - 1;
+        return sortedSamples[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,124 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class ReservationTokenQueueConcurrencyTest {
+    private static final int ACTIVE_TOKEN_LIMIT = 100;
+
+    @Autowired
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void neverActivatesMoreThanLimitUnderConcurrentEnqueue() throws Exception {
+        int userCount = 300;
+        List<ReservationToken> saved = runConcurrently(userCount, index -> waitingToken("user-" + index));
+
+        long activeCount = saved.stream()
+            .filter(token -> token.getStatus() == ReservationTokenStatus.ACTIVE)
+            .count();
+        assertThat(activeCount).isEqualTo(ACTIVE_TOKEN_LIMIT);
+
+        long waitingCount = saved.stream()
+            .filter(token -> token.getStatus() == ReservationTokenStatus.WAITING)
+            .count();
+        assertThat(waitingCount).isEqualTo(userCount - ACTIVE_TOKEN_LIMIT);
+    }
+
+    @Test
+    void deduplicatesConcurrentEnqueueOfSameUser() throws Exception {
+        List<ReservationToken> saved = runConcurrently(20, index -> waitingToken("same-user"));
+
+        Set<String> tokens = new HashSet<>();
+        saved.forEach(token -> tokens.add(token.getToken()));
+        assertThat(tokens).hasSize(1);
+
+        String token = tokens.iterator().next();
+        assertThat(reservationTokenRepository.findByToken(token)).isPresent();
+    }
+
+    private List<ReservationToken> runConcurrently(int threadCount, TokenFactory factory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ReservationToken>> results = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return reservationTokenRepository.save(factory.create(index));
+            }));
+        }
+
+        ready.await(5, TimeUnit.SECONDS);
+        start.countDown();
+
+        List<ReservationToken> saved = new ArrayList<>();
+        for (Future<ReservationToken> result : results) {
+            saved.add(result.get(10, TimeUnit.SECONDS));
+        }
+
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        return saved;
+    }
+
+    private ReservationToken waitingToken(String userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return ReservationToken.rebuild(
+            null,
+            userId,
+            UUID.randomUUID().toString(),
+            ReservationTokenStatus.WAITING,
+            0,
+            now.plusMinutes(10),
+            now
+        );
+    }
+
+    @FunctionalInterface
+    private interface TokenFactory {
+        ReservationToken create(int index);
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.queue.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.domain.ReservationToken;
+import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
+import kr.hhplus.be.server.queue.port.ReservationTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = {
+    "queue.shards=4",
+    "queue.activation.interval-ms=3600000" // 스케줄러 대신 테스트가 직접 승격
+})
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class})
+class ReservationTokenShardedQueueTest {
+    private static final int ACTIVE_TOKEN_LIMIT = 100;
+
+    @Autowired
+    private ReservationTokenRepository reservationTokenRepository;
+
+    @Autowired
+    private QueueActivationPort queueActivationPort;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @Test
+    void estimatesGlobalPositionAcrossShards() {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        // 대기자가 생길 때까지 샤드별 한도를 채움
+        for (int i = 0; i < ACTIVE_TOKEN_LIMIT; i++) {
+            enqueue("active-" + i, base);
+        }
+
+        List<ReservationToken> waiting = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            waiting.add(enqueue("waiting-" + i, base.plusSeconds(i + 1)));
+        }
+
+        // 진입 시각이 모두 다르므로 샤드를 합친 순번은 진입 순서와 같아야 함
+        int expected = 0;
+        for (ReservationToken token : waiting) {
+            if (token.getStatus() != ReservationTokenStatus.WAITING) {
+                continue;
+            }
+            expected++;
+            ReservationToken found = reservationTokenRepository.findByToken(token.getToken()).orElseThrow();
+            assertThat(found.getPosition()).isEqualTo(expected);
+        }
+        assertThat(queueActivationPort.countWaiting()).isEqualTo(expected);
+    }
+
+    @Test
+    void promotesRoundRobinWithoutExceedingTotalLimit() {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        List<ReservationToken> active = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ReservationToken token = enqueue("user-" + i, base.plusSeconds(i));
+            if (token.getStatus() == ReservationTokenStatus.ACTIVE) {
+                active.add(token);
+            }
+        }
+        assertThat(active.size()).isLessThanOrEqualTo(ACTIVE_TOKEN_LIMIT);
+
+        for (ReservationToken token : active) {
+            token.complete();
+            reservationTokenRepository.save(token);
+        }
+        QueueActivation activation = queueActivationPort.activateNext(500).get(0);
+
+        assertThat(activation.getActivatedCount()).isPositive().isLessThanOrEqualTo(ACTIVE_TOKEN_LIMIT);
+        for (String userId : activation.getActivatedUserIds()) {
+            ReservationToken token = reservationTokenRepository.findLatestByUserId(userId).orElseThrow();
+            assertThat(token.getStatus()).isEqualTo(ReservationTokenStatus.ACTIVE);
+        }
+    }
+
+    private ReservationToken enqueue(String userId, LocalDateTime createdAt) {
+        return reservationTokenRepository.save(ReservationToken.rebuild(
+            null,
+            userId,
+            UUID.randomUUID().toString(),
+            ReservationTokenStatus.WAITING,
+            0,
+            createdAt.plusMinutes(10),
+            createdAt
+        ));
+    }
+}
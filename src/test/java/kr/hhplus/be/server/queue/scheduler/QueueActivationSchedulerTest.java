@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.queue.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import kr.hhplus.be.server.lock.adapter.redis.SimpleDistributedLock;
+import kr.hhplus.be.server.queue.application.ReservationTokenService;
+import kr.hhplus.be.server.queue.domain.QueueActivation;
+import kr.hhplus.be.server.queue.port.QueueActivationPort;
+import kr.hhplus.be.server.queue.port.QueueEventPublisher;
+import kr.hhplus.be.server.reservation.port.ClockProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueueActivationSchedulerTest {
+    private static final long INTERVAL_MS = 2000;
+    private static final int BATCH_SIZE = 500;
+
+    @Mock
+    private QueueActivationPort queueActivationPort;
+
+    @Mock
+    private QueueEventPublisher queueEventPublisher;
+
+    @Mock
+    private ReservationTokenService reservationTokenService;
+
+    @Mock
+    private SimpleDistributedLock distributedLock;
+
+    @Mock
+    private ClockProvider clockProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueActivationScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new QueueActivationScheduler(
+            queueActivationPort,
+            queueEventPublisher,
+            reservationTokenService,
+            distributedLock,
+            clockProvider,
+            meterRegistry,
+            INTERVAL_MS,
+            BATCH_SIZE
+        );
+    }
+
+    @Test
+    void activatesBatchAndPublishesMetricsWhenLeader() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(distributedLock.tryLock(anyString(), eq(0L), eq(INTERVAL_MS))).thenReturn(true);
+        QueueActivation activation = new QueueActivation(Collections.nCopies(120, "user"), 125);
+        QueueActivation dated = new QueueActivation("2025-01-01", Collections.nCopies(30, "user"), 30);
+        when(queueActivationPort.activateNext(BATCH_SIZE)).thenReturn(List.of(activation, dated));
+        when(queueActivationPort.countWaiting()).thenReturn(3_000L);
+        when(queueActivationPort.findOldestWaitingSince()).thenReturn(Optional.of(now.minusSeconds(45)));
+        when(clockProvider.now()).thenReturn(now);
+
+        scheduler.activateWaitingUsers();
+
+        assertThat(meterRegistry.get("queue.activation.admitted").counter().count()).isEqualTo(150.0);
+        assertThat(meterRegistry.get("queue.waiting.size").gauge().value()).isEqualTo(3_000.0);
+        assertThat(meterRegistry.get("queue.waiting.oldest.age").gauge().value()).isEqualTo(45.0);
+        verify(queueEventPublisher).publishActivated(activation);
+        verify(queueEventPublisher).publishActivated(dated);
+        verify(reservationTokenService).scheduleExpiry(activation);
+        verify(reservationTokenService).scheduleExpiry(dated);
+    }
+
+    @Test
+    void doesNotPublishWhenNothingWasDequeued() {
+        when(distributedLock.tryLock(anyString(), eq(0L), eq(INTERVAL_MS))).thenReturn(true);
+        when(queueActivationPort.activateNext(BATCH_SIZE)).thenReturn(List.of(new QueueActivation(List.of(), 0)));
+        when(queueActivationPort.findOldestWaitingSince()).thenReturn(Optional.empty());
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        scheduler.activateWaitingUsers();
+
+        verify(queueEventPublisher, never()).publishActivated(any());
+        verify(reservationTokenService, never()).scheduleExpiry(any());
+    }
+
+    @Test
+    void skipsWhenAnotherNodeHoldsLeadership() {
+        when(distributedLock.tryLock(anyString(), eq(0L), eq(INTERVAL_MS))).thenReturn(false);
+
+        scheduler.activateWaitingUsers();
+
+        verify(queueActivationPort, never()).activateNext(anyInt());
+        assertThat(meterRegistry.get("queue.activation.admitted").counter().count()).isZero();
+    }
+
+    @Test
+    void keepsLeaseUntilNextTickInsteadOfUnlocking() {
+        when(distributedLock.tryLock(anyString(), eq(0L), eq(INTERVAL_MS))).thenReturn(true);
+        when(queueActivationPort.activateNext(BATCH_SIZE)).thenReturn(List.of(QueueActivation.empty()));
+        when(queueActivationPort.findOldestWaitingSince()).thenReturn(Optional.empty());
+        when(clockProvider.now()).thenReturn(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        scheduler.activateWaitingUsers();
+
+        verify(distributedLock, never()).unlock(anyString());
+    }
+}
@@ -0,0 +1,93 @@
+package kr.hhplus.be.server.reservation.adapter.wheel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 타이밍 휠 타이머 100만 개의 메모리/CPU 비용 측정
+ *
+ * 5~10분 뒤 마감인 타이머 TIMERS 개를 키별로 등록한 뒤, 등록/취소 시간, 타이머당 힙 사용량,
+ * 타이머를 들고 IDLE_SECONDS 초 동안 돌 때의 프로세스 CPU 사용 시간을 출력합니다.
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+class HashedTimingWheelBenchmarkTest {
+    private static final int TIMERS = 1_000_000;
+    private static final int IDLE_SECONDS = 5;
+
+    @Test
+    void millionPendingTimers() throws Exception {
+        TestClockProvider clockProvider = new TestClockProvider();
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        clockProvider.setNow(now);
+        TimingWheelDeadlineTimers timers = new TimingWheelDeadlineTimers(clockProvider, 100, 8192, 2);
+        Runnable noop = () -> { };
+
+        try {
+            long heapBefore = usedHeapAfterGc();
+
+            long scheduleStart = System.nanoTime();
+            for (int i = 0; i < TIMERS; i++) {
+                timers.schedule("reservation:hold:" + i, now.plusSeconds(300 + i % 300), noop);
+            }
+            long scheduleNanos = System.nanoTime() - scheduleStart;
+
+            // 작업자 스레드가 등록 대기열을 칸으로 옮길 때까지 대기
+            Thread.sleep(2_000);
+            long heapAfter = usedHeapAfterGc();
+
+            long cpuStart = processCpuNanos();
+            Thread.sleep(TimeUnit.SECONDS.toMillis(IDLE_SECONDS));
+            long idleCpuNanos = processCpuNanos() - cpuStart;
+
+            assertThat(timers.pending()).isEqualTo(TIMERS);
+
+            long cancelStart = System.nanoTime();
+            for (int i = 0; i < TIMERS; i++) {
+                timers.cancel("reservation:hold:" + i);
+            }
+            long cancelNanos = System.nanoTime() - cancelStart;
+
+            System.out.printf(
+                "[benchmark] timers=%d | schedule=%.0fns/op cancel=%.0fns/op"
+                    + " | heap=%dMB (%dB/timer) | idle cpu=%dms over %ds (%.2f%% of one core)%n",
+                TIMERS,
+                (double) scheduleNanos / TIMERS,
+                (double) cancelNanos / TIMERS,
+                (heapAfter - heapBefore) / (1024 * 1024),
+                (heapAfter - heapBefore) / TIMERS,
+                TimeUnit.NANOSECONDS.toMillis(idleCpuNanos),
+                IDLE_SECONDS,
+                idleCpuNanos * 100.0 / TimeUnit.SECONDS.toNanos(IDLE_SECONDS)
+            );
+
+            assertThat(timers.pending()).isZero();
+        } finally {
+            timers.shutdown();
+        }
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long processCpuNanos() {
+        var os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            return sunOs.getProcessCpuTime();
+        }
+        return 0;
+    }
+}
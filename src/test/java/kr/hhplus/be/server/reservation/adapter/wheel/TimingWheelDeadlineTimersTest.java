@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.reservation.adapter.wheel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelDeadlineTimersTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final TestClockProvider clockProvider = new TestClockProvider();
+    private TimingWheelDeadlineTimers timers;
+
+    @BeforeEach
+    void setUp() {
+        clockProvider.setNow(NOW);
+        timers = new TimingWheelDeadlineTimers(clockProvider, 10, 64, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        timers.shutdown();
+    }
+
+    @Test
+    void firesAfterDeadlineButNotBefore() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timers.schedule("hold:1", NOW.plusNanos(200_000_000), fired::countDown);
+
+        assertThat(fired.await(2, TimeUnit.SECONDS)).isTrue();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(200);
+        assertThat(timers.pending()).isZero();
+    }
+
+    @Test
+    void firesDeadlinesBeyondOneRotation() throws Exception {
+        // 10ms * 64 칸 = 한 바퀴 640ms
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timers.schedule("hold:1", NOW.plusNanos(900_000_000), fired::countDown);
+
+        assertThat(fired.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    void cancelledTimerDoesNotFire() throws Exception {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch other = new CountDownLatch(1);
+
+        timers.schedule("hold:1", NOW.plusNanos(100_000_000), () -> fired.add("hold:1"));
+        timers.schedule("hold:2", NOW.plusNanos(150_000_000), other::countDown);
+        timers.cancel("hold:1");
+
+        assertThat(other.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).isEmpty();
+        assertThat(timers.pending()).isZero();
+    }
+
+    @Test
+    void reschedulingSameKeyReplacesPreviousTimer() throws Exception {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch latest = new CountDownLatch(1);
+
+        timers.schedule("token:a", NOW.plusNanos(100_000_000), () -> fired.add("first"));
+        timers.schedule("token:a", NOW.plusNanos(200_000_000), () -> {
+            fired.add("second");
+            latest.countDown();
+        });
+
+        assertThat(latest.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly("second");
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timers.schedule("hold:1", NOW.minusMinutes(1), fired::countDown);
+
+        assertThat(fired.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
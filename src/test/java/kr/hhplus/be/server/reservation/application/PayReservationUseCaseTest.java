@@ -3,15 +3,19 @@ package kr.hhplus.be.server.reservation.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
 import kr.hhplus.be.server.concert.service.ConcertQueryService;
 import kr.hhplus.be.server.concert.service.ConcertRankingService;
-import kr.hhplus.be.server.lock.adapter.redis.SpinDistributedLock;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockHandle;
 import kr.hhplus.be.server.reservation.application.event.ReservationCompletedEvent;
 import kr.hhplus.be.server.reservation.domain.Payment;
 import kr.hhplus.be.server.reservation.domain.Reservation;
@@ -20,6 +24,7 @@ import kr.hhplus.be.server.reservation.domain.SeatStatus;
 import kr.hhplus.be.server.reservation.port.ClockProvider;
 import kr.hhplus.be.server.reservation.port.NotificationPort;
 import kr.hhplus.be.server.reservation.port.PaymentRepository;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
 import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
 import kr.hhplus.be.server.reservation.port.UserBalanceRepository;
 import kr.hhplus.be.server.reservation.port.SeatPort;
@@ -39,6 +44,9 @@ class PayReservationUseCaseTest {
     @Mock
     private SeatPort seatPort;
 
+    @Mock
+    private SeatInventoryPort seatInventory;
+
     @Mock
     private UserBalanceRepository pointPort;
 
@@ -52,7 +60,7 @@ class PayReservationUseCaseTest {
     private ClockProvider clockProvider;
 
     @Mock
-    private SpinDistributedLock distributedLock;
+    private FencedLock distributedLock;
 
     @Mock
     private ConcertQueryService concertQueryService;
@@ -82,8 +90,11 @@ class PayReservationUseCaseTest {
             payment.setId(500L);
             return payment;
         });
-        doAnswer(invocation -> invocation.getArgument(3, java.util.function.Supplier.class).get())
-            .when(distributedLock).executeWithLock(any(String.class), any(Long.class), any(Long.class), any(java.util.function.Supplier.class));
+        when(pointPort.useLockKey("user-1")).thenReturn("user:point:use:user-1");
+        doAnswer(invocation -> invocation.getArgument(3, Function.class).apply(List.of(
+            new LockHandle("reservation:pay:101", "owner", 7L),
+            new LockHandle("user:point:use:user-1", "owner", 8L)
+        ))).when(distributedLock).executeWithWatchdog(any(List.class), any(Long.class), any(Long.class), any(Function.class));
 
         Payment payment = payReservationUseCase.pay(new PayReservationCommand(101L, "user-1", 50L));
 
@@ -91,7 +102,11 @@ class PayReservationUseCaseTest {
         verify(seatPort).save(seatCaptor.capture());
         assertThat(seatCaptor.getValue().getStatus()).isEqualTo(SeatStatus.RESERVED);
         assertThat(payment.getId()).isEqualTo(500L);
-        verify(pointPort).use("user-1", 50L);
+        verify(pointPort).use("user-1", 50L, 8L);
+        verify(seatInventory).sync(seatCaptor.getValue());
+        verify(distributedLock).executeWithWatchdog(
+            eq(List.of("reservation:pay:101", "user:point:use:user-1")), any(Long.class), any(Long.class), any(Function.class));
+        verify(reservationPort).save(reservation, 7L);
         verify(notificationPort).sendReservationConfirmed(101L, "user-1", 10);
     }
 
@@ -111,8 +126,11 @@ class PayReservationUseCaseTest {
             payment.setId(500L);
             return payment;
         });
-        doAnswer(invocation -> invocation.getArgument(3, java.util.function.Supplier.class).get())
-            .when(distributedLock).executeWithLock(any(String.class), any(Long.class), any(Long.class), any(java.util.function.Supplier.class));
+        when(pointPort.useLockKey("user-1")).thenReturn("user:point:use:user-1");
+        doAnswer(invocation -> invocation.getArgument(3, Function.class).apply(List.of(
+            new LockHandle("reservation:pay:101", "owner", 7L),
+            new LockHandle("user:point:use:user-1", "owner", 8L)
+        ))).when(distributedLock).executeWithWatchdog(any(List.class), any(Long.class), any(Long.class), any(Function.class));
 
         payReservationUseCase.pay(new PayReservationCommand(101L, "user-1", 50L));
 
@@ -138,9 +156,12 @@ class PayReservationUseCaseTest {
         when(reservationPort.loadForUpdate(101L)).thenReturn(reservation);
         when(seatPort.loadForUpdate(1L)).thenReturn(seat);
         org.mockito.Mockito.doThrow(new IllegalStateException("Insufficient points."))
-            .when(pointPort).use("user-1", 50L);
-        doAnswer(invocation -> invocation.getArgument(3, java.util.function.Supplier.class).get())
-            .when(distributedLock).executeWithLock(any(String.class), any(Long.class), any(Long.class), any(java.util.function.Supplier.class));
+            .when(pointPort).use("user-1", 50L, 8L);
+        when(pointPort.useLockKey("user-1")).thenReturn("user:point:use:user-1");
+        doAnswer(invocation -> invocation.getArgument(3, Function.class).apply(List.of(
+            new LockHandle("reservation:pay:101", "owner", 7L),
+            new LockHandle("user:point:use:user-1", "owner", 8L)
+        ))).when(distributedLock).executeWithWatchdog(any(List.class), any(Long.class), any(Long.class), any(Function.class));
 
         assertThatThrownBy(() -> payReservationUseCase.pay(new PayReservationCommand(101L, "user-1", 50L)))
             .isInstanceOf(IllegalStateException.class)
@@ -3,23 +3,32 @@ package kr.hhplus.be.server.reservation.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.Function;
+import kr.hhplus.be.server.concert.service.ConcertQueryService;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.lock.domain.LockHandle;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.domain.Seat;
 import kr.hhplus.be.server.reservation.domain.SeatStatus;
 import kr.hhplus.be.server.reservation.port.ClockProvider;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
 import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
 import kr.hhplus.be.server.reservation.port.SeatPort;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 class ReserveSeatUseCaseTest {
@@ -32,15 +41,49 @@ class ReserveSeatUseCaseTest {
     @Mock
     private ClockProvider clockProvider;
 
-    @InjectMocks
+    @Mock
+    private FencedLock distributedLock;
+
+    @Mock
+    private ConcertQueryService concertQueryService;
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    @Mock
+    private HoldExpiryQueue holdExpiryQueue;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ReserveSeatUseCase reserveSeatUseCase;
 
+    @BeforeEach
+    void setUp() {
+        reserveSeatUseCase = new ReserveSeatUseCase(
+            seatPort,
+            reservationPort,
+            clockProvider,
+            distributedLock,
+            concertQueryService,
+            seatInventory,
+            seatHoldWriteBehind,
+            holdExpiryQueue,
+            transactionManager,
+            "lock"
+        );
+    }
+
     @Test
     void reservesAvailableSeat() {
         LocalDate date = LocalDate.of(2025, 1, 1);
         LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
         Seat seat = new Seat(1L, date, 10, SeatStatus.AVAILABLE, null, null, null);
 
+        givenLockAcquired();
         when(clockProvider.now()).thenReturn(now);
         when(seatPort.loadForUpdate(date, 10)).thenReturn(seat);
         when(reservationPort.save(any(Reservation.class))).thenAnswer(invocation -> {
@@ -64,6 +107,7 @@ class ReserveSeatUseCaseTest {
         LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
         Seat seat = new Seat(1L, date, 10, SeatStatus.HELD, "other-user", now.plusMinutes(1), null);
 
+        givenLockAcquired();
         when(clockProvider.now()).thenReturn(now);
         when(seatPort.loadForUpdate(date, 10)).thenReturn(seat);
 
@@ -74,7 +118,13 @@ class ReserveSeatUseCaseTest {
     @Test
     void rejectsInvalidSeatNumber() {
         assertThatThrownBy(() -> reserveSeatUseCase.reserve(
-            new ReserveSeatCommand("user-1", LocalDate.of(2025, 1, 1), 51)
+            new ReserveSeatCommand("user-1", LocalDate.of(2025, 1, 1), 0)
         )).isInstanceOf(IllegalArgumentException.class);
     }
+
+    @SuppressWarnings("unchecked")
+    private void givenLockAcquired() {
+        when(distributedLock.executeWithWatchdog(anyString(), anyLong(), anyLong(), any(Function.class)))
+            .thenAnswer(invocation -> ((Function<LockHandle, Object>) invocation.getArgument(3)).apply(null));
+    }
 }
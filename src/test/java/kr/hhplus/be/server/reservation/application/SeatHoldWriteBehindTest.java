@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.reservation.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.concert.service.ConcertQueryService;
+import kr.hhplus.be.server.reservation.domain.Reservation;
+import kr.hhplus.be.server.reservation.domain.Seat;
+import kr.hhplus.be.server.reservation.domain.SeatStatus;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldWriteBehindTest {
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime EXPIRES_AT = NOW.plusMinutes(5);
+
+    @Mock
+    private SeatPort seatPort;
+
+    @Mock
+    private SeatReservationRepository reservationPort;
+
+    @Mock
+    private SeatInventoryPort seatInventory;
+
+    @Mock
+    private ConcertQueryService concertQueryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void cancelsHoldThatWasNotPersistedInTime() throws Exception {
+        // Given: 작업자가 1번 좌석을 반영하는 동안 멈춰 있음
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch releasePersist = new CountDownLatch(1);
+        when(seatPort.holdIfAvailable(eq(DATE), eq(1), any(), any(), any())).thenAnswer(invocation -> {
+            persisting.countDown();
+            releasePersist.await();
+            return Optional.of(new Seat(1L, DATE, 1, SeatStatus.HELD, "user-1", EXPIRES_AT, null));
+        });
+        when(reservationPort.save(any(Reservation.class))).thenAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            reservation.setId(100L);
+            return reservation;
+        });
+        Seat availableSeat = new Seat(2L, DATE, 2, SeatStatus.AVAILABLE, null, null, null);
+        when(seatPort.loadAll(DATE)).thenReturn(List.of(availableSeat));
+
+        SeatHoldWriteBehind writeBehind = new SeatHoldWriteBehind(
+            seatPort,
+            reservationPort,
+            seatInventory,
+            concertQueryService,
+            transactionManager,
+            100,
+            200
+        );
+        CompletableFuture<Reservation> first = CompletableFuture.supplyAsync(
+            () -> writeBehind.submit(new ReserveSeatCommand("user-1", DATE, 1), EXPIRES_AT, NOW)
+        );
+        assertThat(persisting.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 2번 좌석 요청은 작업자가 가져가기 전에 제한 시간을 넘김
+        assertThatThrownBy(() -> writeBehind.submit(new ReserveSeatCommand("user-2", DATE, 2), EXPIRES_AT, NOW))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Seat hold was not persisted in time.");
+        releasePersist.countDown();
+
+        // Then: 이미 반영 중이던 요청은 제한 시간이 지나도 결과를 받음
+        assertThat(first.get(5, TimeUnit.SECONDS).getId()).isEqualTo(100L);
+        writeBehind.shutdown();
+
+        // 취소된 요청은 DB 에 반영되지 않고, 재고의 선점은 DB 상태로 되돌림
+        verify(seatPort, never()).holdIfAvailable(eq(DATE), eq(2), any(), any(), any());
+        verify(reservationPort, times(1)).save(any(Reservation.class));
+        verify(seatInventory).sync(availableSeat);
+    }
+}
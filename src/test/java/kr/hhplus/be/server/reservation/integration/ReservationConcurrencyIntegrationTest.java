@@ -16,12 +16,22 @@ import kr.hhplus.be.server.concert.domain.ConcertDate;
 import kr.hhplus.be.server.concert.domain.Seat;
 import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.ConcertQueryService;
+import kr.hhplus.be.server.lock.domain.FencedLock;
 import kr.hhplus.be.server.point.repository.UserPointRepository;
 import kr.hhplus.be.server.queue.adapter.jpa.ReservationTokenJpaRepository;
+import kr.hhplus.be.server.reservation.adapter.actor.SeatMapActorInventory;
 import kr.hhplus.be.server.reservation.adapter.jpa.PaymentJpaRepository;
 import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
 import kr.hhplus.be.server.reservation.application.ReserveSeatCommand;
 import kr.hhplus.be.server.reservation.application.ReserveSeatUseCase;
+import kr.hhplus.be.server.reservation.application.SeatHoldWriteBehind;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
+import kr.hhplus.be.server.reservation.scheduler.SeatInventoryReconciler;
 import kr.hhplus.be.server.support.TestClockConfiguration;
 import kr.hhplus.be.server.support.TestClockProvider;
 import org.junit.jupiter.api.AfterEach;
@@ -29,7 +39,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -59,6 +71,33 @@ class ReservationConcurrencyIntegrationTest {
     @Autowired
     private TestClockProvider testClockProvider;
 
+    @Autowired
+    private SeatPort seatPort;
+
+    @Autowired
+    private SeatReservationRepository seatReservationRepository;
+
+    @Autowired
+    private FencedLock fencedLock;
+
+    @Autowired
+    private ConcertQueryService concertQueryService;
+
+    @Autowired
+    private SeatInventoryPort seatInventory;
+
+    @Autowired
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    @Autowired
+    private HoldExpiryQueue holdExpiryQueue;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
     @AfterEach
     void tearDown() {
         paymentJpaRepository.deleteAll();
@@ -71,6 +110,37 @@ class ReservationConcurrencyIntegrationTest {
 
     @Test
     void allowsOnlyOneReservationForSameSeatConcurrently() throws Exception {
+        assertOnlyOneReservationSucceeds(reserveSeatUseCase);
+    }
+
+    @Test
+    void conditionalStrategyAllowsOnlyOneReservationForSameSeatConcurrently() throws Exception {
+        assertOnlyOneReservationSucceeds(useCase("conditional"));
+    }
+
+    @Test
+    void conditionalStrategyTakesOverExpiredHold() {
+        LocalDate concertDate = LocalDate.of(2025, 1, 1);
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
+        seatRepository.save(Seat.available(dateEntity, 10));
+        ReserveSeatUseCase useCase = useCase("conditional");
+
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 0));
+        var first = useCase.reserve(new ReserveSeatCommand("user-1", concertDate, 10));
+
+        // 임시 배정(5분) 만료 후 다른 사용자가 선점
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 6));
+        var second = useCase.reserve(new ReserveSeatCommand("user-2", concertDate, 10));
+
+        assertThat(reservationJpaRepository.findById(first.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(reservationJpaRepository.findById(second.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.HOLD);
+        Long seatId = seatRepository.findIdByDateAndSeatNumber(concertDate, 10).orElseThrow();
+        assertThat(seatRepository.findById(seatId).orElseThrow().getHoldUserId()).isEqualTo("user-2");
+    }
+
+    private void assertOnlyOneReservationSucceeds(ReserveSeatUseCase useCase) throws Exception {
         LocalDate concertDate = LocalDate.of(2025, 1, 1);
         ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
         seatRepository.save(Seat.available(dateEntity, 10));
@@ -89,7 +159,7 @@ class ReservationConcurrencyIntegrationTest {
                 ready.countDown();
                 start.await();
                 try {
-                    reserveSeatUseCase.reserve(new ReserveSeatCommand(userId, concertDate, 10));
+                    useCase.reserve(new ReserveSeatCommand(userId, concertDate, 10));
                     return true;
                 } catch (RuntimeException ex) {
                     return false;
@@ -119,4 +189,98 @@ class ReservationConcurrencyIntegrationTest {
             .orElseThrow();
         assertThat(savedSeat.getStatus()).isEqualTo(kr.hhplus.be.server.concert.domain.SeatStatus.HELD);
     }
+
+    @Test
+    void redisStrategyAllowsOnlyOneReservationForSameSeatConcurrently() throws Exception {
+        redisTemplate.delete("seat:inventory:2025-01-01");
+        assertOnlyOneReservationSucceeds(useCase("redis"));
+    }
+
+    @Test
+    void actorStrategyAllowsOnlyOneReservationForSameSeatConcurrently() throws Exception {
+        SeatMapActorInventory actorInventory = new SeatMapActorInventory(2);
+        SeatHoldWriteBehind actorWriteBehind = new SeatHoldWriteBehind(
+            seatPort,
+            seatReservationRepository,
+            actorInventory,
+            concertQueryService,
+            transactionManager,
+            100,
+            5000
+        );
+        try {
+            assertOnlyOneReservationSucceeds(new ReserveSeatUseCase(
+                seatPort,
+                seatReservationRepository,
+                testClockProvider,
+                fencedLock,
+                concertQueryService,
+                actorInventory,
+                actorWriteBehind,
+                holdExpiryQueue,
+                transactionManager,
+                "actor"
+            ));
+        } finally {
+            actorWriteBehind.shutdown();
+            actorInventory.shutdown();
+        }
+    }
+
+    @Test
+    void seatInventoryRebuildKeepsHoldsOfOtherNodes() {
+        LocalDate concertDate = LocalDate.of(2025, 1, 1);
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
+        seatRepository.save(Seat.available(dateEntity, 10));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        testClockProvider.setNow(now);
+        redisTemplate.delete("seat:inventory:2025-01-01");
+        seatInventory.load(concertDate, seatPort.loadAll(concertDate), false);
+
+        // 다른 노드가 잡고 아직 DB 에 반영하지 않은 임시 배정
+        assertThat(seatInventory.tryHold(concertDate, 10, "other-node-user", now.plusMinutes(5), now))
+            .isEqualTo(SeatInventoryPort.HoldResult.HELD);
+
+        // 롤링 재시작으로 이 노드가 다시 기동
+        new SeatInventoryReconciler(concertDateRepository, seatPort, seatInventory, testClockProvider, "redis").rebuild();
+
+        assertThat(seatInventory.tryHold(concertDate, 10, "user-1", now.plusMinutes(5), now))
+            .isEqualTo(SeatInventoryPort.HoldResult.TAKEN);
+        // 임시 배정이 만료되면 다시 잡을 수 있다
+        assertThat(seatInventory.tryHold(concertDate, 10, "user-1", now.plusMinutes(10), now.plusMinutes(5)))
+            .isEqualTo(SeatInventoryPort.HoldResult.HELD);
+    }
+
+    @Test
+    void seatInventoryRebuildLoadsOnlyMissingUpcomingDates() {
+        LocalDate pastDate = LocalDate.of(2024, 12, 31);
+        LocalDate concertDate = LocalDate.of(2025, 1, 1);
+        seatRepository.save(Seat.available(concertDateRepository.save(new ConcertDate(pastDate)), 10));
+        seatRepository.save(Seat.available(concertDateRepository.save(new ConcertDate(concertDate)), 10));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        testClockProvider.setNow(now);
+        redisTemplate.delete(List.of("seat:inventory:2024-12-31", "seat:inventory:2025-01-01"));
+
+        new SeatInventoryReconciler(concertDateRepository, seatPort, seatInventory, testClockProvider, "redis").rebuild();
+
+        // 지난 공연 날짜는 적재하지 않는다
+        assertThat(redisTemplate.hasKey("seat:inventory:2024-12-31")).isFalse();
+        assertThat(seatInventory.tryHold(concertDate, 10, "user-1", now.plusMinutes(5), now))
+            .isEqualTo(SeatInventoryPort.HoldResult.HELD);
+    }
+
+    private ReserveSeatUseCase useCase(String seatHoldStrategy) {
+        return new ReserveSeatUseCase(
+            seatPort,
+            seatReservationRepository,
+            testClockProvider,
+            fencedLock,
+            concertQueryService,
+            seatInventory,
+            seatHoldWriteBehind,
+            holdExpiryQueue,
+            transactionManager,
+            seatHoldStrategy
+        );
+    }
 }
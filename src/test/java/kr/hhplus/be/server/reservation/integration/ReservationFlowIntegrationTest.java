@@ -8,11 +8,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import kr.hhplus.be.server.TestcontainersConfiguration;
 import kr.hhplus.be.server.concert.domain.SeatStatus;
 import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
 import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.SeatProvisioningService;
 import kr.hhplus.be.server.point.repository.UserPointRepository;
 import kr.hhplus.be.server.queue.adapter.jpa.ReservationTokenJpaRepository;
 import kr.hhplus.be.server.queue.domain.ReservationTokenStatus;
@@ -22,6 +24,7 @@ import kr.hhplus.be.server.reservation.domain.ReservationStatus;
 import kr.hhplus.be.server.support.TestClockConfiguration;
 import kr.hhplus.be.server.support.TestClockProvider;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -63,6 +66,14 @@ class ReservationFlowIntegrationTest {
     @Autowired
     private ReservationTokenJpaRepository reservationTokenJpaRepository;
 
+    @Autowired
+    private SeatProvisioningService seatProvisioningService;
+
+    @BeforeEach
+    void setUp() {
+        seatProvisioningService.provision(List.of(LocalDate.of(2025, 1, 1)));
+    }
+
     @AfterEach
     void tearDown() {
         paymentJpaRepository.deleteAll();
@@ -0,0 +1,217 @@
+package kr.hhplus.be.server.reservation.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.ConcertQueryService;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.application.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.application.ReserveSeatUseCase;
+import kr.hhplus.be.server.reservation.application.SeatHoldWriteBehind;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 인기 좌석 선점 부하 테스트
+ *
+ * THREADS 명이 같은 좌석을 동시에 예약할 때, 분산 락 + 행 잠금 경로(lock),
+ * 조건부 UPDATE 경로(conditional), Redis 재고 + write-behind 경로(redis)의
+ * 전체 소요 시간과 요청별 응답 시간을 비교합니다. 모든 경로에서 정확히 한 명만 성공해야 합니다.
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class SeatHoldStrategyBenchmarkTest {
+    private static final int THREADS = 1_000;
+    private static final int SEAT_NUMBER = 10;
+
+    @Autowired
+    private SeatPort seatPort;
+
+    @Autowired
+    private SeatReservationRepository seatReservationRepository;
+
+    @Autowired
+    private FencedLock fencedLock;
+
+    @Autowired
+    private ConcertQueryService concertQueryService;
+
+    @Autowired
+    private SeatInventoryPort seatInventory;
+
+    @Autowired
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    @Autowired
+    private HoldExpiryQueue holdExpiryQueue;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        redisConnectionFactory.getConnection().flushAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationJpaRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertDateRepository.deleteAll();
+    }
+
+    @Test
+    void hotSeatStrategiesResolveContentionWithoutLockWaits() throws Exception {
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        Result lock = run(useCase("lock"), LocalDate.of(2025, 1, 1));
+        Result conditional = run(useCase("conditional"), LocalDate.of(2025, 1, 2));
+        Result redis = run(useCase("redis"), LocalDate.of(2025, 1, 3));
+
+        System.out.printf(
+            "[benchmark] threads=%d | lock: success=%d total=%dms p50=%dms p99=%dms"
+                + " | conditional: success=%d total=%dms p50=%dms p99=%dms"
+                + " | redis: success=%d total=%dms p50=%dms p99=%dms%n",
+            THREADS,
+            lock.successCount, lock.totalMs, lock.percentileMs(0.5), lock.percentileMs(0.99),
+            conditional.successCount, conditional.totalMs,
+            conditional.percentileMs(0.5), conditional.percentileMs(0.99),
+            redis.successCount, redis.totalMs, redis.percentileMs(0.5), redis.percentileMs(0.99)
+        );
+
+        assertThat(lock.successCount).isEqualTo(1);
+        assertThat(conditional.successCount).isEqualTo(1);
+        assertThat(redis.successCount).isEqualTo(1);
+        assertThat(reservationJpaRepository.count()).isEqualTo(3);
+        // 진 요청이 락을 기다리지 않으므로 전체 경합이 더 빨리 끝나야 함
+        assertThat(conditional.totalMs).isLessThan(lock.totalMs);
+        // 진 요청은 DB 에 가지 않으므로 대부분의 요청이 DB 경로보다 빨리 거절되어야 함
+        assertThat(redis.percentileMs(0.5)).isLessThanOrEqualTo(conditional.percentileMs(0.5));
+    }
+
+    private ReserveSeatUseCase useCase(String strategy) {
+        return new ReserveSeatUseCase(
+            seatPort,
+            seatReservationRepository,
+            testClockProvider,
+            fencedLock,
+            concertQueryService,
+            seatInventory,
+            seatHoldWriteBehind,
+            holdExpiryQueue,
+            transactionManager,
+            strategy
+        );
+    }
+
+    private Result run(ReserveSeatUseCase useCase, LocalDate concertDate) throws Exception {
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
+        seatRepository.save(Seat.available(dateEntity, SEAT_NUMBER));
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] latencies = new long[THREADS];
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            String userId = "user-" + i;
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    useCase.reserve(new ReserveSeatCommand(userId, concertDate, SEAT_NUMBER));
+                    return true;
+                } catch (RuntimeException ex) {
+                    return false;
+                } finally {
+                    latencies[index] = System.nanoTime() - begin;
+                }
+            }));
+        }
+
+        assertThat(ready.await(30, TimeUnit.SECONDS)).isTrue();
+        long begin = System.nanoTime();
+        start.countDown();
+
+        int successCount = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(60, TimeUnit.SECONDS)) {
+                successCount++;
+            }
+        }
+        long totalMs = (System.nanoTime() - begin) / 1_000_000;
+
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        Arrays.sort(latencies);
+        return new Result(successCount, totalMs, latencies);
+    }
+
+    private static class Result {
+        private final int successCount;
+        private final long totalMs;
+        private final long[] sortedLatencies;
+
+        private Result(int successCount, long totalMs, long[] sortedLatencies) {
+            this.successCount = successCount;
+            this.totalMs = totalMs;
+            this.sortedLatencies = sortedLatencies;
+        }
+
+        private long percentileMs(double percentile) {
+            int index = Math.min(sortedLatencies.length - 1, (int) (sortedLatencies.length * percentile));
+            return sortedLatencies[index] / 1_000_000;
+        }
+    }
+}
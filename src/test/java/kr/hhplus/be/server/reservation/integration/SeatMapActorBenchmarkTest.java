@@ -0,0 +1,232 @@
+package kr.hhplus.be.server.reservation.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.concert.service.ConcertQueryService;
+import kr.hhplus.be.server.lock.domain.FencedLock;
+import kr.hhplus.be.server.reservation.adapter.actor.SeatMapActorInventory;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.application.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.application.ReserveSeatUseCase;
+import kr.hhplus.be.server.reservation.application.SeatHoldWriteBehind;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.reservation.port.SeatInventoryPort;
+import kr.hhplus.be.server.reservation.port.SeatPort;
+import kr.hhplus.be.server.reservation.port.SeatReservationRepository;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 공연 날짜 하나의 좌석 예약 처리량 비교
+ *
+ * THREADS 명이 한 날짜의 50 석 중 임의 좌석을 ATTEMPTS 번씩 예약 시도할 때,
+ * 분산 락 경로(lock)와 날짜별 단일 작성자 액터 경로(actor)의 초당 처리 건수를 비교합니다.
+ * 두 경로 모두 좌석 수만큼만 성공해야 합니다.
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class SeatMapActorBenchmarkTest {
+    private static final int THREADS = 200;
+    private static final int ATTEMPTS = 20;
+    private static final int SEATS = 50;
+
+    @Autowired
+    private SeatPort seatPort;
+
+    @Autowired
+    private SeatReservationRepository seatReservationRepository;
+
+    @Autowired
+    private FencedLock fencedLock;
+
+    @Autowired
+    private ConcertQueryService concertQueryService;
+
+    @Autowired
+    private SeatInventoryPort seatInventory;
+
+    @Autowired
+    private SeatHoldWriteBehind seatHoldWriteBehind;
+
+    @Autowired
+    private HoldExpiryQueue holdExpiryQueue;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @AfterEach
+    void tearDown() {
+        reservationJpaRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertDateRepository.deleteAll();
+    }
+
+    @Test
+    void singleWriterActorOutperformsLockPerDate() throws Exception {
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        Result lock = run(useCase("lock", seatInventory, seatHoldWriteBehind), LocalDate.of(2025, 1, 1));
+
+        SeatMapActorInventory actorInventory = new SeatMapActorInventory(4);
+        SeatHoldWriteBehind actorWriteBehind = new SeatHoldWriteBehind(
+            seatPort,
+            seatReservationRepository,
+            actorInventory,
+            concertQueryService,
+            transactionManager,
+            100,
+            5000
+        );
+        Result actor;
+        try {
+            actor = run(useCase("actor", actorInventory, actorWriteBehind), LocalDate.of(2025, 1, 2));
+        } finally {
+            actorWriteBehind.shutdown();
+            actorInventory.shutdown();
+        }
+
+        System.out.printf(
+            "[benchmark] threads=%d attempts=%d | lock: success=%d ops/sec=%.0f | actor: success=%d ops/sec=%.0f%n",
+            THREADS,
+            THREADS * ATTEMPTS,
+            lock.successCount, lock.opsPerSecond(),
+            actor.successCount, actor.opsPerSecond()
+        );
+
+        assertThat(lock.successCount).isEqualTo(SEATS);
+        assertThat(actor.successCount).isEqualTo(SEATS);
+        assertThat(reservationJpaRepository.count()).isEqualTo(SEATS * 2);
+        // 진 요청이 락과 DB 를 거치지 않으므로 날짜당 처리량이 더 높아야 함
+        assertThat(actor.opsPerSecond()).isGreaterThan(lock.opsPerSecond());
+    }
+
+    private ReserveSeatUseCase useCase(
+        String strategy,
+        SeatInventoryPort inventory,
+        SeatHoldWriteBehind writeBehind
+    ) {
+        return new ReserveSeatUseCase(
+            seatPort,
+            seatReservationRepository,
+            testClockProvider,
+            fencedLock,
+            concertQueryService,
+            inventory,
+            writeBehind,
+            holdExpiryQueue,
+            transactionManager,
+            strategy
+        );
+    }
+
+    private Result run(ReserveSeatUseCase useCase, LocalDate concertDate) throws Exception {
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
+        List<Seat> seats = new ArrayList<>();
+        for (int number = 1; number <= SEATS; number++) {
+            seats.add(Seat.available(dateEntity, number));
+        }
+        seatRepository.saveAll(seats);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            String userId = "user-" + i;
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                int succeeded = 0;
+                for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+                    int seatNumber = ThreadLocalRandom.current().nextInt(1, SEATS + 1);
+                    try {
+                        useCase.reserve(new ReserveSeatCommand(userId, concertDate, seatNumber));
+                        succeeded++;
+                    } catch (RuntimeException ex) {
+                        // 이미 배정된 좌석
+                    }
+                }
+                return succeeded;
+            }));
+        }
+
+        assertThat(ready.await(30, TimeUnit.SECONDS)).isTrue();
+        long begin = System.nanoTime();
+        start.countDown();
+
+        int successCount = 0;
+        for (Future<Integer> result : results) {
+            successCount += result.get(120, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        // 임의 좌석 시도로 남은 빈 좌석은 채워서 성공 건수를 좌석 수로 맞춤
+        for (int number = 1; number <= SEATS; number++) {
+            try {
+                useCase.reserve(new ReserveSeatCommand("filler", concertDate, number));
+                successCount++;
+            } catch (RuntimeException ex) {
+                // 이미 배정된 좌석
+            }
+        }
+        return new Result(successCount, THREADS * ATTEMPTS, elapsedNanos);
+    }
+
+    private static class Result {
+        private final int successCount;
+        private final int attempts;
+        private final long elapsedNanos;
+
+        private Result(int successCount, int attempts, long elapsedNanos) {
+            this.successCount = successCount;
+            this.attempts = attempts;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private double opsPerSecond() {
+            return attempts * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.Seat;
+import kr.hhplus.be.server.concert.domain.SeatStatus;
+import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.application.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.application.ReserveSeatUseCase;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.HoldExpiryQueue;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class HoldExpiryWorkerTest {
+    @Autowired
+    private HoldExpiryWorker holdExpiryWorker;
+
+    @Autowired
+    private HoldExpiryQueue holdExpiryQueue;
+
+    @Autowired
+    private ReserveSeatUseCase reserveSeatUseCase;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete("reservation:hold-expiry");
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationJpaRepository.deleteAll();
+        seatRepository.deleteAll();
+        concertDateRepository.deleteAll();
+    }
+
+    @Test
+    void releasesSeatRightAfterHoldExpires() {
+        // Given: 10:00 에 임시 배정 (10:05 만료)
+        LocalDate concertDate = LocalDate.of(2025, 1, 1);
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
+        Seat seat = seatRepository.save(Seat.available(dateEntity, 10));
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 0));
+        var reservation = reserveSeatUseCase.reserve(new ReserveSeatCommand("user-1", concertDate, 10));
+
+        // 만료 전에는 꺼낼 작업이 없음
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 4, 59));
+        holdExpiryWorker.releaseDueHolds();
+        assertThat(reservationJpaRepository.findById(reservation.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.HOLD);
+
+        // When: 만료 1초 뒤 작업자 실행
+        testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 5, 1));
+        holdExpiryWorker.releaseDueHolds();
+
+        // Then: 예약은 만료되고 좌석은 바로 다시 예약 가능
+        assertThat(reservationJpaRepository.findById(reservation.getId()).orElseThrow().getStatus())
+            .isEqualTo(ReservationStatus.EXPIRED);
+        Seat released = seatRepository.findById(seat.getId()).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        assertThat(released.getHoldUserId()).isNull();
+    }
+
+    @Test
+    void concurrentClaimsNeverReturnTheSameJob() throws Exception {
+        LocalDateTime expiresAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        int jobs = 1_000;
+        for (long id = 1; id <= jobs; id++) {
+            holdExpiryQueue.schedule(id, expiresAt);
+        }
+
+        int workers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        List<Future<List<Long>>> results = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            results.add(executor.submit(() -> {
+                List<Long> claimed = new ArrayList<>();
+                List<Long> batch;
+                while (!(batch = holdExpiryQueue.claimDue(expiresAt.plusSeconds(1), 50)).isEmpty()) {
+                    claimed.addAll(batch);
+                }
+                return claimed;
+            }));
+        }
+
+        List<Long> claimed = new ArrayList<>();
+        for (Future<List<Long>> result : results) {
+            claimed.addAll(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        Set<Long> unique = new HashSet<>(claimed);
+        assertThat(claimed).hasSize(jobs);
+        assertThat(unique).hasSize(jobs);
+    }
+}
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationEntity;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class ReservationArchiveSchedulerTest {
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @BeforeEach
+    void setUp() {
+        testClockProvider.setNow(LocalDateTime.of(2025, 3, 1, 10, 0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationJpaRepository.deleteAll();
+        jdbcTemplate.update("delete from reservation_archive");
+    }
+
+    @Test
+    void movesOldTerminatedReservationsToArchive() {
+        // Given: 보관 기간(30일)이 지난 종료 예약 5건, 최근 종료 예약 1건, 진행 중인 HOLD 1건
+        LocalDateTime now = testClockProvider.now();
+        for (int i = 1; i <= 3; i++) {
+            save(ReservationStatus.EXPIRED, now.minusDays(40).plusMinutes(i));
+        }
+        for (int i = 1; i <= 2; i++) {
+            save(ReservationStatus.CONFIRMED, now.minusDays(31).plusMinutes(i));
+        }
+        ReservationEntity recent = save(ReservationStatus.EXPIRED, now.minusDays(1));
+        ReservationEntity hold = save(ReservationStatus.HOLD, now.minusDays(60));
+
+        // When: 묶음 크기 2 로 보관
+        new ReservationArchiveScheduler(
+            reservationJpaRepository,
+            testClockProvider,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            true,
+            30,
+            2
+        ).archiveTerminatedReservations();
+
+        // Then: 오래된 종료 예약만 보관 테이블로 이동
+        assertThat(reservationJpaRepository.findAll())
+            .extracting(ReservationEntity::getId)
+            .containsExactlyInAnyOrder(recent.getId(), hold.getId());
+
+        List<String> archivedStatuses = jdbcTemplate.queryForList(
+            "select status from reservation_archive order by id", String.class);
+        assertThat(archivedStatuses).containsExactly("EXPIRED", "EXPIRED", "EXPIRED", "CONFIRMED", "CONFIRMED");
+        Long archivedWithTimestamp = jdbcTemplate.queryForObject(
+            "select count(*) from reservation_archive where archived_at is not null", Long.class);
+        assertThat(archivedWithTimestamp).isEqualTo(5);
+    }
+
+    @Test
+    void doesNothingWhenDisabled() {
+        save(ReservationStatus.EXPIRED, testClockProvider.now().minusDays(40));
+
+        new ReservationArchiveScheduler(
+            reservationJpaRepository,
+            testClockProvider,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            false,
+            30,
+            2
+        ).archiveTerminatedReservations();
+
+        assertThat(reservationJpaRepository.count()).isEqualTo(1);
+    }
+
+    private ReservationEntity save(ReservationStatus status, LocalDateTime terminatedAt) {
+        return reservationJpaRepository.save(new ReservationEntity(
+            1L,
+            "user-1",
+            status,
+            terminatedAt,
+            terminatedAt.minusMinutes(5)
+        ));
+    }
+}
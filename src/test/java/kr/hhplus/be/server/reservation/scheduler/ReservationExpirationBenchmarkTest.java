@@ -0,0 +1,132 @@
+package kr.hhplus.be.server.reservation.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import kr.hhplus.be.server.TestcontainersConfiguration;
+import kr.hhplus.be.server.concert.domain.ConcertDate;
+import kr.hhplus.be.server.concert.domain.SeatStatus;
+import kr.hhplus.be.server.concert.repository.ConcertDateRepository;
+import kr.hhplus.be.server.concert.repository.SeatRepository;
+import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
+import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.support.TestClockConfiguration;
+import kr.hhplus.be.server.support.TestClockProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 만료 스케줄러 처리량 측정
+ *
+ * 만료된 HOLD 예약 HOLDS 건(좌석 HOLDS 석)을 만들어 두고 한 주기 실행 시간을 잽니다.
+ * 묶음 단위 UPDATE 로 모든 예약이 EXPIRED, 모든 좌석이 AVAILABLE 이 되어야 합니다.
+ *
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Import({TestcontainersConfiguration.class, TestClockConfiguration.class})
+class ReservationExpirationBenchmarkTest {
+    private static final int HOLDS = 100_000;
+    private static final int INSERT_CHUNK = 5_000;
+
+    @Autowired
+    private ReservationExpirationScheduler scheduler;
+
+    @Autowired
+    private ReservationJpaRepository reservationJpaRepository;
+
+    @Autowired
+    private SeatRepository seatRepository;
+
+    @Autowired
+    private ConcertDateRepository concertDateRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestClockProvider testClockProvider;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from reservation");
+        jdbcTemplate.update("delete from seat");
+        concertDateRepository.deleteAll();
+    }
+
+    @Test
+    void expiresHundredThousandHoldsInBoundedBatches() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 10, 0);
+        testClockProvider.setNow(now);
+        seedExpiredHolds(now.minusMinutes(1));
+
+        long start = System.nanoTime();
+        scheduler.expireHeldReservations();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        Long expired = jdbcTemplate.queryForObject(
+            "select count(*) from reservation where status = ?", Long.class, ReservationStatus.EXPIRED.name());
+        Long released = jdbcTemplate.queryForObject(
+            "select count(*) from seat where status = ?", Long.class, SeatStatus.AVAILABLE.name());
+
+        System.out.printf(
+            "[benchmark] expiredHolds=%d elapsed=%dms throughput=%.0f rows/sec%n",
+            HOLDS,
+            elapsedMs,
+            HOLDS * 1000.0 / Math.max(1, elapsedMs)
+        );
+
+        assertThat(expired).isEqualTo(HOLDS);
+        assertThat(released).isEqualTo(HOLDS);
+        assertThat(reservationJpaRepository.count()).isEqualTo(HOLDS);
+    }
+
+    private void seedExpiredHolds(LocalDateTime expiresAt) {
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(LocalDate.of(2025, 1, 1)));
+        Timestamp expiresAtTs = Timestamp.valueOf(expiresAt);
+        Timestamp createdAtTs = Timestamp.valueOf(expiresAt.minusMinutes(5));
+
+        for (int from = 1; from <= HOLDS; from += INSERT_CHUNK) {
+            List<Object[]> seats = new ArrayList<>(INSERT_CHUNK);
+            for (int number = from; number < from + INSERT_CHUNK && number <= HOLDS; number++) {
+                seats.add(new Object[] {
+                    dateEntity.getId(), number, SeatStatus.HELD.name(), "user-" + number, expiresAtTs
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                "insert into seat (concert_date_id, seat_number, status, hold_user_id, hold_expires_at) "
+                    + "values (?, ?, ?, ?, ?)",
+                seats
+            );
+        }
+
+        List<Long> seatIds = jdbcTemplate.queryForList(
+            "select id from seat where concert_date_id = ? order by seat_number", Long.class, dateEntity.getId());
+        for (int from = 0; from < seatIds.size(); from += INSERT_CHUNK) {
+            List<Object[]> reservations = new ArrayList<>(INSERT_CHUNK);
+            for (int i = from; i < Math.min(from + INSERT_CHUNK, seatIds.size()); i++) {
+                reservations.add(new Object[] {
+                    seatIds.get(i), "user-" + (i + 1), ReservationStatus.HOLD.name(), expiresAtTs, createdAtTs
+                });
+            }
+            jdbcTemplate.batchUpdate(
+                "insert into reservation (seat_id, user_id, status, expires_at, created_at, fencing_token) "
+                    + "values (?, ?, ?, ?, ?, 0)",
+                reservations
+            );
+        }
+        assertThat(seatRepository.count()).isEqualTo(HOLDS);
+    }
+}
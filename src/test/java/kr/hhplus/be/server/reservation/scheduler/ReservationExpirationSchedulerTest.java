@@ -2,6 +2,7 @@ package kr.hhplus.be.server.reservation.scheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -17,6 +18,7 @@ import kr.hhplus.be.server.reservation.adapter.jpa.PaymentJpaRepository;
 import kr.hhplus.be.server.reservation.adapter.jpa.ReservationEntity;
 import kr.hhplus.be.server.reservation.adapter.jpa.ReservationJpaRepository;
 import kr.hhplus.be.server.reservation.domain.ReservationStatus;
+import kr.hhplus.be.server.reservation.port.SeatPort;
 import kr.hhplus.be.server.support.TestClockConfiguration;
 import kr.hhplus.be.server.support.TestClockProvider;
 import org.junit.jupiter.api.AfterEach;
@@ -26,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -55,6 +58,12 @@ class ReservationExpirationSchedulerTest {
     @Autowired
     private TestClockProvider testClockProvider;
 
+    @Autowired
+    private SeatPort seatPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @BeforeEach
     void setUp() {
         testClockProvider.setNow(LocalDateTime.of(2025, 1, 1, 10, 0));
@@ -166,6 +175,52 @@ class ReservationExpirationSchedulerTest {
         }
     }
 
+    @Test
+    void expiresInBatchesAndSkipsSeatsHeldAgain() {
+        // Given: 만료된 예약 5건, 그중 마지막 좌석은 다른 사용자가 다시 임시 배정
+        LocalDate concertDate = LocalDate.of(2025, 1, 1);
+        ConcertDate dateEntity = concertDateRepository.save(new ConcertDate(concertDate));
+
+        int expiredCount = 5;
+        for (int i = 1; i <= expiredCount; i++) {
+            Seat seat = seatRepository.save(Seat.available(dateEntity, i));
+            seat.hold("user-" + i, testClockProvider.now().minusMinutes(1));
+            if (i == expiredCount) {
+                seat.hold("other-user", testClockProvider.now().plusMinutes(5));
+            }
+            seatRepository.save(seat);
+
+            reservationJpaRepository.save(new ReservationEntity(
+                seat.getId(),
+                "user-" + i,
+                ReservationStatus.HOLD,
+                testClockProvider.now().minusMinutes(1),
+                testClockProvider.now().minusMinutes(6)
+            ));
+        }
+
+        // When: 묶음 크기 2 로 실행 (3 묶음)
+        new ReservationExpirationScheduler(
+            reservationJpaRepository,
+            seatPort,
+            testClockProvider,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            2
+        ).expireHeldReservations();
+
+        // Then: 모든 예약이 만료되고, 다시 배정된 좌석은 그대로 유지됨
+        assertThat(reservationJpaRepository.findAll())
+            .allMatch(r -> r.getStatus() == ReservationStatus.EXPIRED);
+        for (int i = 1; i < expiredCount; i++) {
+            Seat seat = seatRepository.findForUpdateByDateAndSeatNumber(concertDate, i).orElseThrow();
+            assertThat(seat.getStatus()).isEqualTo(SeatStatus.AVAILABLE);
+        }
+        Seat heldAgain = seatRepository.findForUpdateByDateAndSeatNumber(concertDate, expiredCount).orElseThrow();
+        assertThat(heldAgain.getStatus()).isEqualTo(SeatStatus.HELD);
+        assertThat(heldAgain.getHoldUserId()).isEqualTo("other-user");
+    }
+
     @Test
     void doesNothingWhenNoExpiredReservations() {
         // Given: 만료되지 않은 예약만 존재